@@ -0,0 +1,113 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs conversions asynchronously for the {@code *Async} methods of {@link YamlWorkbookWriter} and
+ * {@link YamlWorkbookReader}.
+ * <p>
+ * Cancelling a returned future interrupts the thread running its conversion. Conversions check
+ * the interrupt status of their thread in their row and document loops via
+ * {@link #checkCancelled()}, so an abandoned conversion stops within a row instead of running to
+ * completion. Stages derived from a returned future do not propagate cancellation back to it.
+ *
+ * @author Wei-Ming Wu
+ */
+final class AsyncConversions {
+
+  /**
+   * The default executor: one virtual thread per conversion on Java 21+, otherwise a cached pool
+   * of daemon threads.
+   */
+  static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+  private AsyncConversions() {}
+
+  /**
+   * Runs a conversion on an executor.
+   *
+   * @param <T> the result type
+   * @param conversion the conversion
+   * @param executor the executor
+   * @return a future completed with the result of the conversion, which interrupts the conversion
+   *         when cancelled
+   */
+  static <T> CompletableFuture<T> supply(Supplier<T> conversion, Executor executor) {
+    var future = new ConversionFuture<T>();
+    try {
+      executor.execute(() -> future.run(conversion));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Aborts the current conversion if its thread has been interrupted, e.g. because its future was
+   * cancelled.
+   *
+   * @throws CancellationException if the current thread is interrupted
+   */
+  static void checkCancelled() {
+    if (Thread.currentThread().isInterrupted()) {
+      throw new CancellationException("Conversion cancelled");
+    }
+  }
+
+  private static Executor createDefaultExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      // Virtual threads require Java 21
+      var threadCount = new AtomicInteger();
+      return Executors.newCachedThreadPool(task -> {
+        var thread = new Thread(task, "yaml-workbook-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  private static final class ConversionFuture<T> extends CompletableFuture<T> {
+
+    private Thread worker;
+
+    private void run(Supplier<T> conversion) {
+      synchronized (this) {
+        if (isDone()) return;
+        worker = Thread.currentThread();
+      }
+      try {
+        complete(conversion.get());
+      } catch (Throwable e) {
+        completeExceptionally(e);
+      } finally {
+        synchronized (this) {
+          worker = null;
+        }
+        // Pooled threads must not carry the interrupt of a cancelled conversion to the next task
+        Thread.interrupted();
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        synchronized (this) {
+          if (worker != null) worker.interrupt();
+        }
+      }
+      return cancelled;
+    }
+
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Cooperative cancellation signal shared between a caller and the conversions of a
+ * {@link YamlWorkbookWriter} or {@link YamlWorkbookReader}.
+ * <p>
+ * Once {@link #cancel()} is called, every conversion observing this token fails with a
+ * {@link java.util.concurrent.CancellationException} at its next row or node, whichever thread it
+ * runs on. A token cannot be reset, so use a new token per cancellable unit of work.
+ *
+ * @author Wei-Ming Wu
+ */
+public final class CancellationToken {
+
+  private volatile boolean cancelled;
+
+  /**
+   * Requests cancellation of the conversions observing this token.
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Returns whether cancellation has been requested.
+   *
+   * @return true if {@link #cancel()} has been called
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+}
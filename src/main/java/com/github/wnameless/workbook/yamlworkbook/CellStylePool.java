@@ -0,0 +1,89 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.EnumMap;
+import java.util.Map;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * Shared cell styles of a workbook written by {@link YamlWorkbookWriter}.
+ * <p>
+ * Each {@link Role} is backed by exactly one {@link CellStyle} (and font), created on first use
+ * and assigned to every cell in that role. The number of styles a workbook gains is therefore
+ * bounded by the number of roles, however many cells are styled, staying far below Excel's limit
+ * of 64,000 cell styles. Instances belong to one workbook and are not thread-safe.
+ *
+ * @author Wei-Ming Wu
+ */
+final class CellStylePool {
+
+  /**
+   * The purposes cells are styled for.
+   */
+  enum Role {
+    /** Key cell of a required FORM_MODE field: bold */
+    REQUIRED_KEY,
+    /** Value cell of a required FORM_MODE field: light yellow fill */
+    REQUIRED_VALUE,
+    /** Comment cell: italic grey */
+    COMMENT
+  }
+
+  private final Workbook workbook;
+  private final Map<Role, CellStyle> styles = new EnumMap<>(Role.class);
+
+  CellStylePool(Workbook workbook) {
+    this.workbook = workbook;
+  }
+
+  Workbook getWorkbook() {
+    return workbook;
+  }
+
+  /**
+   * Applies the shared style of a role to a cell.
+   *
+   * @param cell the cell
+   * @param role the role
+   */
+  void apply(Cell cell, Role role) {
+    cell.setCellStyle(get(role));
+  }
+
+  /**
+   * Returns the shared style of a role, creating it on first use.
+   *
+   * @param role the role
+   * @return the style
+   */
+  CellStyle get(Role role) {
+    return styles.computeIfAbsent(role, this::createStyle);
+  }
+
+  private CellStyle createStyle(Role role) {
+    CellStyle style = workbook.createCellStyle();
+    switch (role) {
+      case REQUIRED_KEY -> {
+        Font font = workbook.createFont();
+        font.setBold(true);
+        style.setFont(font);
+      }
+      case REQUIRED_VALUE -> {
+        style.setFillForegroundColor(IndexedColors.LIGHT_YELLOW.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+      }
+      case COMMENT -> {
+        Font font = workbook.createFont();
+        font.setItalic(true);
+        font.setColor(IndexedColors.GREY_50_PERCENT.getIndex());
+        style.setFont(font);
+      }
+    }
+    return style;
+  }
+
+}
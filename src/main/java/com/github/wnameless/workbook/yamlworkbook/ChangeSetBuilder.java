@@ -0,0 +1,119 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.List;
+import java.util.Map;
+import com.github.wnameless.json.jsonschemadatagenerator.ObjectMapperFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.NullNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Builds JSON Patch (RFC 6902) and JSON Merge Patch (RFC 7386) change sets between original and
+ * current JSON documents.
+ *
+ * @author Wei-Ming Wu
+ */
+final class ChangeSetBuilder {
+
+  private ChangeSetBuilder() {}
+
+  /**
+   * Builds a JSON Patch that turns the array of original documents into the current documents.
+   *
+   * @param originals the original documents
+   * @param currents the current documents
+   * @return the patch operations
+   */
+  static ArrayNode jsonPatch(List<JsonNode> originals, List<JsonNode> currents) {
+    ArrayNode patch = ObjectMapperFactory.getObjectMapper().createArrayNode();
+    diffArrays(patch, "", originals, currents);
+    return patch;
+  }
+
+  /**
+   * Builds a JSON Merge Patch that turns the original document into the current document. Merge
+   * patches cannot set a value to null, so such changes are written as removals.
+   * <p>
+   * A patch that is not an object replaces its target, and {@code {}} replaces a non-object target
+   * with an empty object, so a changed non-object document is patched by its full value and an
+   * unchanged one has no patch at all.
+   *
+   * @param original the original document
+   * @param current the current document
+   * @return the merge patch, an empty object if equal objects, or null if equal non-objects
+   */
+  static JsonNode mergePatch(JsonNode original, JsonNode current) {
+    if (!(original instanceof ObjectNode) || !(current instanceof ObjectNode)) {
+      return original.equals(current) ? null : current;
+    }
+
+    ObjectNode patch = ObjectMapperFactory.getObjectMapper().createObjectNode();
+    for (Map.Entry<String, JsonNode> entry : original.properties()) {
+      JsonNode value = current.get(entry.getKey());
+      if (value == null) {
+        patch.set(entry.getKey(), NullNode.getInstance());
+      } else if (!entry.getValue().equals(value)) {
+        patch.set(entry.getKey(),
+            entry.getValue() instanceof ObjectNode && value instanceof ObjectNode
+                ? mergePatch(entry.getValue(), value)
+                : value);
+      }
+    }
+    for (Map.Entry<String, JsonNode> entry : current.properties()) {
+      if (!original.has(entry.getKey())) {
+        patch.set(entry.getKey(), entry.getValue());
+      }
+    }
+    return patch;
+  }
+
+  private static void diff(ArrayNode patch, String path, JsonNode original, JsonNode current) {
+    if (original.equals(current)) return;
+
+    if (original instanceof ObjectNode && current instanceof ObjectNode) {
+      for (Map.Entry<String, JsonNode> entry : original.properties()) {
+        String keyPath = path + "/" + escape(entry.getKey());
+        JsonNode value = current.get(entry.getKey());
+        if (value == null) {
+          patch.addObject().put("op", "remove").put("path", keyPath);
+        } else {
+          diff(patch, keyPath, entry.getValue(), value);
+        }
+      }
+      for (Map.Entry<String, JsonNode> entry : current.properties()) {
+        if (!original.has(entry.getKey())) {
+          patch.addObject().put("op", "add").put("path", path + "/" + escape(entry.getKey()))
+              .set("value", entry.getValue());
+        }
+      }
+    } else if (original instanceof ArrayNode originalArray
+        && current instanceof ArrayNode currentArray) {
+      diffArrays(patch, path, originalArray.valueStream().toList(),
+          currentArray.valueStream().toList());
+    } else {
+      patch.addObject().put("op", "replace").put("path", path).set("value", current);
+    }
+  }
+
+  private static void diffArrays(ArrayNode patch, String path, List<JsonNode> originals,
+      List<JsonNode> currents) {
+    int shared = Math.min(originals.size(), currents.size());
+    for (int i = 0; i < shared; i++) {
+      diff(patch, path + "/" + i, originals.get(i), currents.get(i));
+    }
+    for (int i = shared; i < currents.size(); i++) {
+      patch.addObject().put("op", "add").put("path", path + "/" + i).set("value",
+          currents.get(i));
+    }
+    // Removed from the end, so the indices of earlier operations stay valid
+    for (int i = originals.size() - 1; i >= shared; i--) {
+      patch.addObject().put("op", "remove").put("path", path + "/" + i);
+    }
+  }
+
+  private static String escape(String key) {
+    return key.replace("~", "~0").replace("/", "~1");
+  }
+
+}
@@ -0,0 +1,25 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Defines how {@link YamlWorkbookReader#toChangeSet} writes the edits made to a workbook relative
+ * to the documents originally written into it.
+ *
+ * @author Wei-Ming Wu
+ */
+public enum ChangeSetFormat {
+
+  /**
+   * A single RFC 6902 JSON Patch against the JSON array of all documents, as written by
+   * {@link JsonOutputFormat#ARRAY}; paths start with the document index, e.g.
+   * {@code /0/server/port}
+   */
+  JSON_PATCH,
+
+  /**
+   * A YAML stream with one RFC 7386 merge patch per document: {@code {}} for an unchanged mapping,
+   * {@code null} for a removed key, and replaced values otherwise. Documents that are not mappings
+   * are written in full, which leaves an unchanged one as it is
+   */
+  YAML_OVERLAY
+
+}
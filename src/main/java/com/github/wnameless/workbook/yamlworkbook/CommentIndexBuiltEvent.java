@@ -0,0 +1,26 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when a reader has indexed the cell comments of a sheet.
+ *
+ * @author Wei-Ming Wu
+ */
+@Name("com.github.wnameless.workbook.yamlworkbook.CommentIndexBuilt")
+@Label("Comment Index Built")
+@Category("YAML Workbook")
+@Description("Cell comments of a sheet were indexed by YamlWorkbookReader")
+final class CommentIndexBuiltEvent extends Event {
+
+  @Label("Sheet Name")
+  String sheetName;
+
+  @Label("Comments")
+  int comments;
+
+}
@@ -0,0 +1,179 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellReference;
+
+/**
+ * Enforces the {@link ConversionLimits} and {@link CancellationToken} of a single conversion.
+ * <p>
+ * Counters are plain fields compared against their limits, so checks are cheap enough for the row
+ * and node loops of the writer and reader. The row and column last reported through
+ * {@link #row(Row)} or {@link #at(Row, int)} locate a crossed limit. Cells are counted once a row
+ * is complete, i.e. when the next row starts or {@link #countPendingCells()} is called.
+ *
+ * @author Wei-Ming Wu
+ */
+final class ConversionGuard {
+
+  private final ConversionLimits limits;
+  private final CancellationToken cancellationToken;
+  private final Duration timeout;
+  private final long deadline;
+
+  private long rows;
+  private long cells;
+  private long comments;
+  private int documents;
+  private int documentIndex = -1;
+  private Row pendingRow;
+  private Row row;
+  private int column;
+
+  ConversionGuard(ConversionLimits limits, CancellationToken cancellationToken) {
+    this.limits = limits == null ? ConversionLimits.NONE : limits;
+    this.cancellationToken = cancellationToken;
+    timeout = this.limits.getTimeout();
+    deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+  }
+
+  /**
+   * Aborts the conversion if it was cancelled or its timeout elapsed.
+   *
+   * @throws CancellationException if the token was cancelled or the thread interrupted
+   * @throws ConversionLimitException if the timeout elapsed
+   */
+  void checkpoint() {
+    AsyncConversions.checkCancelled();
+    if (cancellationToken != null && cancellationToken.isCancelled()) {
+      throw new CancellationException("Conversion cancelled");
+    }
+    if (timeout != null && System.nanoTime() - deadline > 0) {
+      throw exceeded(ConversionLimit.TIMEOUT, timeout.toMillis());
+    }
+  }
+
+  /**
+   * Counts a row written or read, after counting the cells of the previous row.
+   *
+   * @param row the row, which becomes the reported location
+   */
+  void row(Row row) {
+    countPendingCells();
+    pendingRow = row;
+    at(row, 0);
+    checkpoint();
+    if (++rows > limits.getMaxRows()) {
+      throw exceeded(ConversionLimit.ROWS, limits.getMaxRows());
+    }
+  }
+
+  /**
+   * Counts the cells of the last row passed to {@link #row(Row)}, once it is complete.
+   */
+  void countPendingCells() {
+    if (pendingRow == null) return;
+    Row completed = pendingRow;
+    pendingRow = null;
+    cells += completed.getPhysicalNumberOfCells();
+    if (cells > limits.getMaxCells()) {
+      at(completed, 0);
+      throw exceeded(ConversionLimit.CELLS, limits.getMaxCells());
+    }
+  }
+
+  /**
+   * Starts counting a new document.
+   */
+  void document() {
+    checkpoint();
+    documentIndex = documents;
+    if (++documents > limits.getMaxDocuments()) {
+      throw exceeded(ConversionLimit.DOCUMENTS, limits.getMaxDocuments());
+    }
+  }
+
+  /**
+   * Resumes a document already counted by {@link #document()}, e.g. when a scanned document is
+   * reconstructed.
+   *
+   * @param index the 0-based index of the document
+   */
+  void document(int index) {
+    documentIndex = index;
+    checkpoint();
+  }
+
+  /**
+   * Sets the reported location without counting anything.
+   *
+   * @param row the row being processed
+   * @param column the 0-based column being processed
+   */
+  void at(Row row, int column) {
+    this.row = row;
+    this.column = column;
+  }
+
+  /**
+   * Checks the nesting depth of the node or row being processed.
+   *
+   * @param depth the depth, where top-level entries are at depth 0
+   */
+  void depth(int depth) {
+    if (depth > limits.getMaxDepth()) {
+      throw exceeded(ConversionLimit.DEPTH, limits.getMaxDepth());
+    }
+  }
+
+  /**
+   * Checks the length of a scalar value written or read.
+   *
+   * @param value the value, may be null
+   */
+  void scalar(String value) {
+    if (value != null && value.length() > limits.getMaxScalarLength()) {
+      throw exceeded(ConversionLimit.SCALAR_LENGTH, limits.getMaxScalarLength());
+    }
+  }
+
+  /**
+   * Checks the aliases of mappings and sequences resolved so far in the current document.
+   *
+   * @param count the aliases resolved
+   */
+  void aliases(int count) {
+    if (count > limits.getMaxAliasesForCollections()) {
+      throw exceeded(ConversionLimit.ALIASES, limits.getMaxAliasesForCollections());
+    }
+  }
+
+  /**
+   * Checks the bytes read so far of an embedded source manifest.
+   *
+   * @param bytes the bytes read
+   */
+  void embeddedSource(long bytes) {
+    if (bytes > limits.getMaxEmbeddedSourceSize()) {
+      throw exceeded(ConversionLimit.EMBEDDED_SOURCE_SIZE, limits.getMaxEmbeddedSourceSize());
+    }
+  }
+
+  /**
+   * Counts a comment line or cell comment.
+   */
+  void comment() {
+    if (++comments > limits.getMaxComments()) {
+      throw exceeded(ConversionLimit.COMMENTS, limits.getMaxComments());
+    }
+  }
+
+  private ConversionLimitException exceeded(ConversionLimit limit, long threshold) {
+    String location = row == null ? null
+        : new CellReference(row.getSheet().getSheetName(), row.getRowNum(), column, false, false)
+            .formatAsString();
+    return new ConversionLimitException(limit, threshold, location, documentIndex);
+  }
+
+}
@@ -0,0 +1,38 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Resource limits of a conversion, as configured by {@link ConversionLimits} and reported by a
+ * {@link ConversionLimitException}.
+ *
+ * @author Wei-Ming Wu
+ */
+public enum ConversionLimit {
+
+  /** Rows written or read, across all sheets */
+  ROWS,
+
+  /** Cells written or read, across all sheets */
+  CELLS,
+
+  /** Nesting depth of mappings and sequences */
+  DEPTH,
+
+  /** Characters of a single scalar value */
+  SCALAR_LENGTH,
+
+  /** Comment lines and cell comments */
+  COMMENTS,
+
+  /** YAML documents */
+  DOCUMENTS,
+
+  /** Wall-clock time since the conversion started */
+  TIMEOUT,
+
+  /** Aliases of mappings and sequences within a document, which expand exponentially */
+  ALIASES,
+
+  /** Decompressed bytes of the source manifest embedded in a workbook (reader) */
+  EMBEDDED_SOURCE_SIZE
+
+}
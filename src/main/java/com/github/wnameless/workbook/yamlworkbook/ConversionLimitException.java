@@ -0,0 +1,87 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Thrown by {@link YamlWorkbookWriter} and {@link YamlWorkbookReader} when a conversion crosses
+ * one of its {@link ConversionLimits}.
+ *
+ * @author Wei-Ming Wu
+ */
+public class ConversionLimitException extends IllegalStateException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final ConversionLimit limit;
+  private final long threshold;
+  private final String location;
+  private final int documentIndex;
+
+  /**
+   * Creates an exception for the given limit.
+   *
+   * @param limit the limit that was crossed
+   * @param threshold the configured value of the limit, in milliseconds for
+   *        {@link ConversionLimit#TIMEOUT}
+   * @param location the cell reference of the row being processed, e.g. {@code Sheet1!A12}, or
+   *        null if no row was processed yet
+   * @param documentIndex the 0-based index of the document being processed, or -1 if none
+   */
+  public ConversionLimitException(ConversionLimit limit, long threshold, String location,
+      int documentIndex) {
+    super(buildMessage(limit, threshold, location, documentIndex));
+    this.limit = limit;
+    this.threshold = threshold;
+    this.location = location;
+    this.documentIndex = documentIndex;
+  }
+
+  /**
+   * Returns the limit that was crossed.
+   *
+   * @return the limit
+   */
+  public ConversionLimit getLimit() {
+    return limit;
+  }
+
+  /**
+   * Returns the configured value of the limit, in milliseconds for {@link ConversionLimit#TIMEOUT}.
+   *
+   * @return the threshold
+   */
+  public long getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * Returns the cell reference of the row being processed when the limit was crossed, e.g.
+   * {@code Sheet1!A12}.
+   *
+   * @return the location, or null if no row was processed yet
+   */
+  public String getLocation() {
+    return location;
+  }
+
+  /**
+   * Returns the 0-based index of the document being processed when the limit was crossed.
+   *
+   * @return the document index, or -1 if no document was started yet
+   */
+  public int getDocumentIndex() {
+    return documentIndex;
+  }
+
+  private static String buildMessage(ConversionLimit limit, long threshold, String location,
+      int documentIndex) {
+    String message = "Conversion exceeded " + limit + " limit of " + threshold
+        + (limit == ConversionLimit.TIMEOUT ? " ms" : "");
+    if (location != null) {
+      message += " at " + location;
+    }
+    if (documentIndex >= 0) {
+      message += " (document " + documentIndex + ")";
+    }
+    return message;
+  }
+
+}
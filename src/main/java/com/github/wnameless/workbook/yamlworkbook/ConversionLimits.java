@@ -0,0 +1,68 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resource limits applied to each conversion of a {@link YamlWorkbookWriter} or
+ * {@link YamlWorkbookReader}.
+ * <p>
+ * Limits are checked as rows, cells and nodes are processed, so an oversized or malformed input
+ * fails with a {@link ConversionLimitException} as soon as it crosses a limit instead of running to
+ * completion. All limits except {@link #getMaxAliasesForCollections()} and
+ * {@link #getMaxEmbeddedSourceSize()} are unlimited by default.
+ *
+ * @author Wei-Ming Wu
+ */
+@Getter
+@Builder
+@ToString
+public class ConversionLimits {
+
+  public static final ConversionLimits NONE = ConversionLimits.builder().build();
+
+  /** Maximum rows written or read, across all sheets and continuation sheets */
+  @Builder.Default
+  private long maxRows = Long.MAX_VALUE;
+
+  /** Maximum cells written or read, across all sheets */
+  @Builder.Default
+  private long maxCells = Long.MAX_VALUE;
+
+  /** Maximum nesting depth of mappings and sequences, where top-level entries are at depth 0 */
+  @Builder.Default
+  private int maxDepth = Integer.MAX_VALUE;
+
+  /** Maximum characters of a single scalar value */
+  @Builder.Default
+  private int maxScalarLength = Integer.MAX_VALUE;
+
+  /** Maximum comment lines and cell comments */
+  @Builder.Default
+  private long maxComments = Long.MAX_VALUE;
+
+  /** Maximum YAML documents */
+  @Builder.Default
+  private int maxDocuments = Integer.MAX_VALUE;
+
+  /** Optional: wall-clock time a conversion may take, measured from its start */
+  private Duration timeout;
+
+  /**
+   * Maximum aliases of mappings and sequences per document, as SnakeYAML's
+   * {@code maxAliasesForCollections}. Every alias can double what JSON, diff and validation walks
+   * expand, so this limit is finite by default even though alias cells are not expanded.
+   */
+  @Builder.Default
+  private int maxAliasesForCollections = 50;
+
+  /**
+   * Maximum bytes of the source manifest embedded in a workbook, both as stored and decompressed.
+   * The manifest comes from the uploaded file, so this limit is finite by default.
+   */
+  @Builder.Default
+  private long maxEmbeddedSourceSize = 64L * 1024 * 1024;
+
+}
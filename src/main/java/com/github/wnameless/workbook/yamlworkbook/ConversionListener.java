@@ -0,0 +1,43 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Receives instrumentation events from {@link YamlWorkbookWriter} and {@link YamlWorkbookReader}.
+ * <p>
+ * All methods have empty default implementations, so listeners only override what they need. When
+ * the configured listener is {@link #NOOP} (the default), no timings or counters are collected at
+ * all. Events are delivered on the converting thread.
+ *
+ * @author Wei-Ming Wu
+ * @see ConversionStatsRecorder
+ */
+public interface ConversionListener {
+
+  /** Listener that ignores all events and disables metric collection. */
+  ConversionListener NOOP = new ConversionListener() {};
+
+  /**
+   * Called after each document has been written or reconstructed.
+   *
+   * @param documentIndex the 0-based index of the document within this conversion
+   * @param rowCount the number of rows of the document
+   * @param cellCount the number of non-empty cells of the document
+   */
+  default void documentConverted(int documentIndex, int rowCount, long cellCount) {}
+
+  /**
+   * Called once per phase at the end of a conversion with the total time spent in that phase.
+   * Phases that did not occur are not reported.
+   *
+   * @param phase the conversion phase
+   * @param nanos the total duration in nanoseconds
+   */
+  default void phaseCompleted(ConversionPhase phase, long nanos) {}
+
+  /**
+   * Called at the end of a conversion with its summary.
+   *
+   * @param stats the conversion summary
+   */
+  default void conversionCompleted(ConversionStats stats) {}
+
+}
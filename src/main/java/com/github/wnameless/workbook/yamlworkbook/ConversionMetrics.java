@@ -0,0 +1,131 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mutable per-conversion collector behind {@link ConversionListener}.
+ * <p>
+ * Every method returns immediately when the listener is {@link ConversionListener#NOOP}, so
+ * instrumentation costs a single branch per call site when disabled.
+ *
+ * @author Wei-Ming Wu
+ */
+final class ConversionMetrics {
+
+  private final long[] phaseNanos = new long[ConversionPhase.values().length];
+  private final List<Integer> documentRowCounts = new ArrayList<>();
+  private ConversionListener listener = ConversionListener.NOOP;
+  private boolean enabled;
+  private long nestedNanos;
+  private int documents;
+  private long rows;
+  private long cells;
+  private long comments;
+  private long validations;
+  private int hiddenSheets;
+  private long bytesWritten;
+
+  static ConversionMetrics of(ConversionListener listener) {
+    var metrics = new ConversionMetrics();
+    metrics.reset(listener);
+    return metrics;
+  }
+
+  void reset(ConversionListener listener) {
+    this.listener = listener == null ? ConversionListener.NOOP : listener;
+    enabled = this.listener != ConversionListener.NOOP;
+    Arrays.fill(phaseNanos, 0L);
+    documentRowCounts.clear();
+    nestedNanos = 0;
+    documents = 0;
+    rows = 0;
+    cells = 0;
+    comments = 0;
+    validations = 0;
+    hiddenSheets = 0;
+    bytesWritten = 0;
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  long begin() {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  void end(ConversionPhase phase, long begin) {
+    if (!enabled) return;
+    long elapsed = System.nanoTime() - begin;
+    phaseNanos[phase.ordinal()] += elapsed;
+    nestedNanos += elapsed;
+  }
+
+  long nestedMark() {
+    return nestedNanos;
+  }
+
+  void endExcludingNested(ConversionPhase phase, long begin, long nestedMark) {
+    if (!enabled) return;
+    long elapsed = System.nanoTime() - begin;
+    phaseNanos[phase.ordinal()] += elapsed - (nestedNanos - nestedMark);
+  }
+
+  void rowCreated() {
+    if (enabled) rows++;
+  }
+
+  void rowsRead(int count) {
+    if (enabled) rows += count;
+  }
+
+  long getRows() {
+    return rows;
+  }
+
+  void commentCreated() {
+    if (enabled) comments++;
+  }
+
+  void validationCreated() {
+    if (enabled) validations++;
+  }
+
+  void hiddenSheetCreated() {
+    if (enabled) hiddenSheets++;
+  }
+
+  void bytesWritten(long count) {
+    if (enabled) bytesWritten += count;
+  }
+
+  void documentConverted(int rowCount, long cellCount) {
+    if (!enabled) return;
+    cells += cellCount;
+    documentRowCounts.add(rowCount);
+    listener.documentConverted(documents++, rowCount, cellCount);
+  }
+
+  ConversionStats complete() {
+    if (!enabled) return null;
+    Map<ConversionPhase, Long> phases = new EnumMap<>(ConversionPhase.class);
+    for (ConversionPhase phase : ConversionPhase.values()) {
+      if (phaseNanos[phase.ordinal()] > 0) {
+        phases.put(phase, phaseNanos[phase.ordinal()]);
+        listener.phaseCompleted(phase, phaseNanos[phase.ordinal()]);
+      }
+    }
+    ConversionStats stats = ConversionStats.builder().phaseNanos(Collections.unmodifiableMap(phases))
+        .documents(documents).rows(rows).cells(cells).comments(comments).validations(validations)
+        .hiddenSheets(hiddenSheets).bytesWritten(bytesWritten)
+        .documentRowCounts(List.copyOf(documentRowCounts)).build();
+    listener.conversionCompleted(stats);
+    return stats;
+  }
+
+}
@@ -0,0 +1,37 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Phases of a YAML/workbook conversion reported to a {@link ConversionListener}.
+ * <p>
+ * Phases are exclusive: time spent creating cell comments and validations while traversing is
+ * reported under {@link #COMMENTS} and {@link #VALIDATIONS}, not {@link #TRAVERSAL}.
+ *
+ * @author Wei-Ming Wu
+ */
+public enum ConversionPhase {
+
+  /** Parsing YAML text, representing objects or generating the FORM_MODE skeleton (writer) */
+  PARSE,
+
+  /** Walking Node trees and creating rows and cells (writer) */
+  TRAVERSAL,
+
+  /** Creating cell comments (writer) */
+  COMMENTS,
+
+  /** Creating dropdown validations, named ranges and hidden sheets (writer) */
+  VALIDATIONS,
+
+  /** Scanning sheets and splitting rows into documents (reader) */
+  ROW_SCAN,
+
+  /** Rebuilding Node trees from rows (reader) */
+  RECONSTRUCTION,
+
+  /** Constructing Java objects from reconstructed Node trees (reader) */
+  BINDING,
+
+  /** Writing output bytes, e.g. workbook files or JSON */
+  SERIALIZATION
+
+}
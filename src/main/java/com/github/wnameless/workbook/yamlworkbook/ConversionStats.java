@@ -0,0 +1,66 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable summary of a single conversion, delivered to
+ * {@link ConversionListener#conversionCompleted(ConversionStats)}.
+ *
+ * @author Wei-Ming Wu
+ */
+@Getter
+@Builder
+@ToString
+public class ConversionStats {
+
+  /** Total nanoseconds per phase; phases that did not occur are absent */
+  private final Map<ConversionPhase, Long> phaseNanos;
+
+  /** Number of documents written or reconstructed */
+  private final int documents;
+
+  /** Number of rows written or read */
+  private final long rows;
+
+  /** Number of non-empty cells written or read */
+  private final long cells;
+
+  /** Number of cell comments created */
+  private final long comments;
+
+  /** Number of data validations created */
+  private final long validations;
+
+  /** Number of hidden sheets created */
+  private final int hiddenSheets;
+
+  /** Number of bytes written to an output stream; the writer reports them from write() alone */
+  private final long bytesWritten;
+
+  /** Row count of each document, in conversion order */
+  private final List<Integer> documentRowCounts;
+
+  /**
+   * Returns the total time spent in the given phase.
+   *
+   * @param phase the conversion phase
+   * @return the duration in nanoseconds, or 0 if the phase did not occur
+   */
+  public long getPhaseNanos(ConversionPhase phase) {
+    return phaseNanos.getOrDefault(phase, 0L);
+  }
+
+  /**
+   * Returns the total time spent in all phases.
+   *
+   * @return the duration in nanoseconds
+   */
+  public long getTotalNanos() {
+    return phaseNanos.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+}
@@ -0,0 +1,35 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * {@link ConversionListener} that keeps the summary of the most recent conversion.
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * ConversionStatsRecorder recorder = new ConversionStatsRecorder();
+ * YamlWorkbookWriter writer = YamlWorkbook.writerBuilder().conversionListener(recorder).build();
+ * Workbook workbook = writer.toWorkbook(yamlReader);
+ * ConversionStats stats = recorder.getLastStats();
+ * }</pre>
+ *
+ * @author Wei-Ming Wu
+ */
+public class ConversionStatsRecorder implements ConversionListener {
+
+  private volatile ConversionStats lastStats;
+
+  @Override
+  public void conversionCompleted(ConversionStats stats) {
+    lastStats = stats;
+  }
+
+  /**
+   * Returns the summary of the most recently completed conversion.
+   *
+   * @return the last conversion stats, or null if no conversion has completed yet
+   */
+  public ConversionStats getLastStats() {
+    return lastStats;
+  }
+
+}
@@ -0,0 +1,41 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * OutputStream wrapper that counts written bytes and never closes the underlying stream.
+ *
+ * @author Wei-Ming Wu
+ */
+final class CountingOutputStream extends FilterOutputStream {
+
+  private long count;
+
+  CountingOutputStream(OutputStream out) {
+    super(out);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    out.write(b);
+    count++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+    count += len;
+  }
+
+  @Override
+  public void close() throws IOException {
+    flush();
+  }
+
+  long getCount() {
+    return count;
+  }
+
+}
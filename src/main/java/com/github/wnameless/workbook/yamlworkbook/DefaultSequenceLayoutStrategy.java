@@ -0,0 +1,18 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+/**
+ * Default implementation of {@link SequenceLayoutStrategy} that always uses
+ * {@link SequenceLayout#ITEMS}.
+ *
+ * @author Wei-Ming Wu
+ */
+public final class DefaultSequenceLayoutStrategy implements SequenceLayoutStrategy {
+
+  @Override
+  public SequenceLayout apply(String path, SequenceNode node) {
+    return SequenceLayout.ITEMS;
+  }
+
+}
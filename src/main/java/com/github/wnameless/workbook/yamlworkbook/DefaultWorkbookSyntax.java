@@ -15,5 +15,12 @@ public final class DefaultWorkbookSyntax implements WorkbookSyntax {
   public final String escapeMark = "\\";
   public final String itemMark = "-";
   public final Short indentCellCount = 1;
+  public final String tableMark = "|";
+  public final String compactMark = "[]";
+  public final String pathSeparator = ".";
+  public final String pathIndexStart = "[";
+  public final String pathIndexEnd = "]";
+  public final String anchorMark = "&";
+  public final String aliasMark = "*";
 
 }
@@ -0,0 +1,19 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Defines the kind of a {@link NodeDifference} between two versions of a YAML document.
+ *
+ * @author Wei-Ming Wu
+ */
+public enum DifferenceType {
+
+  /** The path exists only in the new version */
+  ADDED,
+
+  /** The path exists only in the old version */
+  REMOVED,
+
+  /** The path exists in both versions with a different scalar value or node kind */
+  CHANGED
+
+}
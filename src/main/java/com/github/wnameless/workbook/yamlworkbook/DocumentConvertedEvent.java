@@ -0,0 +1,36 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when a YAML document has been written to or reconstructed from a sheet.
+ *
+ * @author Wei-Ming Wu
+ */
+@Name("com.github.wnameless.workbook.yamlworkbook.DocumentConverted")
+@Label("Document Converted")
+@Category("YAML Workbook")
+@Description("A YAML document was written to or reconstructed from a sheet")
+final class DocumentConvertedEvent extends Event {
+
+  @Label("Direction")
+  @Description("write (YAML to workbook) or read (workbook to YAML)")
+  String direction;
+
+  @Label("Document Index")
+  int documentIndex;
+
+  @Label("Sheet Name")
+  String sheetName;
+
+  @Label("Rows")
+  int rows;
+
+  @Label("Cells")
+  long cells;
+
+}
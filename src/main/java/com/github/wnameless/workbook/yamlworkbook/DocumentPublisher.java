@@ -0,0 +1,97 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.yaml.snakeyaml.nodes.Node;
+
+/**
+ * A cold {@link Flow.Publisher} of the documents of a workbook, created by
+ * {@link YamlWorkbookReader#toPublisher(org.apache.poi.ss.usermodel.Workbook)}.
+ * <p>
+ * Every subscriber reads the workbook from the start. Documents are reconstructed on the reader's
+ * executor only when the subscriber has requested them, so at most the outstanding demand is
+ * reconstructed ahead of the subscriber.
+ *
+ * @author Wei-Ming Wu
+ */
+final class DocumentPublisher implements Flow.Publisher<Node> {
+
+  private final Supplier<Iterator<Node>> documents;
+  private final Executor executor;
+
+  DocumentPublisher(Supplier<Iterator<Node>> documents, Executor executor) {
+    this.documents = documents;
+    this.executor = executor;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super Node> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    var subscription = new DocumentSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+  }
+
+  private final class DocumentSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super Node> subscriber;
+    private final AtomicLong demand = new AtomicLong();
+    private volatile boolean cancelled;
+    private Iterator<Node> iterator;
+
+    private DocumentSubscription(Flow.Subscriber<? super Node> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (cancelled) return;
+      if (n <= 0) {
+        cancelled = true;
+        subscriber.onError(new IllegalArgumentException("Requested " + n + " documents"));
+        return;
+      }
+      long previous = demand.getAndAccumulate(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+      if (previous == 0) {
+        executor.execute(this::drain);
+      }
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    // Only one drain runs at a time: a new one starts only when demand rises from zero
+    private void drain() {
+      try {
+        if (iterator == null) iterator = documents.get();
+        while (true) {
+          long requested = demand.get();
+          long emitted = 0;
+          while (emitted != requested) {
+            if (cancelled) return;
+            if (!iterator.hasNext()) {
+              cancelled = true;
+              subscriber.onComplete();
+              return;
+            }
+            subscriber.onNext(iterator.next());
+            emitted++;
+          }
+          if (demand.addAndGet(-emitted) == 0) return;
+        }
+      } catch (Throwable e) {
+        if (!cancelled) {
+          cancelled = true;
+          subscriber.onError(e);
+        }
+      }
+    }
+
+  }
+
+}
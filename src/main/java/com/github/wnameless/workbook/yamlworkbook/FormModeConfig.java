@@ -26,6 +26,14 @@ public class FormModeConfig {
   @Builder.Default
   private boolean highlightRequired = false;
 
+  /**
+   * Number of item blocks rendered per array, bounded by the array's {@code maxItems}. Items beyond
+   * the generated skeleton are blank copies of its first item, and each dropdown column shares a
+   * single validation across all copies.
+   */
+  @Builder.Default
+  private int arrayItemCount = 1;
+
   /**
    * When true, enum dropdowns exceeding 256 characters will write values to a hidden sheet and use
    * named ranges (bypasses POI's 256 char limit). When false, dropdowns are truncated with a
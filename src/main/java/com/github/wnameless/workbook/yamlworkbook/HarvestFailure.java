@@ -0,0 +1,24 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.nio.file.Path;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A workbook a {@link WorkbookHarvester} could not read; none of its documents are written.
+ *
+ * @author Wei-Ming Wu
+ */
+@Getter
+@Builder
+@ToString
+public class HarvestFailure {
+
+  /** The workbook file */
+  private final Path file;
+
+  /** The cause, e.g. an {@link java.io.IOException} or a schema mismatch */
+  private final Exception cause;
+
+}
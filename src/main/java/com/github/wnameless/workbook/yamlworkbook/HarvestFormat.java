@@ -0,0 +1,16 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Defines the aggregated output format of a {@link WorkbookHarvester}.
+ *
+ * @author Wei-Ming Wu
+ */
+public enum HarvestFormat {
+
+  /** Newline-delimited JSON: one document per line (default) */
+  NDJSON,
+
+  /** A YAML stream with each document starting with an explicit {@code ---} */
+  YAML
+
+}
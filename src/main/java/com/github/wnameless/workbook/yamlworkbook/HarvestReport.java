@@ -0,0 +1,27 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable summary of a {@link WorkbookHarvester} run.
+ *
+ * @author Wei-Ming Wu
+ */
+@Getter
+@Builder
+@ToString
+public class HarvestReport {
+
+  /** Number of workbooks processed, including failed ones */
+  private final int files;
+
+  /** Number of documents written */
+  private final long documents;
+
+  /** Workbooks that could not be read, in input order */
+  private final List<HarvestFailure> failures;
+
+}
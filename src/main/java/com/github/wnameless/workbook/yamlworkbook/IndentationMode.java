@@ -18,6 +18,23 @@ public enum IndentationMode {
    * [value]. Level 0 has no prefix (content at col 0), levels 1+ have prefix at col 0 and content
    * at col 1. Suitable for deeply nested structures to avoid horizontal scrolling.
    */
-  PREFIX
+  PREFIX,
+
+  /**
+   * Uses CELL_OFFSET layout while the content column stays within the adaptive column budget, and
+   * PREFIX layout ([prefix] [key] [value]) for rows nested deeper. Sheets stay narrow for deep
+   * documents while shallow rows keep their visual indentation. The reader detects the layout of
+   * each row from the prefix cell.
+   */
+  ADAPTIVE,
+
+  /**
+   * Writes one row per scalar leaf keyed by its full path. Layout: [path] [value] [comment...],
+   * e.g. {@code server.ports[3] | 8080}. Rows are sortable and filterable and need no indentation
+   * tracking. Empty mappings and sequences are written as {@code {}} and {@code []}. Path syntax is
+   * controlled by {@link WorkbookSyntax}; sequence and DISPLAY_MODE display options do not apply,
+   * and FORM_MODE is not supported. Suitable for very large configs.
+   */
+  PATH
 
 }
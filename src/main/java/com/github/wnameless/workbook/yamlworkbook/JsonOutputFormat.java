@@ -0,0 +1,16 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Defines how multiple YAML documents are laid out when a workbook is written as JSON.
+ *
+ * @author Wei-Ming Wu
+ */
+public enum JsonOutputFormat {
+
+  /** All documents as elements of a single JSON array (default) */
+  ARRAY,
+
+  /** Newline-delimited JSON: one document per line */
+  NDJSON
+
+}
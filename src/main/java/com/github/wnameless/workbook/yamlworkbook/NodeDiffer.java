@@ -0,0 +1,195 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+/**
+ * Walks two Node trees in lockstep and collects their {@link NodeDifference}s.
+ * <p>
+ * Mapping entries are matched by key and sequence items by index. Scalars are compared by value
+ * only, so a reconstructed {@code !!str 80} equals a composed {@code !!int 80}. Identical Node
+ * instances, such as the documents reused by incremental reads, are skipped without walking.
+ * <p>
+ * Node trees carry no hashes, so unchanged subtrees are only skipped by hash at the document level,
+ * where {@link YamlWorkbookReader#diff(org.apache.poi.ss.usermodel.Workbook,
+ * org.apache.poi.ss.usermodel.Workbook)} compares the cells of each document. Within a document,
+ * nodes shared through aliases are compared once per pair and the result is memoised, so an
+ * unchanged shared subtree is skipped wherever it is reached, while a changed one is reported at
+ * every path it is reached by.
+ *
+ * @author Wei-Ming Wu
+ */
+final class NodeDiffer {
+
+  private static final Pattern SIMPLE_KEY = Pattern.compile("[A-Za-z_][A-Za-z0-9_-]*");
+
+  private final List<NodeDifference> differences = new ArrayList<>();
+  private final Map<Node, Map<Node, Boolean>> equalities = new IdentityHashMap<>();
+  private final Map<Node, Set<Node>> comparing = new IdentityHashMap<>();
+  private final Map<Node, Set<Node>> walking = new IdentityHashMap<>();
+  private boolean assumed;
+
+  /**
+   * Compares two versions of a document.
+   *
+   * @param documentIndex the document index
+   * @param oldNode the old document, or null if the document was added
+   * @param newNode the new document, or null if the document was removed
+   */
+  void diff(int documentIndex, Node oldNode, Node newNode) {
+    equalities.clear();
+    diff(documentIndex, "$", oldNode, newNode);
+  }
+
+  List<NodeDifference> getDifferences() {
+    return differences;
+  }
+
+  private void diff(int documentIndex, String path, Node oldNode, Node newNode) {
+    if (oldNode == newNode) return;
+    if (oldNode == null) {
+      add(documentIndex, path, DifferenceType.ADDED, null, newNode);
+      return;
+    }
+    if (newNode == null) {
+      add(documentIndex, path, DifferenceType.REMOVED, oldNode, null);
+      return;
+    }
+    if (isEqual(oldNode, newNode)) return;
+    // A recursive pair already being walked has its differences reported at the outer path
+    Set<Node> walked = pairs(walking, oldNode);
+    if (!walked.add(newNode)) return;
+
+    if (oldNode instanceof MappingNode oldMapping && newNode instanceof MappingNode newMapping) {
+      diffMappings(documentIndex, path, oldMapping, newMapping);
+    } else if (oldNode instanceof SequenceNode oldSequence
+        && newNode instanceof SequenceNode newSequence) {
+      diffSequences(documentIndex, path, oldSequence, newSequence);
+    } else {
+      add(documentIndex, path, DifferenceType.CHANGED, oldNode, newNode);
+    }
+    walked.remove(newNode);
+  }
+
+  private boolean isEqual(Node oldNode, Node newNode) {
+    if (oldNode == newNode) return true;
+    if (oldNode == null || newNode == null) return false;
+    Map<Node, Boolean> results = equalities.computeIfAbsent(oldNode, k -> new IdentityHashMap<>());
+    Boolean result = results.get(newNode);
+    if (result != null) return result;
+
+    // A recursive pair is assumed equal while it is compared; any difference shows elsewhere
+    Set<Node> compared = pairs(comparing, oldNode);
+    if (!compared.add(newNode)) {
+      assumed = true;
+      return true;
+    }
+    boolean outerAssumed = assumed;
+    assumed = false;
+    boolean equal = compare(oldNode, newNode);
+    compared.remove(newNode);
+    // Equality resting on that assumption is only provisional, so it is not memoised
+    if (!equal || !assumed) results.put(newNode, equal);
+    assumed |= outerAssumed;
+    return equal;
+  }
+
+  private boolean compare(Node oldNode, Node newNode) {
+    if (oldNode instanceof MappingNode oldMapping && newNode instanceof MappingNode newMapping) {
+      Map<String, Node> oldValues = getValues(oldMapping);
+      Map<String, Node> newValues = getValues(newMapping);
+      if (!oldValues.keySet().equals(newValues.keySet())) return false;
+      for (var entry : oldValues.entrySet()) {
+        if (!isEqual(entry.getValue(), newValues.get(entry.getKey()))) return false;
+      }
+      return true;
+    }
+    if (oldNode instanceof SequenceNode oldSequence
+        && newNode instanceof SequenceNode newSequence) {
+      List<Node> oldItems = oldSequence.getValue();
+      List<Node> newItems = newSequence.getValue();
+      if (oldItems.size() != newItems.size()) return false;
+      for (int i = 0; i < oldItems.size(); i++) {
+        if (!isEqual(oldItems.get(i), newItems.get(i))) return false;
+      }
+      return true;
+    }
+    return oldNode instanceof ScalarNode oldScalar && newNode instanceof ScalarNode newScalar
+        && oldScalar.getValue().equals(newScalar.getValue());
+  }
+
+  private Map<String, Node> getValues(MappingNode mapping) {
+    Map<String, Node> values = new LinkedHashMap<>();
+    for (NodeTuple tuple : mapping.getValue()) {
+      values.putIfAbsent(getKey(tuple.getKeyNode()), tuple.getValueNode());
+    }
+    return values;
+  }
+
+  private Set<Node> pairs(Map<Node, Set<Node>> pairs, Node oldNode) {
+    return pairs.computeIfAbsent(oldNode, k -> Collections.newSetFromMap(new IdentityHashMap<>()));
+  }
+
+  private void diffMappings(int documentIndex, String path, MappingNode oldMapping,
+      MappingNode newMapping) {
+    Map<String, Node> newValues = getValues(newMapping);
+
+    Map<String, Node> oldValues = new LinkedHashMap<>();
+    for (NodeTuple tuple : oldMapping.getValue()) {
+      String key = getKey(tuple.getKeyNode());
+      if (oldValues.putIfAbsent(key, tuple.getValueNode()) != null) continue;
+      String keyPath = appendKey(path, key);
+      if (newValues.containsKey(key)) {
+        diff(documentIndex, keyPath, tuple.getValueNode(), newValues.get(key));
+      } else {
+        add(documentIndex, keyPath, DifferenceType.REMOVED, tuple.getValueNode(), null);
+      }
+    }
+
+    for (var entry : newValues.entrySet()) {
+      if (!oldValues.containsKey(entry.getKey())) {
+        add(documentIndex, appendKey(path, entry.getKey()), DifferenceType.ADDED, null,
+            entry.getValue());
+      }
+    }
+  }
+
+  private void diffSequences(int documentIndex, String path, SequenceNode oldSequence,
+      SequenceNode newSequence) {
+    List<Node> oldItems = oldSequence.getValue();
+    List<Node> newItems = newSequence.getValue();
+    for (int i = 0; i < Math.max(oldItems.size(), newItems.size()); i++) {
+      diff(documentIndex, path + "[" + i + "]", i < oldItems.size() ? oldItems.get(i) : null,
+          i < newItems.size() ? newItems.get(i) : null);
+    }
+  }
+
+  private String getKey(Node keyNode) {
+    return keyNode instanceof ScalarNode scalar ? scalar.getValue() : String.valueOf(keyNode);
+  }
+
+  private String appendKey(String path, String key) {
+    if (SIMPLE_KEY.matcher(key).matches()) {
+      return path + "." + key;
+    }
+    return path + "['" + key.replace("\\", "\\\\").replace("'", "\\'") + "']";
+  }
+
+  private void add(int documentIndex, String path, DifferenceType type, Node oldNode,
+      Node newNode) {
+    differences.add(NodeDifference.builder().documentIndex(documentIndex).path(path).type(type)
+        .oldNode(oldNode).newNode(newNode).build());
+  }
+
+}
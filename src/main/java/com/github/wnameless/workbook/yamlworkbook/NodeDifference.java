@@ -0,0 +1,34 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import org.yaml.snakeyaml.nodes.Node;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A single difference between two versions of a YAML document, as reported by
+ * {@link YamlWorkbookReader#diff}.
+ *
+ * @author Wei-Ming Wu
+ */
+@Getter
+@Builder
+@ToString
+public class NodeDifference {
+
+  /** Index of the document holding the difference */
+  private final int documentIndex;
+
+  /** JSONPath-like location of the difference, e.g. {@code $.server.ports[0]} */
+  private final String path;
+
+  /** Kind of the difference */
+  private final DifferenceType type;
+
+  /** Node in the old version, or null if {@link DifferenceType#ADDED} */
+  private final Node oldNode;
+
+  /** Node in the new version, or null if {@link DifferenceType#REMOVED} */
+  private final Node newNode;
+
+}
@@ -0,0 +1,83 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import tools.jackson.core.JsonGenerator;
+
+/**
+ * Streams SnakeYAML Node trees into a Jackson {@link JsonGenerator} as typed JSON values.
+ * <p>
+ * Mappings become JSON objects and sequences become JSON arrays. Scalars are typed the same way as
+ * {@link YamlWorkbookReader#toObjects(Workbook)} types them: ints and finite floats become JSON
+ * numbers, booleans and nulls become JSON literals, and everything else (including timestamps,
+ * {@code .inf} and {@code .nan}) is written as a JSON string. Shared (aliased) nodes are written in
+ * full wherever they occur; recursive ones cannot be written and are rejected.
+ *
+ * @author Wei-Ming Wu
+ */
+final class NodeJsonWriter {
+
+  private final JsonGenerator generator;
+  private final NodeObjectConstructor constructor;
+  private final Set<Node> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  NodeJsonWriter(JsonGenerator generator, boolean resolveImplicitTypes) {
+    this.generator = generator;
+    this.constructor = new NodeObjectConstructor(Object.class, resolveImplicitTypes);
+  }
+
+  void write(Node node) {
+    if (!(node instanceof ScalarNode) && !ancestors.add(node)) {
+      throw new IllegalArgumentException("Recursive aliases cannot be written as JSON");
+    }
+    if (node instanceof MappingNode mappingNode) {
+      generator.writeStartObject();
+      for (NodeTuple tuple : mappingNode.getValue()) {
+        if (!(tuple.getKeyNode() instanceof ScalarNode keyNode)) {
+          throw new IllegalArgumentException("Non-scalar mapping keys cannot be written as JSON");
+        }
+        generator.writeName(keyNode.getValue());
+        write(tuple.getValueNode());
+      }
+      generator.writeEndObject();
+    } else if (node instanceof SequenceNode sequenceNode) {
+      generator.writeStartArray();
+      for (Node item : sequenceNode.getValue()) {
+        write(item);
+      }
+      generator.writeEndArray();
+    } else if (node instanceof ScalarNode scalarNode) {
+      writeScalar(scalarNode);
+    } else {
+      generator.writeNull();
+    }
+    ancestors.remove(node);
+  }
+
+  private void writeScalar(ScalarNode node) {
+    Object value = constructor.constructTypedScalar(node);
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof Boolean bool) {
+      generator.writeBoolean(bool);
+    } else if (value instanceof Integer i) {
+      generator.writeNumber(i);
+    } else if (value instanceof Long l) {
+      generator.writeNumber(l);
+    } else if (value instanceof BigInteger bigInteger) {
+      generator.writeNumber(bigInteger);
+    } else if (value instanceof Double d && Double.isFinite(d)) {
+      generator.writeNumber(d);
+    } else {
+      generator.writeString(node.getValue());
+    }
+  }
+
+}
@@ -0,0 +1,102 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.constructor.Construct;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * SnakeYAML {@link Constructor} that builds Java objects directly from Node trees reconstructed by
+ * {@link YamlWorkbookReader}, without serializing them to YAML text first.
+ * <p>
+ * Workbook cells are read back as plain {@link Tag#STR} scalars. When implicit typing is enabled,
+ * such scalars are constructed with the type the {@link Resolver} would assign to the same plain
+ * text in a YAML file (int, float, bool, null, timestamp), so {@code 30} becomes an
+ * {@link Integer} and an empty cell becomes {@code null}. Scalars bound to typed JavaBean
+ * properties are always converted to the property type. Node trees are never modified, except
+ * that merge keys are flattened as SnakeYAML does.
+ * <p>
+ * Instances are stateful and not thread-safe; create one per conversion.
+ *
+ * @author Wei-Ming Wu
+ */
+final class NodeObjectConstructor extends Constructor {
+
+  private static final Resolver RESOLVER = new Resolver();
+
+  private final Class<?> rootType;
+  private final boolean resolveImplicitTypes;
+
+  NodeObjectConstructor(Class<?> rootType, boolean resolveImplicitTypes) {
+    super(rootType, new LoaderOptions());
+    this.rootType = rootType;
+    this.resolveImplicitTypes = resolveImplicitTypes;
+  }
+
+  /**
+   * Constructs a Java object from a document node.
+   *
+   * @param node the document node (may be null)
+   * @return the constructed object, or null if node is null
+   */
+  Object construct(Node node) {
+    if (node == null) {
+      return null;
+    }
+    if (Object.class.equals(rootType)) {
+      return constructDocument(node);
+    }
+
+    Tag originalTag = node.getTag();
+    node.setTag(rootTag);
+    try {
+      return constructDocument(node);
+    } finally {
+      node.setTag(originalTag);
+    }
+  }
+
+  /**
+   * Constructs the value of a single scalar node without tracking it for alias resolution, so
+   * streaming callers do not retain constructed values.
+   *
+   * @param node the scalar node
+   * @return the typed scalar value
+   */
+  Object constructTypedScalar(ScalarNode node) {
+    return getConstructor(node).construct(node);
+  }
+
+  /**
+   * Resolves the implicit tag of a plain string scalar, as SnakeYAML would for the same text.
+   *
+   * @param node the scalar node
+   * @return the resolved tag, or the node's own tag if it is not a plain string scalar
+   */
+  static Tag resolveImplicitTag(ScalarNode node) {
+    if (Tag.STR.equals(node.getTag()) && node.isPlain()) {
+      return RESOLVER.resolve(NodeId.scalar, node.getValue(), true);
+    }
+    return node.getTag();
+  }
+
+  @Override
+  protected Construct getConstructor(Node node) {
+    if (resolveImplicitTypes && node instanceof ScalarNode scalarNode
+        && !node.useClassConstructor()) {
+      Tag tag = resolveImplicitTag(scalarNode);
+      if (!Tag.STR.equals(tag)) {
+        Construct construct = yamlConstructors.get(tag);
+        if (construct != null) {
+          return construct;
+        }
+      }
+    }
+    return super.getConstructor(node);
+  }
+
+}
@@ -0,0 +1,128 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.yaml.snakeyaml.DumperOptions.FlowStyle;
+import org.yaml.snakeyaml.DumperOptions.ScalarStyle;
+import org.yaml.snakeyaml.comments.CommentLine;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+/**
+ * Trie of YAML paths used by {@link YamlWorkbookReader} to rebuild Node trees from
+ * {@link IndentationMode#PATH} rows.
+ * <p>
+ * Path segments are either {@code String} mapping keys or {@code Integer} sequence indices. Mapping
+ * keys keep insertion order; sequence items are ordered by index, with gaps collapsed.
+ *
+ * @author Wei-Ming Wu
+ */
+final class PathTrie {
+
+  private Node leaf;
+  private Map<String, PathTrie> fields;
+  private TreeMap<Integer, PathTrie> items;
+  private List<CommentLine> blockComments;
+
+  /**
+   * Inserts a leaf node at the given path.
+   *
+   * @param segments the path segments
+   * @param node the leaf node
+   * @param comments block comments attached to the first newly created segment (may be empty)
+   * @throws IllegalStateException if the path conflicts with previously inserted paths
+   */
+  void insert(List<Object> segments, Node node, List<CommentLine> comments) {
+    PathTrie current = this;
+    boolean commentsAttached = comments.isEmpty();
+    for (Object segment : segments) {
+      PathTrie child = current.getChild(segment);
+      if (child == null) {
+        child = current.addChild(segment, segments);
+        if (!commentsAttached) {
+          child.blockComments = new ArrayList<>(comments);
+          commentsAttached = true;
+        }
+      }
+      current = child;
+    }
+
+    if (current.leaf != null || current.fields != null || current.items != null) {
+      throw new IllegalStateException("Duplicate or conflicting path: " + segments);
+    }
+    current.leaf = node;
+    if (!commentsAttached) {
+      current.blockComments = new ArrayList<>(comments);
+    }
+  }
+
+  /**
+   * Converts this trie to a Node tree.
+   *
+   * @return the root node, or null if nothing was inserted
+   */
+  Node toNode() {
+    if (fields != null) {
+      List<NodeTuple> tuples = new ArrayList<>(fields.size());
+      for (var entry : fields.entrySet()) {
+        PathTrie child = entry.getValue();
+        // An empty key must not resolve to null
+        ScalarNode keyNode = new ScalarNode(Tag.STR, entry.getKey(), null, null,
+            entry.getKey().isEmpty() ? ScalarStyle.DOUBLE_QUOTED : ScalarStyle.PLAIN);
+        if (child.blockComments != null) {
+          keyNode.setBlockComments(child.blockComments);
+        }
+        tuples.add(new NodeTuple(keyNode, child.toNode()));
+      }
+      return new MappingNode(Tag.MAP, tuples, FlowStyle.BLOCK);
+    }
+    if (items != null) {
+      List<Node> nodes = new ArrayList<>(items.size());
+      for (PathTrie child : items.values()) {
+        Node item = child.toNode();
+        if (child.blockComments != null) {
+          item.setBlockComments(child.blockComments);
+        }
+        nodes.add(item);
+      }
+      return new SequenceNode(Tag.SEQ, nodes, FlowStyle.BLOCK);
+    }
+    return leaf;
+  }
+
+  private PathTrie getChild(Object segment) {
+    if (segment instanceof Integer index) {
+      return items == null ? null : items.get(index);
+    }
+    return fields == null ? null : fields.get(segment);
+  }
+
+  private PathTrie addChild(Object segment, List<Object> segments) {
+    if (leaf != null) {
+      throw new IllegalStateException("Duplicate or conflicting path: " + segments);
+    }
+    PathTrie child = new PathTrie();
+    if (segment instanceof Integer index) {
+      if (fields != null) {
+        throw new IllegalStateException("Duplicate or conflicting path: " + segments);
+      }
+      if (items == null) items = new TreeMap<>();
+      items.put(index, child);
+    } else {
+      if (items != null) {
+        throw new IllegalStateException("Duplicate or conflicting path: " + segments);
+      }
+      if (fields == null) fields = new LinkedHashMap<>();
+      fields.put((String) segment, child);
+    }
+    return child;
+  }
+
+}
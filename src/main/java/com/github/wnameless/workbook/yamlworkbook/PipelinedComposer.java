@@ -0,0 +1,186 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Composes the YAML documents of a Reader with scanning and parsing moved to a separate thread,
+ * for {@link YamlWorkbookWriter} {@code pipelined} mode.
+ * <p>
+ * The parser stage runs on a thread of its own and hands events to the composing thread in
+ * batches through a bounded queue, so tokenizing the text overlaps with building Nodes and
+ * rendering cells, even within a single large document. The queue is FIFO and has a single
+ * producer and consumer, so documents and their content keep their exact order. Documents are
+ * identical to those of {@link org.yaml.snakeyaml.Yaml#composeAll(Reader)}.
+ * <p>
+ * The parser stage does not use the writer's executor: the composing thread already blocks on
+ * the stage, so a bounded executor (e.g. a single thread running {@code toWorkbookAsync}) would
+ * never get to run it. The composing thread also watches the stage while it waits, so a stage
+ * that ends without handing over the end of the stream fails the conversion instead of hanging.
+ *
+ * @author Wei-Ming Wu
+ */
+final class PipelinedComposer implements Iterable<Node>, AutoCloseable {
+
+  private static final int BATCH_SIZE = 512;
+  private static final int QUEUE_CAPACITY = 16;
+  private static final long POLL_INTERVAL_MILLIS = 100;
+
+  private final Reader content;
+  private final LoaderOptions options;
+  private final BlockingQueue<Object> batches = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  private CompletableFuture<Void> parserStage;
+
+  private record Failure(RuntimeException cause) {}
+
+  PipelinedComposer(Reader content, LoaderOptions options) {
+    this.content = content;
+    this.options = options;
+  }
+
+  @Override
+  public Iterator<Node> iterator() {
+    if (parserStage != null) {
+      throw new IllegalStateException("YAML content can only be composed once");
+    }
+    // The default executor always starts a new thread, never queueing behind the writer
+    parserStage = AsyncConversions.supply(this::parse, AsyncConversions.DEFAULT_EXECUTOR);
+    Composer composer = new Composer(new QueuedParser(), new Resolver(), options);
+
+    return new Iterator<Node>() {
+
+      @Override
+      public boolean hasNext() {
+        return composer.checkNode();
+      }
+
+      @Override
+      public Node next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return composer.getNode();
+      }
+
+    };
+  }
+
+  /**
+   * Stops the parser stage if it is still running, e.g. because the conversion failed.
+   */
+  @Override
+  public void close() {
+    if (parserStage != null) {
+      parserStage.cancel(true);
+    }
+  }
+
+  private Void parse() {
+    List<Event> batch = new ArrayList<>(BATCH_SIZE);
+    try {
+      Parser parser = new ParserImpl(new StreamReader(content), options);
+      while (true) {
+        Event event = parser.getEvent();
+        batch.add(event);
+        boolean end = event.is(Event.ID.StreamEnd);
+        if (end || batch.size() == BATCH_SIZE) {
+          put(batch);
+          batch = new ArrayList<>(BATCH_SIZE);
+        }
+        if (end) return null;
+      }
+    } catch (CancellationException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      // Syntax errors surface on the composing thread, after the events preceding them
+      if (!batch.isEmpty()) put(batch);
+      put(new Failure(e));
+      return null;
+    }
+  }
+
+  private void put(Object batch) {
+    try {
+      batches.put(batch);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Conversion cancelled");
+    }
+  }
+
+  private final class QueuedParser implements Parser {
+
+    private List<Event> batch = List.of();
+    private int index;
+
+    @Override
+    public boolean checkEvent(Event.ID choice) {
+      return current().is(choice);
+    }
+
+    @Override
+    public Event peekEvent() {
+      return current();
+    }
+
+    @Override
+    public Event getEvent() {
+      Event event = current();
+      index++;
+      return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Event current() {
+      while (index >= batch.size()) {
+        Object next = take();
+        if (next instanceof Failure failure) throw failure.cause();
+        batch = (List<Event>) next;
+        index = 0;
+      }
+      return batch.get(index);
+    }
+
+    private Object take() {
+      try {
+        while (true) {
+          Object next = batches.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+          if (next != null) return next;
+          // A finished stage hands over nothing more once its queued batches are drained
+          if (parserStage.isDone() && batches.isEmpty()) return new Failure(stageFailure());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CancellationException("Conversion cancelled");
+      }
+    }
+
+    private RuntimeException stageFailure() {
+      try {
+        parserStage.join();
+        return new IllegalStateException("YAML parser stage ended before the end of the stream");
+      } catch (CancellationException e) {
+        return e;
+      } catch (CompletionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+
+  }
+
+}
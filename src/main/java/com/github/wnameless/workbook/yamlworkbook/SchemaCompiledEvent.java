@@ -0,0 +1,25 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when a FORM_MODE JSON Schema has been compiled into a skeleton document and a
+ * path navigator.
+ *
+ * @author Wei-Ming Wu
+ */
+@Name("com.github.wnameless.workbook.yamlworkbook.SchemaCompiled")
+@Label("Schema Compiled")
+@Category("YAML Workbook")
+@Description("A FORM_MODE JSON Schema was compiled by YamlWorkbookWriter")
+final class SchemaCompiledEvent extends Event {
+
+  @Label("Schema Length")
+  @Description("Length of the JSON Schema in characters")
+  int schemaLength;
+
+}
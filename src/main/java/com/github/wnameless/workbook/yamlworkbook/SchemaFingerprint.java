@@ -0,0 +1,65 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.github.wnameless.json.jsonschemadatagenerator.ObjectMapperFactory;
+
+/**
+ * Fingerprint of the JSON Schema a FORM_MODE workbook was generated from, stored as a custom
+ * document property so returned workbooks can be matched against their schema.
+ *
+ * @author Wei-Ming Wu
+ */
+final class SchemaFingerprint {
+
+  static final String PROPERTY_NAME = "yamlWorkbookSchemaFingerprint";
+
+  private SchemaFingerprint() {}
+
+  /**
+   * Computes the fingerprint of a JSON Schema. The schema is re-serialized first, so whitespace
+   * does not affect the fingerprint.
+   *
+   * @param jsonSchema the JSON Schema string
+   * @return the hex encoded SHA-256 hash
+   */
+  static String of(String jsonSchema) {
+    var mapper = ObjectMapperFactory.getObjectMapper();
+    String normalized = mapper.writeValueAsString(mapper.readTree(jsonSchema));
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+          .digest(normalized.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Stores the fingerprint of a JSON Schema in a newly generated workbook.
+   *
+   * @param workbook the workbook
+   * @param jsonSchema the JSON Schema string
+   */
+  static void write(XSSFWorkbook workbook, String jsonSchema) {
+    workbook.getProperties().getCustomProperties().addProperty(PROPERTY_NAME, of(jsonSchema));
+  }
+
+  /**
+   * Reads the schema fingerprint of a workbook.
+   *
+   * @param workbook the workbook
+   * @return the fingerprint, or null if the workbook has none
+   */
+  static String read(Workbook workbook) {
+    if (!(workbook instanceof XSSFWorkbook xssfWorkbook)) {
+      return null;
+    }
+    var property = xssfWorkbook.getProperties().getCustomProperties().getProperty(PROPERTY_NAME);
+    return property == null ? null : property.getLpwstr();
+  }
+
+}
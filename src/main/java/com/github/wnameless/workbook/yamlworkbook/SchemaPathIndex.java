@@ -0,0 +1,55 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.github.wnameless.json.jsonschemadatagenerator.JsonSchemaPathNavigator;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Sub-schemas and declared types of a JSON Schema by document path, as {@link YamlWorkbookWriter}
+ * resolves them for FORM_MODE: {@code $.key} for properties and {@code [*]} for array items.
+ * <p>
+ * Each path is resolved once and then served from a map, so repeated lookups, e.g. for every item
+ * of an array, are O(1). Instances are not thread-safe; create one per conversion.
+ *
+ * @author Wei-Ming Wu
+ */
+final class SchemaPathIndex {
+
+  private final JsonSchemaPathNavigator navigator;
+  private final Map<String, Optional<JsonNode>> schemas = new HashMap<>();
+  private final Map<String, List<String>> types = new HashMap<>();
+
+  SchemaPathIndex(String jsonSchema) {
+    this.navigator = JsonSchemaPathNavigator.of(jsonSchema);
+  }
+
+  /**
+   * Returns the sub-schema at a path.
+   *
+   * @param path the document path
+   * @return the sub-schema, or null if the schema does not describe the path
+   */
+  JsonNode findSchema(String path) {
+    return schemas.computeIfAbsent(path, navigator::findSchema).orElse(null);
+  }
+
+  /**
+   * Returns the types declared at a path.
+   *
+   * @param path the document path
+   * @return the declared types, empty if the path has no {@code type}
+   */
+  List<String> getTypes(String path) {
+    return types.computeIfAbsent(path, p -> {
+      JsonNode schema = findSchema(p);
+      JsonNode type = schema == null ? null : schema.get("type");
+      if (type == null) return List.of();
+      if (type.isArray()) return type.valueStream().map(JsonNode::asString).toList();
+      return List.of(type.asString());
+    });
+  }
+
+}
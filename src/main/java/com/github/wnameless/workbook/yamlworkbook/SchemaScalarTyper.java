@@ -0,0 +1,87 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.List;
+import java.util.Map;
+import org.yaml.snakeyaml.DumperOptions.ScalarStyle;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+/**
+ * Tags the plain string scalars of a reconstructed document with the type a JSON Schema declares
+ * for their path, so FORM_MODE values come back as {@link Tag#INT}, {@link Tag#FLOAT},
+ * {@link Tag#BOOL} and {@link Tag#NULL} nodes without a second coercion pass.
+ * <p>
+ * A scalar is only retagged if its text resolves to the declared type; other values keep their
+ * {@link Tag#STR} tag and are left to {@link SchemaValidator}. Empty cells of non-string fields
+ * become {@link Tag#NULL}. Values of {@code string} fields are replaced by double-quoted scalars,
+ * so text such as {@code 02134} is not resolved as a number later on.
+ *
+ * @author Wei-Ming Wu
+ */
+final class SchemaScalarTyper {
+
+  private final SchemaPathIndex schemaIndex;
+
+  SchemaScalarTyper(SchemaPathIndex schemaIndex) {
+    this.schemaIndex = schemaIndex;
+  }
+
+  /**
+   * Types a node the reader has just reconstructed at the given path. Only scalars are retagged;
+   * the nodes under a mapping or sequence were typed when they were reconstructed.
+   *
+   * @param path the schema path of the node, such as {@code $.items[*].age}
+   * @param node the node
+   * @param locations the cell locations of nodes, updated for replaced nodes (may be null)
+   * @return the node, or its replacement if it is a string scalar
+   */
+  Node type(String path, Node node, Map<Node, SchemaValidator.Location> locations) {
+    if (!(node instanceof ScalarNode scalar)) return node;
+    Node typed = typeScalar(scalar, schemaIndex.getTypes(path));
+    if (typed != scalar) moveLocation(locations, scalar, typed);
+    return typed;
+  }
+
+  private static Node typeScalar(ScalarNode scalar, List<String> types) {
+    if (types.isEmpty() || !Tag.STR.equals(scalar.getTag()) || !scalar.isPlain()) return scalar;
+
+    if (scalar.getValue().isEmpty()) {
+      if (!types.contains("string")) scalar.setTag(Tag.NULL);
+      return scalar;
+    }
+
+    Tag resolved = NodeObjectConstructor.resolveImplicitTag(scalar);
+    for (String type : types) {
+      boolean matches = switch (type) {
+        case "integer" -> Tag.INT.equals(resolved);
+        case "number" -> Tag.INT.equals(resolved) || Tag.FLOAT.equals(resolved);
+        case "boolean" -> Tag.BOOL.equals(resolved);
+        case "null" -> Tag.NULL.equals(resolved);
+        default -> false;
+      };
+      if (matches) {
+        scalar.setTag(resolved);
+        return scalar;
+      }
+      if ("string".equals(type)) {
+        if (Tag.STR.equals(resolved)) return scalar;
+        var quoted = new ScalarNode(Tag.STR, scalar.getValue(), scalar.getStartMark(),
+            scalar.getEndMark(), ScalarStyle.DOUBLE_QUOTED);
+        quoted.setBlockComments(scalar.getBlockComments());
+        quoted.setInLineComments(scalar.getInLineComments());
+        quoted.setEndComments(scalar.getEndComments());
+        return quoted;
+      }
+    }
+    return scalar;
+  }
+
+  private static void moveLocation(Map<Node, SchemaValidator.Location> locations, Node from,
+      Node to) {
+    if (locations == null) return;
+    SchemaValidator.Location location = locations.remove(from);
+    if (location != null) locations.put(to, location);
+  }
+
+}
@@ -0,0 +1,46 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.List;
+
+/**
+ * Thrown by {@link YamlWorkbookReader} when workbook values do not conform to the configured JSON
+ * Schema.
+ *
+ * @author Wei-Ming Wu
+ */
+public class SchemaValidationException extends IllegalArgumentException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final List<SchemaViolation> violations;
+
+  /**
+   * Creates an exception for the given violations.
+   *
+   * @param violations the violations, at least one
+   */
+  public SchemaValidationException(List<SchemaViolation> violations) {
+    super(buildMessage(violations));
+    this.violations = List.copyOf(violations);
+  }
+
+  /**
+   * Returns the violations, in reading order.
+   *
+   * @return the violations
+   */
+  public List<SchemaViolation> getViolations() {
+    return violations;
+  }
+
+  private static String buildMessage(List<SchemaViolation> violations) {
+    SchemaViolation first = violations.get(0);
+    String message = "Schema violation at " + first.getCellReference() + " (" + first.getPath()
+        + "): " + first.getMessage();
+    if (violations.size() > 1) {
+      message += " (and " + (violations.size() - 1) + " more)";
+    }
+    return message;
+  }
+
+}
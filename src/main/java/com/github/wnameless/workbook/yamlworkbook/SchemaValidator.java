@@ -0,0 +1,283 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Validates reconstructed documents against a JSON Schema as {@link YamlWorkbookReader} produces
+ * them, reporting each violation at the cell the offending value was read from.
+ * <p>
+ * The reader checks each node as soon as it has been reconstructed from its cells, after the nodes
+ * under it, so there is no extra walk over the document and fail-fast stops reading at the first
+ * invalid cell. Only nodes that are not rebuilt one by one, such as aliased nodes reused at another
+ * path, are validated by a walk of their own; a node is validated once per schema path.
+ * <p>
+ * Supported keywords are {@code type}, {@code enum}, {@code required}, {@code minimum},
+ * {@code maximum}, {@code exclusiveMinimum}, {@code exclusiveMaximum}, {@code minLength},
+ * {@code maxLength}, {@code minItems} and {@code maxItems}. Sub-schemas are looked up in a
+ * {@link SchemaPathIndex}. Empty cells count as absent values: they only fail {@code required}.
+ * <p>
+ * Instances are stateful and not thread-safe; create one per conversion.
+ *
+ * @author Wei-Ming Wu
+ */
+final class SchemaValidator {
+
+  /**
+   * Cell a value was read from.
+   *
+   * @param sheetName the sheet name
+   * @param rowNum the 0-based row
+   * @param columnIndex the 0-based column
+   */
+  record Location(String sheetName, int rowNum, int columnIndex) {}
+
+  private final SchemaPathIndex schemaIndex;
+  private final boolean failFast;
+  private final NodeObjectConstructor constructor = new NodeObjectConstructor(Object.class, true);
+  private final List<SchemaViolation> violations = new ArrayList<>();
+  private final Map<Node, Set<String>> visited = new IdentityHashMap<>();
+
+  SchemaValidator(SchemaPathIndex schemaIndex, boolean failFast) {
+    this.schemaIndex = schemaIndex;
+    this.failFast = failFast;
+  }
+
+  /**
+   * Starts validating a new document.
+   */
+  void startDocument() {
+    visited.clear();
+  }
+
+  /**
+   * Validates a node just reconstructed at the given path, whose child nodes have already been
+   * checked at their own paths.
+   *
+   * @param path the schema path of the node, such as {@code $.items[*].name}
+   * @param node the node
+   * @param locations the cells the nodes of the document were read from
+   * @param parentLocation the location used if the node is not found in {@code locations}
+   * @throws SchemaValidationException on the first violation if fail-fast
+   */
+  void check(String path, Node node, Map<Node, Location> locations, Location parentLocation) {
+    JsonNode schema = schemaIndex.findSchema(path);
+    if (schema == null || !visit(node, path)) return;
+    checkNode(path, node, schema, locations, locations.getOrDefault(node, parentLocation));
+  }
+
+  /**
+   * Validates a node and the nodes under it, skipping nodes already checked at their path.
+   *
+   * @param path the schema path of the node
+   * @param node the node
+   * @param locations the cells the nodes of the document were read from
+   * @param parentLocation the location used if the node is not found in {@code locations}
+   * @throws SchemaValidationException on the first violation if fail-fast
+   */
+  void validate(String path, Node node, Map<Node, Location> locations, Location parentLocation) {
+    Location location = locations.getOrDefault(node, parentLocation);
+    JsonNode schema = schemaIndex.findSchema(path);
+    if (schema == null || !visit(node, path)) return;
+    if (!checkNode(path, node, schema, locations, location)) return;
+
+    if (node instanceof MappingNode mapping) {
+      for (NodeTuple tuple : mapping.getValue()) {
+        if (tuple.getKeyNode() instanceof ScalarNode key) {
+          validate(path + "." + key.getValue(), tuple.getValueNode(), locations, location);
+        }
+      }
+    } else if (node instanceof SequenceNode sequence) {
+      for (Node item : sequence.getValue()) {
+        validate(path + "[*]", item, locations, location);
+      }
+    }
+  }
+
+  /**
+   * Throws if any violations were collected.
+   *
+   * @throws SchemaValidationException with all collected violations
+   */
+  void throwIfInvalid() {
+    if (!violations.isEmpty()) {
+      throw new SchemaValidationException(violations);
+    }
+  }
+
+  private boolean visit(Node node, String path) {
+    return visited.computeIfAbsent(node, n -> new HashSet<>()).add(path);
+  }
+
+  /**
+   * Checks a single node without descending into it.
+   *
+   * @return false if the nodes under it are not worth validating
+   */
+  private boolean checkNode(String path, Node node, JsonNode schema,
+      Map<Node, Location> locations, Location location) {
+    if (node instanceof ScalarNode scalar && scalar.getValue().isEmpty()) return false;
+    JsonNode type = schema.get("type");
+    if (type != null && !matchesType(node, type)) {
+      report(location, path, "expected " + (type.isArray() ? type.toString() : type.asString())
+          + " but was " + describe(node));
+      return false;
+    }
+
+    if (node instanceof ScalarNode scalar) {
+      validateScalar(path, scalar, schema, location);
+    } else if (node instanceof MappingNode mapping) {
+      validateRequired(path, mapping, schema, locations, location);
+    } else if (node instanceof SequenceNode sequence) {
+      validateSize(path, sequence.getValue().size(), schema, "minItems", "maxItems", "items",
+          location);
+    }
+    return true;
+  }
+
+  private void validateRequired(String path, MappingNode mapping, JsonNode schema,
+      Map<Node, Location> locations, Location location) {
+    JsonNode required = schema.get("required");
+    if (required != null && required.isArray()) {
+      for (JsonNode name : required) {
+        Node value = getValue(mapping, name.asString());
+        if (value == null || value instanceof ScalarNode scalar && scalar.getValue().isEmpty()) {
+          report(value == null ? location : locations.getOrDefault(value, location),
+              path + "." + name.asString(), "missing required property '" + name.asString()
+                  + "'");
+        }
+      }
+    }
+  }
+
+  private void validateScalar(String path, ScalarNode scalar, JsonNode schema,
+      Location location) {
+    String value = scalar.getValue();
+    JsonNode options = schema.get("enum");
+    if (options != null && options.isArray()) {
+      boolean matched = false;
+      for (JsonNode option : options) {
+        matched |= matchesOption(scalar, option);
+      }
+      if (!matched) {
+        report(location, path, "'" + value + "' is not one of " + options);
+        return;
+      }
+    }
+
+    validateSize(path, value.codePointCount(0, value.length()), schema, "minLength", "maxLength",
+        "characters", location);
+
+    BigDecimal number = toNumber(scalar);
+    if (number == null) return;
+    validateBound(path, number, schema.get("minimum"), ">=", location);
+    validateBound(path, number, schema.get("maximum"), "<=", location);
+    validateBound(path, number, schema.get("exclusiveMinimum"), ">", location);
+    validateBound(path, number, schema.get("exclusiveMaximum"), "<", location);
+  }
+
+  private void validateSize(String path, int size, JsonNode schema, String minKeyword,
+      String maxKeyword, String unit, Location location) {
+    JsonNode min = schema.get(minKeyword);
+    if (min != null && min.isNumber() && size < min.asInt()) {
+      report(location, path, "must have at least " + min.asInt() + " " + unit);
+    }
+    JsonNode max = schema.get(maxKeyword);
+    if (max != null && max.isNumber() && size > max.asInt()) {
+      report(location, path, "must have at most " + max.asInt() + " " + unit);
+    }
+  }
+
+  private void validateBound(String path, BigDecimal number, JsonNode bound, String operator,
+      Location location) {
+    // Draft 4 boolean exclusiveMinimum/exclusiveMaximum modifiers are not numbers and are skipped
+    if (bound == null || !bound.isNumber()) return;
+    int comparison = number.compareTo(bound.decimalValue());
+    boolean valid = switch (operator) {
+      case ">=" -> comparison >= 0;
+      case "<=" -> comparison <= 0;
+      case ">" -> comparison > 0;
+      default -> comparison < 0;
+    };
+    if (!valid) {
+      report(location, path, "must be " + operator + " " + bound.asString());
+    }
+  }
+
+  private boolean matchesType(Node node, JsonNode type) {
+    if (type.isArray()) {
+      for (JsonNode option : type) {
+        if (matchesType(node, option)) return true;
+      }
+      return false;
+    }
+
+    Tag tag = node instanceof ScalarNode scalar ? NodeObjectConstructor.resolveImplicitTag(scalar)
+        : null;
+    return switch (type.asString()) {
+      case "object" -> node instanceof MappingNode;
+      case "array" -> node instanceof SequenceNode;
+      case "string" -> node instanceof ScalarNode;
+      case "integer" -> Tag.INT.equals(tag);
+      case "number" -> Tag.INT.equals(tag) || Tag.FLOAT.equals(tag);
+      case "boolean" -> Tag.BOOL.equals(tag);
+      case "null" -> Tag.NULL.equals(tag);
+      default -> true;
+    };
+  }
+
+  private boolean matchesOption(ScalarNode scalar, JsonNode option) {
+    if (option.isNumber()) {
+      BigDecimal number = toNumber(scalar);
+      return number != null && number.compareTo(option.decimalValue()) == 0;
+    }
+    if (option.isBoolean() || option.isNull()) {
+      return option.asString().equals(String.valueOf(constructor.constructTypedScalar(scalar)));
+    }
+    return option.asString().equals(scalar.getValue());
+  }
+
+  private BigDecimal toNumber(ScalarNode scalar) {
+    Tag tag = NodeObjectConstructor.resolveImplicitTag(scalar);
+    if (!Tag.INT.equals(tag) && !Tag.FLOAT.equals(tag)) return null;
+    Object value = constructor.constructTypedScalar(scalar);
+    if (value instanceof Double d && !Double.isFinite(d)) return null;
+    return new BigDecimal(value.toString());
+  }
+
+  private Node getValue(MappingNode mapping, String key) {
+    for (NodeTuple tuple : mapping.getValue()) {
+      if (tuple.getKeyNode() instanceof ScalarNode scalar && key.equals(scalar.getValue())) {
+        return tuple.getValueNode();
+      }
+    }
+    return null;
+  }
+
+  private String describe(Node node) {
+    if (node instanceof ScalarNode scalar) return "'" + scalar.getValue() + "'";
+    return node instanceof MappingNode ? "object" : "array";
+  }
+
+  private void report(Location location, String path, String message) {
+    violations.add(SchemaViolation.builder().sheetName(location.sheetName())
+        .rowNum(location.rowNum()).columnIndex(location.columnIndex()).path(path).message(message)
+        .build());
+    if (failFast) {
+      throwIfInvalid();
+    }
+  }
+
+}
@@ -0,0 +1,43 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import org.apache.poi.ss.util.CellReference;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A value that does not conform to the JSON Schema a {@link YamlWorkbookReader} validates against,
+ * located by its sheet, row and column.
+ *
+ * @author Wei-Ming Wu
+ */
+@Getter
+@Builder
+@ToString
+public class SchemaViolation {
+
+  /** Sheet holding the value */
+  private final String sheetName;
+
+  /** 0-based row of the value */
+  private final int rowNum;
+
+  /** 0-based column of the value, or of the key owning a missing property */
+  private final int columnIndex;
+
+  /** JSONPath-like location of the value, e.g. {@code $.applicant.age} */
+  private final String path;
+
+  /** Description of the violation */
+  private final String message;
+
+  /**
+   * Returns the location in A1 notation, e.g. {@code Sheet1!C4}.
+   *
+   * @return the cell reference
+   */
+  public String getCellReference() {
+    return new CellReference(sheetName, rowNum, columnIndex, false, false).formatAsString();
+  }
+
+}
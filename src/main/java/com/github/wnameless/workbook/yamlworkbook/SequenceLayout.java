@@ -0,0 +1,32 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+/**
+ * Defines how a YAML sequence is laid out in the workbook.
+ *
+ * @author Wei-Ming Wu
+ * @see SequenceLayoutStrategy
+ */
+public enum SequenceLayout {
+
+  /**
+   * One item-mark row per item, with nested content on the following rows (default behavior).
+   */
+  ITEMS,
+
+  /**
+   * A header row of keys followed by one row per item. Layout: [tableMark] [key1] [key2] ... then
+   * [itemMark] [value1] [value2] ... per item. Only applied to sequences whose items are mappings
+   * with the same scalar keys in the same order, scalar values and no comments; other sequences
+   * fall back to {@link #ITEMS}. Suitable for large tabular data.
+   */
+  TABLE,
+
+  /**
+   * Scalar items laid out horizontally. Layout: [compactMark] [item1] [item2] ..., wrapped onto
+   * further compact rows after a configurable number of items. Only applied to non-empty
+   * sequences of comment-free scalars; other sequences fall back to {@link #ITEMS}. Suitable for
+   * long lists of tags, ids or names.
+   */
+  COMPACT
+
+}
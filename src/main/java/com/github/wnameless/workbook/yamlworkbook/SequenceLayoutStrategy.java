@@ -0,0 +1,36 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.function.BiFunction;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+/**
+ * Strategy for choosing the {@link SequenceLayout} of each sequence written by
+ * {@link YamlWorkbookWriter}.
+ * <p>
+ * The first argument is the JSON path of the sequence, e.g. {@code "$"} for a root sequence or
+ * {@code "$.servers"} and {@code "$.groups[*].members"} for nested ones. Returning
+ * {@link SequenceLayout#TABLE} for a sequence that does not qualify for a table has no effect.
+ *
+ * @author Wei-Ming Wu
+ */
+public interface SequenceLayoutStrategy extends BiFunction<String, SequenceNode, SequenceLayout> {
+
+  /** Default implementation that always uses {@link SequenceLayout#ITEMS}. */
+  public static final SequenceLayoutStrategy DEFAULT = new DefaultSequenceLayoutStrategy();
+
+  /** Uses {@link SequenceLayout#TABLE} for every sequence whose items share a key set. */
+  public static final SequenceLayoutStrategy AUTO = (path, node) -> SequenceLayout.TABLE;
+
+  /** Uses {@link SequenceLayout#COMPACT} for every sequence of scalars. */
+  public static final SequenceLayoutStrategy COMPACT = (path, node) -> SequenceLayout.COMPACT;
+
+  /**
+   * Determines the layout of a sequence.
+   *
+   * @param path the JSON path of the sequence
+   * @param node the sequence node
+   * @return the requested layout
+   */
+  SequenceLayout apply(String path, SequenceNode node);
+
+}
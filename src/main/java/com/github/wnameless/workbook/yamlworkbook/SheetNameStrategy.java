@@ -5,7 +5,8 @@ import java.util.function.Function;
 /**
  * Strategy for generating sheet names in workbooks.
  * <p>
- * Provides naming for both visible sheets and hidden sheets (used for large enum dropdowns).
+ * Provides naming for visible sheets, hidden sheets (used for large enum dropdowns) and continuation
+ * sheets (used when a visible sheet reaches its row limit).
  *
  * @author Wei-Ming Wu
  */
@@ -25,4 +26,17 @@ public interface SheetNameStrategy extends Function<Integer, String> {
     return apply(visibleSheetIndex) + "Hidden";
   }
 
+  /**
+   * Returns the continuation sheet name for a given visible sheet index. The visible sheet itself is
+   * part 1, so the first continuation sheet is part 2. By default, appends " (part)" to the visible
+   * sheet name, e.g. "Sheet1 (2)".
+   *
+   * @param visibleSheetIndex the index of the visible sheet
+   * @param part the part number of the continuation sheet, starting from 2
+   * @return the continuation sheet name
+   */
+  default String applyContinuation(int visibleSheetIndex, int part) {
+    return apply(visibleSheetIndex) + " (" + part + ")";
+  }
+
 }
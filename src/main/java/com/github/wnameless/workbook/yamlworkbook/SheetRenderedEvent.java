@@ -0,0 +1,30 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted for each sheet a writer has finished rendering, spanning from sheet creation
+ * to the end of the conversion.
+ *
+ * @author Wei-Ming Wu
+ */
+@Name("com.github.wnameless.workbook.yamlworkbook.SheetRendered")
+@Label("Sheet Rendered")
+@Category("YAML Workbook")
+@Description("A visible or hidden sheet was rendered by YamlWorkbookWriter")
+final class SheetRenderedEvent extends Event {
+
+  @Label("Sheet Name")
+  String sheetName;
+
+  @Label("Hidden")
+  boolean hidden;
+
+  @Label("Rows")
+  int rows;
+
+}
@@ -0,0 +1,293 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackagePartName;
+import org.apache.poi.openxml4j.opc.PackageRelationship;
+import org.apache.poi.openxml4j.opc.PackageRelationshipTypes;
+import org.apache.poi.openxml4j.opc.PackagingURIHelper;
+import org.apache.poi.openxml4j.opc.TargetMode;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.github.wnameless.json.jsonschemadatagenerator.ObjectMapperFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Per-document metadata embedded in a workbook by {@link YamlWorkbookWriter}: the row range and a
+ * content fingerprint of the cells rendered for each document, and optionally its source YAML.
+ * <p>
+ * The manifest is stored as a gzip-compressed, Base64-encoded JSON document inside a custom XML
+ * package part, which spreadsheet applications keep when the workbook is saved. Documents are
+ * identified by the sheet and row of their frontmatter; {@link YamlWorkbookReader} reuses the
+ * embedded source or a previously reconstructed Node of a document only if its fingerprint still
+ * matches.
+ * <p>
+ * The manifest is an unauthenticated cache, not a tamper-proof record: fingerprints are unkeyed
+ * hashes, so anyone editing the package can embed a source that differs from the visible cells
+ * together with matching fingerprints. Its size is bounded by
+ * {@link ConversionLimits#getMaxEmbeddedSourceSize()} when read.
+ *
+ * @author Wei-Ming Wu
+ */
+final class SourceManifest {
+
+  static final String PART_NAME = "/customXml/yamlWorkbookSource.xml";
+
+  private static final String NAMESPACE = "urn:com.github.wnameless.workbook.yamlworkbook:source";
+  private static final int VERSION = 2;
+
+  private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+  /**
+   * A document entry.
+   *
+   * @param sheetName the sheet holding the frontmatter row of the document
+   * @param rowNum the frontmatter row number
+   * @param rowCount the number of rows following the frontmatter (across continuation sheets)
+   * @param documentIndex the index of the document in the order it was written
+   * @param hash the content fingerprint of the document rows
+   * @param yaml the source YAML of the document, or null if the source is not embedded
+   */
+  record Entry(String sheetName, int rowNum, int rowCount, int documentIndex, String hash,
+      String yaml) {}
+
+  void add(Row frontmatter, int documentIndex, List<Row> rows, String yaml) {
+    var entry = new Entry(frontmatter.getSheet().getSheetName(), frontmatter.getRowNum(),
+        rows.size(), documentIndex, hash(rows), yaml);
+    entries.put(key(entry.sheetName(), entry.rowNum()), entry);
+  }
+
+  /**
+   * Returns the entry of a document if its rows are unchanged. The row count is compared before
+   * the fingerprint, so most edits that add or remove rows are detected without hashing.
+   *
+   * @param frontmatter the frontmatter row of the document
+   * @param rows the document rows following the frontmatter
+   * @return the entry, or null if the document is unknown or was edited
+   */
+  Entry getUnchangedEntry(Row frontmatter, List<Row> rows) {
+    Entry entry = entries.get(key(frontmatter.getSheet().getSheetName(), frontmatter.getRowNum()));
+    if (entry == null || entry.rowCount() != rows.size() || !entry.hash().equals(hash(rows))) {
+      return null;
+    }
+    return entry;
+  }
+
+  /**
+   * Returns the entries of all documents.
+   *
+   * @return the entries, in the order they were added
+   */
+  Collection<Entry> getEntries() {
+    return entries.values();
+  }
+
+  /**
+   * Writes this manifest into the package of a workbook, replacing any previous manifest.
+   *
+   * @param workbook the workbook
+   */
+  void write(XSSFWorkbook workbook) {
+    ObjectNode root = ObjectMapperFactory.getObjectMapper().createObjectNode();
+    root.put("version", VERSION);
+    ArrayNode documents = root.putArray("documents");
+    for (Entry entry : entries.values()) {
+      ObjectNode document = documents.addObject().put("sheet", entry.sheetName())
+          .put("row", entry.rowNum()).put("rows", entry.rowCount())
+          .put("index", entry.documentIndex()).put("hash", entry.hash());
+      if (entry.yaml() != null) {
+        document.put("yaml", entry.yaml());
+      }
+    }
+
+    var bytes = new ByteArrayOutputStream();
+    try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+      ObjectMapperFactory.getObjectMapper().writeValue(gzip, root);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    String xml = "<source xmlns=\"" + NAMESPACE + "\">"
+        + Base64.getEncoder().encodeToString(bytes.toByteArray()) + "</source>";
+
+    try {
+      PackagePartName partName = PackagingURIHelper.createPartName(PART_NAME);
+      var pkg = workbook.getPackage();
+      if (pkg.containPart(partName)) {
+        pkg.removePart(partName);
+      } else {
+        workbook.getPackagePart().addRelationship(partName, TargetMode.INTERNAL,
+            PackageRelationshipTypes.CUSTOM_XML);
+      }
+      PackagePart part = pkg.createPart(partName, "application/xml");
+      try (OutputStream out = part.getOutputStream()) {
+        out.write(xml.getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (InvalidFormatException e) {
+      throw new IllegalStateException("Failed to embed source manifest", e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Removes the manifest embedded in a workbook, if any.
+   *
+   * @param workbook the workbook
+   */
+  static void remove(XSSFWorkbook workbook) {
+    try {
+      PackagePart workbookPart = workbook.getPackagePart();
+      for (PackageRelationship rel : workbookPart
+          .getRelationshipsByType(PackageRelationshipTypes.CUSTOM_XML)) {
+        PackagePart part = workbookPart.getRelatedPart(rel);
+        if (part != null && PART_NAME.equals(part.getPartName().getName())) {
+          workbookPart.removeRelationship(rel.getId());
+          workbook.getPackage().removePart(part);
+          return;
+        }
+      }
+    } catch (InvalidFormatException e) {
+      throw new IllegalStateException("Failed to remove source manifest", e);
+    }
+  }
+
+  /**
+   * Reads the manifest embedded in a workbook within the default limits.
+   *
+   * @param workbook the workbook
+   * @return the manifest, or null if the workbook has none
+   */
+  static SourceManifest read(Workbook workbook) {
+    return read(workbook, new ConversionGuard(ConversionLimits.NONE, null));
+  }
+
+  /**
+   * Reads the manifest embedded in a workbook.
+   *
+   * @param workbook the workbook
+   * @param guard the guard bounding the stored and decompressed size of the manifest
+   * @return the manifest, or null if the workbook has none
+   * @throws ConversionLimitException if the manifest exceeds
+   *         {@link ConversionLimits#getMaxEmbeddedSourceSize()}
+   */
+  static SourceManifest read(Workbook workbook, ConversionGuard guard) {
+    if (!(workbook instanceof XSSFWorkbook xssfWorkbook)) {
+      return null;
+    }
+
+    try {
+      PackagePart workbookPart = xssfWorkbook.getPackagePart();
+      for (PackageRelationship rel : workbookPart
+          .getRelationshipsByType(PackageRelationshipTypes.CUSTOM_XML)) {
+        PackagePart part = workbookPart.getRelatedPart(rel);
+        if (part != null && PART_NAME.equals(part.getPartName().getName())) {
+          try (InputStream in = part.getInputStream()) {
+            return parse(new String(readBounded(in, guard), StandardCharsets.UTF_8), guard);
+          }
+        }
+      }
+    } catch (InvalidFormatException e) {
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return null;
+  }
+
+  private static SourceManifest parse(String xml, ConversionGuard guard) throws IOException {
+    int start = xml.indexOf('>', xml.indexOf("<source")) + 1;
+    int end = xml.lastIndexOf("</");
+    if (start <= 0 || end < start) {
+      return null;
+    }
+
+    byte[] bytes = Base64.getMimeDecoder().decode(xml.substring(start, end).trim());
+    JsonNode root;
+    try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      root = ObjectMapperFactory.getObjectMapper().readTree(readBounded(gzip, guard));
+    }
+    if (root.path("version").asInt() != VERSION) {
+      return null;
+    }
+
+    var manifest = new SourceManifest();
+    for (JsonNode document : root.path("documents")) {
+      var entry = new Entry(document.path("sheet").asString(), document.path("row").asInt(),
+          document.path("rows").asInt(), document.path("index").asInt(),
+          document.path("hash").asString(),
+          document.hasNonNull("yaml") ? document.get("yaml").asString() : null);
+      manifest.entries.put(key(entry.sheetName(), entry.rowNum()), entry);
+    }
+    return manifest;
+  }
+
+  // Fails as soon as the stream exceeds the limit, before a zip bomb is fully inflated
+  private static byte[] readBounded(InputStream in, ConversionGuard guard) throws IOException {
+    var out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+      guard.embeddedSource(out.size());
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Hashes the cell values, cell comments and positions of the given rows with SHA-256. Cell
+   * comments are included because readable modes store original keys and enum values in them.
+   *
+   * @param rows the rows
+   * @return the hex encoded hash
+   */
+  static String hash(List<Row> rows) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
+    var text = new StringBuilder();
+    for (Row row : rows) {
+      text.setLength(0);
+      text.append('\n');
+      for (Cell cell : row) {
+        text.append(cell.getColumnIndex()).append('\u0000').append(cell).append('\u0000');
+        Comment comment = cell.getCellComment();
+        if (comment != null) {
+          text.append(comment.getString().getString()).append('\u0000');
+        }
+      }
+      digest.update(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static String key(String sheetName, int rowNum) {
+    return sheetName + "!" + rowNum;
+  }
+
+}
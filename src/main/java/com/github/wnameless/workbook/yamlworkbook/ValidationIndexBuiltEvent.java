@@ -0,0 +1,26 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when a reader has indexed the dropdown validations of a sheet.
+ *
+ * @author Wei-Ming Wu
+ */
+@Name("com.github.wnameless.workbook.yamlworkbook.ValidationIndexBuilt")
+@Label("Validation Index Built")
+@Category("YAML Workbook")
+@Description("Dropdown validations of a sheet were indexed by YamlWorkbookReader")
+final class ValidationIndexBuiltEvent extends Event {
+
+  @Label("Sheet Name")
+  String sheetName;
+
+  @Label("Validations")
+  int validations;
+
+}
@@ -0,0 +1,241 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.resolver.Resolver;
+import org.yaml.snakeyaml.serializer.Serializer;
+import com.github.wnameless.json.jsonschemadatagenerator.ObjectMapperFactory;
+import lombok.Builder;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+
+/**
+ * Reads many returned workbooks concurrently and aggregates their documents into a single NDJSON
+ * or YAML stream.
+ * <p>
+ * Workbooks are read by a fixed pool of {@code parallelism} threads. Results are written in input
+ * order, and at most two workbooks per thread are read ahead, so memory stays bounded regardless
+ * of the number of files. A workbook that cannot be read, or that was not generated from the
+ * expected {@code jsonSchema}, is reported as a {@link HarvestFailure} and contributes no
+ * documents; the remaining workbooks are still harvested.
+ *
+ * <pre>{@code
+ * HarvestReport report = WorkbookHarvester.builder()
+ *     .jsonSchema(schema)
+ *     .build()
+ *     .harvest(Path.of("returned"), out);
+ * }</pre>
+ *
+ * @author Wei-Ming Wu
+ * @see YamlWorkbookReader
+ */
+@Builder
+public class WorkbookHarvester {
+
+  /** Reader converting each workbook; FORM_MODE by default */
+  @Builder.Default
+  private YamlWorkbookReader reader =
+      YamlWorkbookReader.builder().outputMode(OutputMode.FORM_MODE).build();
+  /** JSON Schema the workbooks must have been generated from; null skips the check */
+  private String jsonSchema;
+  /** Number of workbooks read concurrently */
+  @Builder.Default
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+  /** Format of the aggregated output */
+  @Builder.Default
+  private HarvestFormat format = HarvestFormat.NDJSON;
+
+  /**
+   * Harvests all .xlsx files of a directory in file name order.
+   *
+   * @param directory the directory holding the returned workbooks
+   * @param out the output stream to write to (not closed by this method)
+   * @return the harvest report
+   * @throws IOException if the directory cannot be listed
+   */
+  public HarvestReport harvest(Path directory, OutputStream out) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return harvest(files.filter(file -> file.getFileName().toString().endsWith(".xlsx"))
+          .sorted(), out);
+    }
+  }
+
+  /**
+   * Harvests a stream of workbook files. The stream is consumed lazily as workbooks complete.
+   *
+   * @param files the workbook files
+   * @param out the output stream to write to (not closed by this method)
+   * @return the harvest report
+   * @throws IllegalArgumentException if parallelism is not positive
+   */
+  public HarvestReport harvest(Stream<Path> files, OutputStream out) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+    }
+    String expectedFingerprint = jsonSchema == null ? null : SchemaFingerprint.of(jsonSchema);
+
+    var report = new ReportBuilder();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      Deque<Future<FileResult>> pending = new ArrayDeque<>();
+      Iterator<Path> fileIter = files.iterator();
+      while (fileIter.hasNext()) {
+        Path file = fileIter.next();
+        pending.add(executor.submit(() -> harvestFile(file, expectedFingerprint)));
+        if (pending.size() >= parallelism * 2) {
+          write(pending.poll(), out, report);
+        }
+      }
+      while (!pending.isEmpty()) {
+        write(pending.poll(), out, report);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return report.build();
+  }
+
+  private FileResult harvestFile(Path file, String expectedFingerprint) {
+    try (Workbook workbook = WorkbookFactory.create(file.toFile(), null, true)) {
+      if (expectedFingerprint != null
+          && !expectedFingerprint.equals(SchemaFingerprint.read(workbook))) {
+        throw new IllegalStateException("Workbook was not generated from the expected schema");
+      }
+      List<Node> documents = reader.fromWorkbook(workbook);
+      var bytes = new ByteArrayOutputStream();
+      if (format == HarvestFormat.YAML) {
+        writeYaml(documents, bytes);
+      } else {
+        writeNdjson(documents, bytes);
+      }
+      return new FileResult(file, bytes.toByteArray(), documents.size(), null);
+    } catch (Exception e) {
+      return new FileResult(file, null, 0, e);
+    }
+  }
+
+  private void writeNdjson(List<Node> documents, OutputStream out) {
+    try (JsonGenerator generator = ObjectMapperFactory.getObjectMapper().writer()
+        .without(StreamWriteFeature.AUTO_CLOSE_TARGET).withRootValueSeparator("")
+        .createGenerator(out)) {
+      NodeJsonWriter jsonWriter = new NodeJsonWriter(generator, true);
+      for (Node document : documents) {
+        jsonWriter.write(document);
+        generator.writeRaw('\n');
+      }
+    }
+  }
+
+  private void writeYaml(List<Node> documents, OutputStream out) throws IOException {
+    DumperOptions options = new DumperOptions();
+    options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+    options.setExplicitStart(true);
+    var writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    Serializer serializer =
+        new Serializer(new Emitter(writer, options), new Resolver(), options, null);
+    serializer.open();
+    Set<Node> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Node document : documents) {
+      resolveImplicitTags(document, visited);
+      serializer.serialize(document);
+    }
+    serializer.close();
+    writer.flush();
+  }
+
+  /**
+   * Retags plain string scalars as SnakeYAML would resolve them, so the YAML output is typed like
+   * the NDJSON output instead of quoting every number and boolean.
+   */
+  private void resolveImplicitTags(Node node, Set<Node> visited) {
+    if (!visited.add(node)) return;
+    if (node instanceof ScalarNode scalar) {
+      scalar.setTag(NodeObjectConstructor.resolveImplicitTag(scalar));
+    } else if (node instanceof MappingNode mapping) {
+      for (NodeTuple tuple : mapping.getValue()) {
+        resolveImplicitTags(tuple.getKeyNode(), visited);
+        resolveImplicitTags(tuple.getValueNode(), visited);
+      }
+    } else if (node instanceof SequenceNode sequence) {
+      for (Node item : sequence.getValue()) {
+        resolveImplicitTags(item, visited);
+      }
+    }
+  }
+
+  private void write(Future<FileResult> future, OutputStream out, ReportBuilder report) {
+    FileResult result;
+    try {
+      result = future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Harvest interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Harvest failed", e.getCause());
+    }
+
+    report.files++;
+    if (result.error() != null) {
+      report.failures
+          .add(HarvestFailure.builder().file(result.file()).cause(result.error()).build());
+      return;
+    }
+    try {
+      out.write(result.output());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    report.documents += result.documents();
+  }
+
+  private record FileResult(Path file, byte[] output, int documents, Exception error) {}
+
+  private static final class ReportBuilder {
+
+    private int files;
+    private long documents;
+    private final List<HarvestFailure> failures = new ArrayList<>();
+
+    private HarvestReport build() {
+      return HarvestReport.builder().files(files).documents(documents)
+          .failures(List.copyOf(failures)).build();
+    }
+
+  }
+
+  /**
+   * Builder class for {@link WorkbookHarvester}.
+   * <p>
+   * This stub class is completed by Lombok's {@code @Builder} annotation processor.
+   */
+  public static class WorkbookHarvesterBuilder {}
+
+}
@@ -0,0 +1,164 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.yaml.snakeyaml.nodes.Node;
+
+/**
+ * A {@link Flow.Subscriber} that writes the documents it receives into a workbook while they
+ * arrive, created by {@link YamlWorkbookWriter#toWorkbookSubscriber()} and
+ * {@link YamlWorkbookWriter#toWorkbookTextSubscriber()}.
+ * <p>
+ * The writer runs on its executor as soon as the subscription starts and consumes documents from
+ * a bounded buffer. Only as many documents are requested as the buffer can hold, and one more is
+ * requested each time the writer takes one, so a fast publisher never outruns the writer. The
+ * workbook is available from {@link #getWorkbook()} once the publisher completes; cancelling that
+ * future stops the writer and cancels the subscription.
+ *
+ * @param <T> the document type, a {@link Node} or YAML text
+ * @author Wei-Ming Wu
+ */
+public final class WorkbookSubscriber<T> implements Flow.Subscriber<T> {
+
+  private static final Object COMPLETE = new Object();
+
+  private final Function<T, Iterable<Node>> toNodes;
+  private final Function<Iterable<Node>, Workbook> conversion;
+  private final Executor executor;
+  private final int bufferSize;
+  // Holds at most bufferSize documents plus the terminal signal
+  private final BlockingQueue<Object> buffer;
+  private final CompletableFuture<Workbook> workbook = new CompletableFuture<>();
+  private Flow.Subscription subscription;
+
+  private record Failure(Throwable cause) {}
+
+  WorkbookSubscriber(Function<T, Iterable<Node>> toNodes,
+      Function<Iterable<Node>, Workbook> conversion, Executor executor, int bufferSize) {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+    }
+    this.toNodes = toNodes;
+    this.conversion = conversion;
+    this.executor = executor;
+    this.bufferSize = bufferSize;
+    this.buffer = new ArrayBlockingQueue<>(bufferSize + 1);
+  }
+
+  /**
+   * Returns the workbook written from the received documents.
+   *
+   * @return a future completed with the workbook when the publisher completes, or exceptionally if
+   *         the publisher or the writer fails
+   */
+  public CompletableFuture<Workbook> getWorkbook() {
+    return workbook;
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    if (this.subscription != null) {
+      subscription.cancel();
+      return;
+    }
+    this.subscription = subscription;
+    request(bufferSize);
+
+    CompletableFuture<Workbook> written =
+        AsyncConversions.supply(() -> conversion.apply(this::documents), executor);
+    written.whenComplete((result, error) -> {
+      if (error != null) cancel();
+    });
+    // Cancelling the exposed future reaches the writer through the underlying one
+    workbook.whenComplete((result, error) -> {
+      if (workbook.isCancelled()) written.cancel(true);
+    });
+    written.whenComplete((result, error) -> {
+      if (error != null) {
+        workbook.completeExceptionally(error);
+      } else {
+        workbook.complete(result);
+      }
+    });
+  }
+
+  @Override
+  public void onNext(T item) {
+    if (!buffer.offer(item)) {
+      onError(new IllegalStateException("Publisher sent more documents than requested"));
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    buffer.offer(new Failure(throwable));
+  }
+
+  @Override
+  public void onComplete() {
+    buffer.offer(COMPLETE);
+  }
+
+  private Iterator<Node> documents() {
+    return new Iterator<Node>() {
+
+      private Iterator<Node> nodes = Collections.emptyIterator();
+      private boolean done;
+
+      @Override
+      public boolean hasNext() {
+        while (!nodes.hasNext() && !done) {
+          Object signal = take();
+          if (signal == COMPLETE) {
+            done = true;
+          } else if (signal instanceof Failure failure) {
+            done = true;
+            if (failure.cause() instanceof RuntimeException e) throw e;
+            throw new IllegalStateException("Document stream failed", failure.cause());
+          } else {
+            request(1);
+            @SuppressWarnings("unchecked")
+            T item = (T) signal;
+            nodes = toNodes.apply(item).iterator();
+          }
+        }
+        return nodes.hasNext();
+      }
+
+      @Override
+      public Node next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return nodes.next();
+      }
+
+    };
+  }
+
+  // Subscription calls come from the publisher, the writer and cancelling threads
+  private synchronized void request(long n) {
+    subscription.request(n);
+  }
+
+  private synchronized void cancel() {
+    subscription.cancel();
+  }
+
+  private Object take() {
+    try {
+      return buffer.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Conversion cancelled");
+    }
+  }
+
+}
@@ -3,8 +3,8 @@ package com.github.wnameless.workbook.yamlworkbook;
 /**
  * Defines the syntax symbols used for YAML/workbook conversion.
  * <p>
- * Provides configurable markers for frontmatter, comments, value escaping, sequence items, and
- * indentation cell count.
+ * Provides configurable markers for frontmatter, comments, value escaping, sequence items, table
+ * headers, compact sequences, YAML paths, anchors and aliases, and indentation cell count.
  *
  * @author Wei-Ming Wu
  */
@@ -48,5 +48,67 @@ public interface WorkbookSyntax {
    */
   Short getIndentCellCount();
 
-}
+  /**
+   * Returns the marker of a table header row (see {@link SequenceLayout#TABLE}).
+   *
+   * @return the table marker, typically "|"
+   */
+  default String getTableMark() {
+    return "|";
+  }
+
+  /**
+   * Returns the marker of a compact sequence row (see {@link SequenceLayout#COMPACT}).
+   *
+   * @return the compact marker, typically "[]"
+   */
+  default String getCompactMark() {
+    return "[]";
+  }
 
+  /**
+   * Returns the separator between mapping keys in {@link IndentationMode#PATH}.
+   *
+   * @return the path separator, typically "."
+   */
+  default String getPathSeparator() {
+    return ".";
+  }
+
+  /**
+   * Returns the opening marker of a sequence index in {@link IndentationMode#PATH}.
+   *
+   * @return the index start marker, typically "["
+   */
+  default String getPathIndexStart() {
+    return "[";
+  }
+
+  /**
+   * Returns the closing marker of a sequence index in {@link IndentationMode#PATH}.
+   *
+   * @return the index end marker, typically "]"
+   */
+  default String getPathIndexEnd() {
+    return "]";
+  }
+
+  /**
+   * Returns the prefix of an anchor cell when anchors are preserved.
+   *
+   * @return the anchor marker, typically {@code "&"}
+   */
+  default String getAnchorMark() {
+    return "&";
+  }
+
+  /**
+   * Returns the prefix of an alias cell when anchors are preserved.
+   *
+   * @return the alias marker, typically "*"
+   */
+  default String getAliasMark() {
+    return "*";
+  }
+
+}
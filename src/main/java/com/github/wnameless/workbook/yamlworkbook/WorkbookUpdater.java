@@ -0,0 +1,393 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.ClientAnchor;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.CreationHelper;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * Applies a freshly rendered workbook to an existing workbook in place, as used by
+ * {@link YamlWorkbookWriter#updateWorkbook}.
+ * <p>
+ * Sheets are matched by name. Within a sheet, rows are grouped into blocks, each starting at a row
+ * with a cell in the first column, i.e. a frontmatter row, a top-level entry or a comment of a
+ * document. Blocks are aligned by their longest common subsequence and matched blocks are left
+ * untouched, so inserting an entry or editing two distant entries does not rewrite the blocks
+ * around them. Each run of unmatched blocks is diffed row by row: changed rows are updated in
+ * place and only the surplus rows are inserted or removed by shifting the rows after them.
+ * <p>
+ * Every row of both workbooks is compared by a signature of its cells, their styles and comments,
+ * so the cost of an update is linear in the size of the workbook, plus the alignment of the changed
+ * blocks, which is quadratic up to a million block pairs; only the writes are limited to changed
+ * rows. Styles are compared by their formatting rather than their index, and only the formatting of
+ * the {@link CellStylePool} roles counts, so other formatting users applied is kept. A rendered style is
+ * copied into the target workbook once, reusing an equal style the target already has.
+ *
+ * @author Wei-Ming Wu
+ */
+final class WorkbookUpdater {
+
+  /** The start of the signature of a row with a cell in the first column */
+  private static final String FIRST_COLUMN = "0\u0000";
+  /** Changed blocks beyond this product of old and new counts are paired in order */
+  private static final long MAX_ALIGNMENT_CELLS = 1_000_000;
+
+  private final SheetNameStrategy sheetNameStrategy;
+  /** Formatting keys of the styles of each workbook, by style index */
+  private final Map<Workbook, Map<Short, String>> styleKeys = new IdentityHashMap<>();
+  /** Formatting keys of the styles the writer assigns */
+  private final Set<String> writerStyles = new HashSet<>();
+  /** Styles of the target workbook by formatting key; null until a style is copied */
+  private Map<String, CellStyle> targetStyles;
+
+  WorkbookUpdater(SheetNameStrategy sheetNameStrategy) {
+    this.sheetNameStrategy = sheetNameStrategy;
+  }
+
+  /**
+   * Updates the target workbook to the content of the rendered workbook.
+   *
+   * @param target the workbook to update
+   * @param rendered the workbook rendered from the new content
+   */
+  void update(Workbook target, Workbook rendered) {
+    // The rendered workbook is discarded afterwards, so it can hold styles the content did not use
+    var stylePool = new CellStylePool(rendered);
+    for (CellStylePool.Role role : CellStylePool.Role.values()) {
+      writerStyles.add(getStyleKey(rendered, stylePool.get(role).getIndex()));
+    }
+
+    Set<String> renderedNames = new HashSet<>();
+    int insertIdx = 0;
+    for (int i = 0; i < rendered.getNumberOfSheets(); i++) {
+      Sheet source = rendered.getSheetAt(i);
+      String sheetName = source.getSheetName();
+      renderedNames.add(sheetName);
+
+      Sheet sheet = target.getSheet(sheetName);
+      if (sheet == null) {
+        sheet = target.createSheet(sheetName);
+        target.setSheetOrder(sheetName, insertIdx);
+      }
+      int sheetIdx = target.getSheetIndex(sheet);
+      target.setSheetHidden(sheetIdx, rendered.isSheetHidden(i));
+      insertIdx = sheetIdx + 1;
+      updateSheet(sheet, source);
+    }
+
+    // Drop generated sheets the new content no longer needs; other sheets are left alone
+    Set<String> generatedNames = getGeneratedSheetNames(target.getNumberOfSheets());
+    for (int i = target.getNumberOfSheets() - 1; i >= 0; i--) {
+      String sheetName = target.getSheetName(i);
+      if (!renderedNames.contains(sheetName) && generatedNames.contains(sheetName)) {
+        target.removeSheetAt(i);
+      }
+    }
+  }
+
+  private Set<String> getGeneratedSheetNames(int sheetCount) {
+    Set<String> names = new HashSet<>();
+    for (int i = 0; i < sheetCount; i++) {
+      names.add(sheetNameStrategy.apply(i));
+      names.add(sheetNameStrategy.applyHidden(i));
+      for (int part = 2; part <= sheetCount; part++) {
+        names.add(sheetNameStrategy.applyContinuation(i, part));
+      }
+    }
+    return names;
+  }
+
+  private void updateSheet(Sheet sheet, Sheet source) {
+    List<String> oldRows = getRowSignatures(sheet);
+    List<String> newRows = getRowSignatures(source);
+    List<Integer> oldBlocks = getBlockStarts(oldRows);
+    List<Integer> newBlocks = getBlockStarts(newRows);
+    Map<List<String>, Integer> blockIds = new HashMap<>();
+    int[] oldIds = getBlockIds(oldRows, oldBlocks, blockIds);
+    int[] newIds = getBlockIds(newRows, newBlocks, blockIds);
+
+    // Later runs go first, so shifting rows never moves a run that is still to be updated
+    List<int[]> runs = alignBlocks(oldIds, newIds);
+    for (int i = runs.size() - 1; i >= 0; i--) {
+      int[] run = runs.get(i);
+      updateRange(sheet, source, oldRows, newRows, oldBlocks.get(run[0]), oldBlocks.get(run[1]),
+          newBlocks.get(run[2]), newBlocks.get(run[3]));
+    }
+  }
+
+  /**
+   * Aligns old and new blocks by their longest common subsequence.
+   *
+   * @return the runs of unmatched blocks as {old start, old end, new start, new end}, in order
+   */
+  private List<int[]> alignBlocks(int[] oldIds, int[] newIds) {
+    int prefix = 0;
+    int maxPrefix = Math.min(oldIds.length, newIds.length);
+    while (prefix < maxPrefix && oldIds[prefix] == newIds[prefix]) {
+      prefix++;
+    }
+    int suffix = 0;
+    int maxSuffix = maxPrefix - prefix;
+    while (suffix < maxSuffix
+        && oldIds[oldIds.length - 1 - suffix] == newIds[newIds.length - 1 - suffix]) {
+      suffix++;
+    }
+    int oldEnd = oldIds.length - suffix;
+    int newEnd = newIds.length - suffix;
+    int oldCount = oldEnd - prefix;
+    int newCount = newEnd - prefix;
+
+    List<int[]> runs = new ArrayList<>();
+    if ((long) oldCount * newCount > MAX_ALIGNMENT_CELLS) {
+      // Too many changed blocks to align: pair them in order
+      int paired = Math.min(oldCount, newCount);
+      for (int i = prefix; i < prefix + paired; i++) {
+        runs.add(new int[] {i, i + 1, i, i + 1});
+      }
+      addRun(runs, prefix + paired, oldEnd, prefix + paired, newEnd);
+      return runs;
+    }
+
+    int[][] lcs = new int[oldCount + 1][newCount + 1];
+    for (int i = oldCount - 1; i >= 0; i--) {
+      for (int j = newCount - 1; j >= 0; j--) {
+        lcs[i][j] = oldIds[prefix + i] == newIds[prefix + j] ? lcs[i + 1][j + 1] + 1
+            : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+      }
+    }
+    int i = 0;
+    int j = 0;
+    int runOld = 0;
+    int runNew = 0;
+    while (i < oldCount && j < newCount) {
+      if (oldIds[prefix + i] == newIds[prefix + j]) {
+        addRun(runs, prefix + runOld, prefix + i, prefix + runNew, prefix + j);
+        runOld = ++i;
+        runNew = ++j;
+      } else if (lcs[i + 1][j] >= lcs[i][j + 1]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    addRun(runs, prefix + runOld, oldEnd, prefix + runNew, newEnd);
+    return runs;
+  }
+
+  private void addRun(List<int[]> runs, int oldStart, int oldEnd, int newStart, int newEnd) {
+    if (oldStart < oldEnd || newStart < newEnd) {
+      runs.add(new int[] {oldStart, oldEnd, newStart, newEnd});
+    }
+  }
+
+  private int[] getBlockIds(List<String> rows, List<Integer> starts,
+      Map<List<String>, Integer> blockIds) {
+    int[] ids = new int[starts.size() - 1];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = blockIds.computeIfAbsent(rows.subList(starts.get(i), starts.get(i + 1)),
+          block -> blockIds.size());
+    }
+    return ids;
+  }
+
+  private List<Integer> getBlockStarts(List<String> rows) {
+    List<Integer> starts = new ArrayList<>();
+    starts.add(0);
+    for (int i = 1; i < rows.size(); i++) {
+      if (rows.get(i).startsWith(FIRST_COLUMN)) starts.add(i);
+    }
+    if (!rows.isEmpty()) starts.add(rows.size());
+    return starts;
+  }
+
+  private void updateRange(Sheet sheet, Sheet source, List<String> oldRows, List<String> newRows,
+      int oldStart, int oldEnd, int newStart, int newEnd) {
+    while (oldStart < oldEnd && newStart < newEnd
+        && oldRows.get(oldStart).equals(newRows.get(newStart))) {
+      oldStart++;
+      newStart++;
+    }
+    while (oldEnd > oldStart && newEnd > newStart
+        && oldRows.get(oldEnd - 1).equals(newRows.get(newEnd - 1))) {
+      oldEnd--;
+      newEnd--;
+    }
+
+    int oldCount = oldEnd - oldStart;
+    int newCount = newEnd - newStart;
+    int shared = Math.min(oldCount, newCount);
+    for (int i = 0; i < shared; i++) {
+      if (!oldRows.get(oldStart + i).equals(newRows.get(newStart + i))) {
+        Row row = sheet.getRow(oldStart + i);
+        updateRow(row != null ? row : sheet.createRow(oldStart + i),
+            source.getRow(newStart + i));
+      }
+    }
+
+    for (int i = oldStart + shared; i < oldEnd; i++) {
+      removeRow(sheet, sheet.getRow(i));
+    }
+    int delta = newCount - oldCount;
+    if (delta != 0 && oldEnd <= sheet.getLastRowNum()) {
+      sheet.shiftRows(oldEnd, sheet.getLastRowNum(), delta);
+    }
+    for (int i = shared; i < newCount; i++) {
+      updateRow(sheet.createRow(oldStart + i), source.getRow(newStart + i));
+    }
+  }
+
+  private List<String> getRowSignatures(Sheet sheet) {
+    List<String> signatures = new ArrayList<>(sheet.getLastRowNum() + 1);
+    var text = new StringBuilder();
+    for (int i = 0; i <= sheet.getLastRowNum(); i++) {
+      Row row = sheet.getRow(i);
+      text.setLength(0);
+      if (row != null) {
+        for (Cell cell : row) {
+          Comment comment = cell.getCellComment();
+          text.append(cell.getColumnIndex()).append('\u0000').append(cell).append('\u0000')
+              .append(getWriterStyleKey(cell)).append('\u0000')
+              .append(comment == null ? "" : comment.getString().getString()).append('\u0000');
+        }
+      }
+      signatures.add(text.toString());
+    }
+    return signatures;
+  }
+
+  private void updateRow(Row row, Row source) {
+    List<Cell> staleCells = new ArrayList<>();
+    for (Cell cell : row) {
+      if (source == null || source.getCell(cell.getColumnIndex()) == null) {
+        staleCells.add(cell);
+      }
+    }
+    for (Cell cell : staleCells) {
+      cell.removeCellComment();
+      row.removeCell(cell);
+    }
+    if (source == null) return;
+
+    for (Cell sourceCell : source) {
+      Cell cell = row.getCell(sourceCell.getColumnIndex());
+      if (cell == null) {
+        cell = row.createCell(sourceCell.getColumnIndex());
+      }
+      copyValue(sourceCell, cell);
+      copyStyle(sourceCell, cell);
+      copyComment(sourceCell, cell);
+    }
+  }
+
+  private void removeRow(Sheet sheet, Row row) {
+    if (row == null) return;
+    for (Cell cell : row) {
+      cell.removeCellComment();
+    }
+    sheet.removeRow(row);
+  }
+
+  private void copyValue(Cell source, Cell cell) {
+    switch (source.getCellType()) {
+      case STRING -> {
+        String value = source.getStringCellValue();
+        if (cell.getCellType() != source.getCellType()
+            || !value.equals(cell.getStringCellValue())) {
+          cell.setCellValue(value);
+        }
+      }
+      case NUMERIC -> cell.setCellValue(source.getNumericCellValue());
+      case BOOLEAN -> cell.setCellValue(source.getBooleanCellValue());
+      case FORMULA -> cell.setCellFormula(source.getCellFormula());
+      case BLANK -> cell.setBlank();
+      default -> cell.setCellValue(source.toString());
+    }
+  }
+
+  private void copyStyle(Cell source, Cell cell) {
+    if (getWriterStyleKey(source).equals(getWriterStyleKey(cell))) return;
+
+    String key = getStyleKey(source);
+    Workbook target = cell.getSheet().getWorkbook();
+    if (targetStyles == null) {
+      targetStyles = new HashMap<>();
+      for (int i = 0; i < target.getNumCellStyles(); i++) {
+        targetStyles.putIfAbsent(getStyleKey(target, target.getCellStyleAt(i).getIndex()),
+            target.getCellStyleAt(i));
+      }
+    }
+    cell.setCellStyle(targetStyles.computeIfAbsent(key, k -> {
+      CellStyle style = target.createCellStyle();
+      style.cloneStyleFrom(source.getCellStyle());
+      return style;
+    }));
+  }
+
+  private String getWriterStyleKey(Cell cell) {
+    String key = getStyleKey(cell);
+    return writerStyles.contains(key) ? key : "";
+  }
+
+  private String getStyleKey(Cell cell) {
+    return getStyleKey(cell.getSheet().getWorkbook(), cell.getCellStyle().getIndex());
+  }
+
+  private String getStyleKey(Workbook workbook, short styleIdx) {
+    return styleKeys.computeIfAbsent(workbook, w -> new HashMap<>()).computeIfAbsent(styleIdx,
+        idx -> {
+          CellStyle style = workbook.getCellStyleAt(idx);
+          Font font = workbook.getFontAt(style.getFontIndex());
+          return String.join(",", style.getDataFormatString(),
+              String.valueOf(style.getFillForegroundColor()), style.getFillPattern().name(),
+              style.getAlignment().name(), style.getVerticalAlignment().name(),
+              String.valueOf(style.getWrapText()), style.getBorderTop().name(),
+              style.getBorderBottom().name(), style.getBorderLeft().name(),
+              style.getBorderRight().name(), font.getFontName(),
+              String.valueOf(font.getFontHeight()), String.valueOf(font.getBold()),
+              String.valueOf(font.getItalic()), String.valueOf(font.getColor()),
+              String.valueOf(font.getUnderline()), String.valueOf(font.getStrikeout()));
+        });
+  }
+
+  private void copyComment(Cell source, Cell cell) {
+    Comment sourceComment = source.getCellComment();
+    Comment comment = cell.getCellComment();
+    if (sourceComment == null) {
+      if (comment != null) cell.removeCellComment();
+      return;
+    }
+
+    String text = sourceComment.getString().getString();
+    if (comment != null) {
+      if (!Objects.equals(text, comment.getString().getString())) {
+        comment.setString(cell.getSheet().getWorkbook().getCreationHelper()
+            .createRichTextString(text));
+      }
+      return;
+    }
+
+    CreationHelper factory = cell.getSheet().getWorkbook().getCreationHelper();
+    ClientAnchor anchor = factory.createClientAnchor();
+    anchor.setCol1(cell.getColumnIndex());
+    anchor.setCol2(cell.getColumnIndex() + 2);
+    anchor.setRow1(cell.getRowIndex());
+    anchor.setRow2(cell.getRowIndex() + 2);
+    comment = cell.getSheet().createDrawingPatriarch().createCellComment(anchor);
+    comment.setString(factory.createRichTextString(text));
+    cell.setCellComment(comment);
+  }
+
+}
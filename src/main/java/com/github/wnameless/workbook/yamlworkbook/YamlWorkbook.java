@@ -2,11 +2,14 @@ package com.github.wnameless.workbook.yamlworkbook;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.emitter.Emitter;
@@ -22,8 +25,14 @@ import lombok.experimental.UtilityClass;
  * This class offers simple entry points for common operations:
  * <ul>
  * <li>{@link #toWorkbook(String, String...)} - Convert YAML strings to Excel workbook</li>
+ * <li>{@link #toWorkbook(Object, Object...)} - Convert Java objects to Excel workbook</li>
  * <li>{@link #fromWorkbook(Workbook)} - Convert Excel workbook to SnakeYAML Node list</li>
  * <li>{@link #toYaml(Workbook)} - Convert Excel workbook to YAML string</li>
+ * <li>{@link #toObjects(Workbook)} - Convert Excel workbook to Java objects</li>
+ * <li>{@link #toJson(Workbook, OutputStream)} - Stream Excel workbook as JSON</li>
+ * <li>{@link #diff(Workbook, Workbook)} - Compare two Excel workbooks</li>
+ * <li>{@link #toWorkbookAsync(String, String...)} / {@link #fromWorkbookAsync(Workbook)} - Run
+ * conversions without blocking the caller</li>
  * <li>{@link #writerBuilder()} / {@link #readerBuilder()} - Access builder APIs for
  * customization</li>
  * </ul>
@@ -51,6 +60,15 @@ public class YamlWorkbook {
     return YamlWorkbookReader.builder();
   }
 
+  /**
+   * Returns a new harvester builder for reading returned workbooks in bulk.
+   *
+   * @return a new {@link WorkbookHarvester.WorkbookHarvesterBuilder}
+   */
+  public WorkbookHarvester.WorkbookHarvesterBuilder harvesterBuilder() {
+    return WorkbookHarvester.builder();
+  }
+
   /**
    * Returns a writer builder pre-configured for PREFIX indentation mode.
    *
@@ -130,6 +148,19 @@ public class YamlWorkbook {
         .toWorkbook(new InputStreamReader(yamlContent, charset), yamlContentReaders);
   }
 
+  /**
+   * Converts in-memory Java objects (Maps, Lists, scalars or JavaBeans) to an Excel workbook
+   * without serializing them to YAML text first.
+   *
+   * @param data the primary object to convert
+   * @param moreData additional objects (optional)
+   * @return the generated Excel workbook
+   * @see YamlWorkbookWriter#toWorkbook(Object, Object...)
+   */
+  public Workbook toWorkbook(Object data, Object... moreData) {
+    return YamlWorkbookWriter.builder().build().toWorkbook(data, moreData);
+  }
+
   /**
    * Converts an Excel workbook to a list of SnakeYAML Node objects.
    *
@@ -140,6 +171,108 @@ public class YamlWorkbook {
     return YamlWorkbookReader.builder().build().fromWorkbook(workbook);
   }
 
+  /**
+   * Converts an Excel workbook to Java objects ({@code Map}, {@code List} and typed scalars), one
+   * per YAML document, without a YAML text roundtrip.
+   *
+   * @param workbook the Excel workbook to convert
+   * @return a list of constructed documents
+   * @see YamlWorkbookReader#toObjects(Workbook)
+   */
+  public List<Object> toObjects(Workbook workbook) {
+    return YamlWorkbookReader.builder().build().toObjects(workbook);
+  }
+
+  /**
+   * Converts an Excel workbook to instances of the given type, one per YAML document, without a
+   * YAML text roundtrip.
+   *
+   * @param <T> the target type
+   * @param workbook the Excel workbook to convert
+   * @param type the class each document is bound to
+   * @return a list of constructed documents
+   * @see YamlWorkbookReader#toObjects(Workbook, Class)
+   */
+  public <T> List<T> toObjects(Workbook workbook, Class<T> type) {
+    return YamlWorkbookReader.builder().build().toObjects(workbook, type);
+  }
+
+  /**
+   * Streams an Excel workbook as JSON, writing all documents as a single JSON array.
+   *
+   * @param workbook the Excel workbook to convert
+   * @param out the output stream to write UTF-8 JSON to (not closed by this method)
+   * @see YamlWorkbookReader#toJson(Workbook, OutputStream, JsonOutputFormat)
+   */
+  public void toJson(Workbook workbook, OutputStream out) {
+    YamlWorkbookReader.builder().build().toJson(workbook, out);
+  }
+
+  /**
+   * Streams an Excel workbook as JSON using the given multi-document layout.
+   *
+   * @param workbook the Excel workbook to convert
+   * @param out the output stream to write UTF-8 JSON to (not closed by this method)
+   * @param format how multiple documents are laid out
+   * @see YamlWorkbookReader#toJson(Workbook, OutputStream, JsonOutputFormat)
+   */
+  public void toJson(Workbook workbook, OutputStream out, JsonOutputFormat format) {
+    YamlWorkbookReader.builder().build().toJson(workbook, out, format);
+  }
+
+  /**
+   * Compares two Excel workbooks and reports the added, removed and changed paths.
+   *
+   * @param oldWorkbook the old version
+   * @param newWorkbook the new version
+   * @return the differences in document and path order
+   * @see YamlWorkbookReader#diff(Workbook, Workbook)
+   */
+  public List<NodeDifference> diff(Workbook oldWorkbook, Workbook newWorkbook) {
+    return YamlWorkbookReader.builder().build().diff(oldWorkbook, newWorkbook);
+  }
+
+  /**
+   * Converts YAML content strings to an Excel workbook asynchronously, on virtual threads where
+   * available.
+   *
+   * @param yamlContent the primary YAML content
+   * @param yamlContents additional YAML content strings (optional)
+   * @return a future of the generated Excel workbook
+   * @see YamlWorkbookWriter#toWorkbookAsync(Reader, Reader...)
+   */
+  public CompletableFuture<Workbook> toWorkbookAsync(String yamlContent, String... yamlContents) {
+    int length = yamlContents == null ? 0 : yamlContents.length;
+    StringReader[] yamlContentReaders = new StringReader[length];
+    for (int i = 0; i < length; i++) {
+      yamlContentReaders[i] = new StringReader(yamlContents[i]);
+    }
+    return YamlWorkbookWriter.builder().build().toWorkbookAsync(new StringReader(yamlContent),
+        yamlContentReaders);
+  }
+
+  /**
+   * Converts an Excel workbook to a list of SnakeYAML Node objects asynchronously.
+   *
+   * @param workbook the Excel workbook to convert
+   * @return a future of the YAML document nodes
+   * @see YamlWorkbookReader#fromWorkbookAsync(Workbook)
+   */
+  public CompletableFuture<List<Node>> fromWorkbookAsync(Workbook workbook) {
+    return YamlWorkbookReader.builder().build().fromWorkbookAsync(workbook);
+  }
+
+  /**
+   * Converts an Excel workbook to Java objects asynchronously.
+   *
+   * @param workbook the Excel workbook to convert
+   * @return a future of the constructed documents
+   * @see YamlWorkbookReader#toObjectsAsync(Workbook)
+   */
+  public CompletableFuture<List<Object>> toObjectsAsync(Workbook workbook) {
+    return YamlWorkbookReader.builder().build().toObjectsAsync(workbook);
+  }
+
   /**
    * Converts an Excel workbook to a YAML string.
    *
@@ -1,9 +1,26 @@
 package com.github.wnameless.workbook.yamlworkbook;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Comment;
@@ -14,19 +31,33 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.AreaReference;
+import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellReference;
+import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.DumperOptions.FlowStyle;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.DumperOptions.ScalarStyle;
 import org.yaml.snakeyaml.comments.CommentLine;
 import org.yaml.snakeyaml.comments.CommentType;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.error.YAMLException;
 import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.NodeTuple;
 import org.yaml.snakeyaml.nodes.ScalarNode;
 import org.yaml.snakeyaml.nodes.SequenceNode;
 import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+import org.yaml.snakeyaml.serializer.Serializer;
+import com.github.wnameless.json.jsonschemadatagenerator.ObjectMapperFactory;
 import lombok.Builder;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.node.NullNode;
 
 /**
  * Converts Excel workbooks back to SnakeYAML Node trees for roundtrip support.
@@ -34,6 +65,8 @@ import lombok.Builder;
  * Uses Lombok's {@code @Builder} pattern for configuration. Key features:
  * <ul>
  * <li>Reconstructs SnakeYAML Node trees from workbook cells</li>
+ * <li>Binds workbook documents directly to Java objects without a YAML text roundtrip</li>
+ * <li>Streams workbook documents as JSON, one document in memory at a time</li>
  * <li>Preserves structure and comments for roundtrip conversion</li>
  * <li>Supports the same output modes and indentation modes as {@link YamlWorkbookWriter}</li>
  * </ul>
@@ -46,6 +79,8 @@ import lombok.Builder;
 @Builder
 public class YamlWorkbookReader {
 
+  private static final String MERGE_KEY = "<<";
+
   @Builder.Default
   private OutputMode outputMode = OutputMode.YAML_ORIENTED;
   @Builder.Default
@@ -56,6 +91,44 @@ public class YamlWorkbookReader {
   private IndentationMode indentationMode = IndentationMode.CELL_OFFSET;
   @Builder.Default
   private IndentPrefixStrategy indentPrefixStrategy = IndentPrefixStrategy.DEFAULT;
+  /** Last content column laid out by cell offset in ADAPTIVE mode; deeper rows use prefixes */
+  @Builder.Default
+  private int adaptiveColumnBudget = 8;
+  /** Rebuilds anchor and alias cells as shared Node instances and honors merge keys */
+  @Builder.Default
+  private boolean preserveAnchors = false;
+  /** Drops sequence items whose existing value cells were all left empty, e.g. unused form items */
+  @Builder.Default
+  private boolean skipBlankItems = false;
+  /**
+   * Returns the embedded source of documents whose cells are unchanged instead of parsing them.
+   * The embedded source is an unauthenticated cache that can differ from the visible cells of a
+   * tampered workbook, so only enable this for workbooks from trusted parties.
+   */
+  @Builder.Default
+  private boolean useEmbeddedSource = false;
+  /**
+   * JSON Schema the nodes of each document are validated against as they are reconstructed; null
+   * disables validation
+   */
+  private String jsonSchema;
+  /** Throws on the first schema violation instead of after all documents have been read */
+  @Builder.Default
+  private boolean failFast = false;
+  /** Tags scalars of reconstructed documents with the type jsonSchema declares for their path */
+  @Builder.Default
+  private boolean typeScalarsBySchema = false;
+  /** Receives per-phase timings and counters; {@link ConversionListener#NOOP} disables them */
+  @Builder.Default
+  private ConversionListener conversionListener = ConversionListener.NOOP;
+  /** Runs the {@code *Async} conversions; defaults to virtual threads on Java 21+ */
+  @Builder.Default
+  private Executor executor = AsyncConversions.DEFAULT_EXECUTOR;
+  /** Resource limits checked while reading, e.g. rows, depth and timeout */
+  @Builder.Default
+  private ConversionLimits conversionLimits = ConversionLimits.NONE;
+  /** Optional: cancels the conversions of this reader from any thread */
+  private CancellationToken cancellationToken;
 
   /**
    * Converts an Excel workbook to a list of SnakeYAML Node objects.
@@ -64,9 +137,551 @@ public class YamlWorkbookReader {
    * @return a list of YAML document nodes, or empty list if workbook is null
    */
   public List<Node> fromWorkbook(Workbook workbook) {
+    var metrics = ConversionMetrics.of(conversionListener);
+    var nodeList = new ArrayList<Node>();
+    iterateDocuments(workbook, metrics).forEachRemaining(nodeList::add);
+    metrics.complete();
+    return nodeList;
+  }
+
+  /**
+   * Converts an Excel workbook to a list of SnakeYAML Node objects, reusing previously
+   * reconstructed Nodes of documents that were not edited.
+   * <p>
+   * Requires a workbook written with {@link YamlWorkbookWriter} {@code recordFingerprints} or
+   * {@code embedSource} enabled. Each document whose row range and cell fingerprint still match
+   * the recorded ones is returned as the Node at its write index in {@code previousNodes} (the
+   * same instance, not a copy); all other documents are reconstructed from their cells. Without
+   * recorded fingerprints this behaves like {@link #fromWorkbook(Workbook)}.
+   *
+   * @param workbook the Excel workbook to convert (may be null)
+   * @param previousNodes the Nodes the workbook was written from, in document order
+   * @return a list of YAML document nodes, or empty list if workbook is null
+   */
+  public List<Node> fromWorkbook(Workbook workbook, List<Node> previousNodes) {
+    var metrics = ConversionMetrics.of(conversionListener);
     var nodeList = new ArrayList<Node>();
-    if (workbook == null) return nodeList;
+    iterateDocuments(workbook, metrics, previousNodes).forEachRemaining(nodeList::add);
+    metrics.complete();
+    return nodeList;
+  }
+
+  /**
+   * Compares two workbooks document by document and reports the added, removed and changed paths.
+   * <p>
+   * Documents are paired by position. Pairs whose rows have identical cell content are skipped
+   * without being reconstructed; all other pairs are reconstructed and compared as described in
+   * {@link #diff(List, List)}.
+   *
+   * @param oldWorkbook the old version (may be null)
+   * @param newWorkbook the new version (may be null)
+   * @return the differences in document and path order
+   */
+  public List<NodeDifference> diff(Workbook oldWorkbook, Workbook newWorkbook) {
+    SheetIndexes oldIndexes = createIndexes();
+    SheetIndexes newIndexes = createIndexes();
+    List<DocumentRows> oldDocuments =
+        oldWorkbook == null ? List.of() : scanDocuments(oldWorkbook, oldIndexes);
+    List<DocumentRows> newDocuments =
+        newWorkbook == null ? List.of() : scanDocuments(newWorkbook, newIndexes);
+
+    var differ = new NodeDiffer();
+    for (int i = 0; i < Math.max(oldDocuments.size(), newDocuments.size()); i++) {
+      List<Row> oldRows = i < oldDocuments.size() ? oldDocuments.get(i).rows() : null;
+      List<Row> newRows = i < newDocuments.size() ? newDocuments.get(i).rows() : null;
+      if (oldRows != null && newRows != null && oldRows.size() == newRows.size()
+          && SourceManifest.hash(oldRows).equals(SourceManifest.hash(newRows))) {
+        continue;
+      }
+      differ.diff(i, oldRows == null ? null : reconstruct(oldIndexes, oldRows),
+          newRows == null ? null : reconstruct(newIndexes, newRows));
+    }
+    return differ.getDifferences();
+  }
+
+  /**
+   * Compares two lists of YAML documents and reports the added, removed and changed paths.
+   * <p>
+   * Documents are paired by position, mapping entries by key and sequence items by index. Scalars
+   * are compared by value only, ignoring tags and comments. Identical Node instances, such as the
+   * documents reused by {@link #fromWorkbook(Workbook, List)}, are skipped without being walked.
+   *
+   * @param oldNodes the old documents
+   * @param newNodes the new documents
+   * @return the differences in document and path order
+   */
+  public List<NodeDifference> diff(List<Node> oldNodes, List<Node> newNodes) {
+    var differ = new NodeDiffer();
+    for (int i = 0; i < Math.max(oldNodes.size(), newNodes.size()); i++) {
+      differ.diff(i, i < oldNodes.size() ? oldNodes.get(i) : null,
+          i < newNodes.size() ? newNodes.get(i) : null);
+    }
+    return differ.getDifferences();
+  }
+
+  /**
+   * Converts an Excel workbook to Java objects, one per YAML document.
+   * <p>
+   * Documents are constructed from the reconstructed Node trees by SnakeYAML's
+   * {@link org.yaml.snakeyaml.constructor.Constructor}, skipping YAML serialization and re-parsing
+   * entirely. Mappings become {@code Map}s and sequences become {@code List}s. Scalars are typed as
+   * if the cell text were plain YAML, e.g. {@code 30} becomes an {@link Integer}, {@code true} a
+   * {@link Boolean} and an empty cell {@code null}.
+   *
+   * @param workbook the Excel workbook to convert (may be null)
+   * @return a list of constructed documents, or empty list if workbook is null
+   */
+  public List<Object> toObjects(Workbook workbook) {
+    return toObjects(workbook, Object.class);
+  }
+
+  /**
+   * Converts an Excel workbook to instances of the given type, one per YAML document.
+   * <p>
+   * Each document is bound to {@code type} (typically a JavaBean) by SnakeYAML's
+   * {@link org.yaml.snakeyaml.constructor.Constructor}, without a YAML text roundtrip. Scalar
+   * values are converted to the declared property types.
+   *
+   * @param <T> the target type
+   * @param workbook the Excel workbook to convert (may be null)
+   * @param type the class each document is bound to
+   * @return a list of constructed documents, or empty list if workbook is null
+   */
+  public <T> List<T> toObjects(Workbook workbook, Class<T> type) {
+    var metrics = ConversionMetrics.of(conversionListener);
+    var constructor = new NodeObjectConstructor(type, true);
+    List<T> objects = new ArrayList<>();
+    iterateDocuments(workbook, metrics).forEachRemaining(node -> {
+      long begin = metrics.begin();
+      objects.add(type.cast(constructor.construct(node)));
+      metrics.end(ConversionPhase.BINDING, begin);
+    });
+    metrics.complete();
+    return objects;
+  }
+
+  /**
+   * Constructs a Java object from a reconstructed YAML node, typing scalars as if they were plain
+   * YAML.
+   *
+   * @param node the node to construct (may be null)
+   * @return the constructed object, or null if node is null
+   * @see #toObjects(Workbook)
+   */
+  public Object toObject(Node node) {
+    return toObject(node, Object.class);
+  }
+
+  /**
+   * Constructs an instance of the given type from a reconstructed YAML node.
+   *
+   * @param <T> the target type
+   * @param node the node to construct (may be null)
+   * @param type the class the node is bound to
+   * @return the constructed object, or null if node is null
+   * @see #toObjects(Workbook, Class)
+   */
+  public <T> T toObject(Node node, Class<T> type) {
+    return type.cast(new NodeObjectConstructor(type, true).construct(node));
+  }
+
+  /**
+   * Converts an Excel workbook to JSON, writing all documents as a single JSON array.
+   *
+   * @param workbook the Excel workbook to convert (may be null)
+   * @param out the output stream to write UTF-8 JSON to (not closed by this method)
+   * @see #toJson(Workbook, OutputStream, JsonOutputFormat)
+   */
+  public void toJson(Workbook workbook, OutputStream out) {
+    toJson(workbook, out, JsonOutputFormat.ARRAY);
+  }
+
+  /**
+   * Converts an Excel workbook to JSON.
+   * <p>
+   * Each document is reconstructed and streamed straight into a Jackson
+   * {@link tools.jackson.core.JsonGenerator}, then released before the next document is read, so
+   * at most one document tree is held in memory and no YAML text is produced. Scalars are typed as
+   * in {@link #toObjects(Workbook)}.
+   *
+   * @param workbook the Excel workbook to convert (may be null)
+   * @param out the output stream to write UTF-8 JSON to (not closed by this method)
+   * @param format how multiple documents are laid out
+   */
+  public void toJson(Workbook workbook, OutputStream out, JsonOutputFormat format) {
+    var metrics = ConversionMetrics.of(conversionListener);
+    var countingOut = metrics.isEnabled() ? new CountingOutputStream(out) : null;
+    boolean ndjson = format == JsonOutputFormat.NDJSON;
+    ObjectWriter objectWriter = ObjectMapperFactory.getObjectMapper().writer()
+        .without(StreamWriteFeature.AUTO_CLOSE_TARGET).withRootValueSeparator("");
+
+    try (JsonGenerator generator =
+        objectWriter.createGenerator(countingOut != null ? countingOut : out)) {
+      NodeJsonWriter jsonWriter = new NodeJsonWriter(generator, true);
+      if (!ndjson) {
+        generator.writeStartArray();
+      }
+      Iterator<Node> documents = iterateDocuments(workbook, metrics);
+      while (documents.hasNext()) {
+        Node document = documents.next();
+        long begin = metrics.begin();
+        jsonWriter.write(document);
+        if (ndjson) {
+          generator.writeRaw('\n');
+        }
+        metrics.end(ConversionPhase.SERIALIZATION, begin);
+      }
+      if (!ndjson) {
+        generator.writeEndArray();
+      }
+    }
+
+    if (countingOut != null) {
+      metrics.bytesWritten(countingOut.getCount());
+    }
+    metrics.complete();
+  }
+
+  /**
+   * Converts an Excel workbook to Jackson trees, one per YAML document.
+   * <p>
+   * Scalars are typed as in {@link #toJson(Workbook, OutputStream)}; with
+   * {@code typeScalarsBySchema} enabled they follow the types declared by {@code jsonSchema}.
+   *
+   * @param workbook the Excel workbook to convert (may be null)
+   * @return a list of JSON trees, or empty list if workbook is null
+   */
+  public List<JsonNode> toJsonNodes(Workbook workbook) {
+    var metrics = ConversionMetrics.of(conversionListener);
+    List<JsonNode> jsonNodes = new ArrayList<>();
+    iterateDocuments(workbook, metrics).forEachRemaining(node -> {
+      long begin = metrics.begin();
+      jsonNodes.add(toJsonNode(node));
+      metrics.end(ConversionPhase.SERIALIZATION, begin);
+    });
+    metrics.complete();
+    return jsonNodes;
+  }
+
+  /**
+   * Converts an Excel workbook to a list of SnakeYAML Node objects on the configured executor.
+   * <p>
+   * Cancelling the returned future interrupts the conversion, which stops at the next row it
+   * scans or parses. Readers hold no per-conversion state, so one reader can run several
+   * conversions at once.
+   *
+   * @param workbook the Excel workbook to convert (may be null)
+   * @return a future of the list of YAML document nodes
+   * @see #fromWorkbook(Workbook)
+   */
+  public CompletableFuture<List<Node>> fromWorkbookAsync(Workbook workbook) {
+    return AsyncConversions.supply(() -> fromWorkbook(workbook), executor);
+  }
+
+  /**
+   * Converts an Excel workbook to Java objects on the configured executor.
+   *
+   * @param workbook the Excel workbook to convert (may be null)
+   * @return a future of the list of constructed documents
+   * @see #toObjects(Workbook)
+   * @see #fromWorkbookAsync(Workbook)
+   */
+  public CompletableFuture<List<Object>> toObjectsAsync(Workbook workbook) {
+    return AsyncConversions.supply(() -> toObjects(workbook), executor);
+  }
+
+  /**
+   * Converts an Excel workbook to instances of the given type on the configured executor.
+   *
+   * @param <T> the target type
+   * @param workbook the Excel workbook to convert (may be null)
+   * @param type the class each document is bound to
+   * @return a future of the list of constructed documents
+   * @see #toObjects(Workbook, Class)
+   * @see #fromWorkbookAsync(Workbook)
+   */
+  public <T> CompletableFuture<List<T>> toObjectsAsync(Workbook workbook, Class<T> type) {
+    return AsyncConversions.supply(() -> toObjects(workbook, type), executor);
+  }
+
+  /**
+   * Converts an Excel workbook to JSON on the configured executor.
+   *
+   * @param workbook the Excel workbook to convert (may be null)
+   * @param out the output stream to write UTF-8 JSON to (not closed by this method)
+   * @param format how multiple documents are laid out
+   * @return a future completed once all documents have been written
+   * @see #toJson(Workbook, OutputStream, JsonOutputFormat)
+   * @see #fromWorkbookAsync(Workbook)
+   */
+  public CompletableFuture<Void> toJsonAsync(Workbook workbook, OutputStream out,
+      JsonOutputFormat format) {
+    return AsyncConversions.supply(() -> {
+      toJson(workbook, out, format);
+      return null;
+    }, executor);
+  }
+
+  /**
+   * Returns a publisher that emits the documents of a workbook on demand.
+   * <p>
+   * Documents are reconstructed on the configured executor one at a time, and only while the
+   * subscriber has outstanding demand, so producers and consumers run concurrently without
+   * buffering the whole workbook. Each subscriber receives all documents from the start.
+   *
+   * @param workbook the Excel workbook to read (may be null)
+   * @return a publisher of YAML document nodes
+   */
+  public Flow.Publisher<Node> toPublisher(Workbook workbook) {
+    return new DocumentPublisher(() -> iterateDocuments(workbook), executor);
+  }
+
+  /**
+   * Writes the edits made to a workbook as a change set relative to the documents originally
+   * written into it, instead of the full documents.
+   * <p>
+   * Requires a workbook written with {@link YamlWorkbookWriter} {@code embedSource} enabled; in
+   * FORM_MODE the generated skeleton is the original. Documents are paired by position and
+   * compared as the typed JSON values {@link #toJson(Workbook, OutputStream)} writes, so unchanged
+   * documents contribute nothing and an edited document contributes only its changed paths.
+   *
+   * @param workbook the Excel workbook to compare with its originals
+   * @param out the output stream to write to (not closed by this method)
+   * @param format the change set format
+   * @throws IllegalStateException if the workbook has no embedded source
+   */
+  public void toChangeSet(Workbook workbook, OutputStream out, ChangeSetFormat format) {
+    SourceManifest manifest = workbook == null ? null
+        : SourceManifest.read(workbook, new ConversionGuard(conversionLimits, cancellationToken));
+    if (manifest == null || manifest.getEntries().stream().anyMatch(e -> e.yaml() == null)) {
+      throw new IllegalStateException(
+          "Change sets require a workbook written with embedSource enabled");
+    }
+    var metrics = ConversionMetrics.of(conversionListener);
+
+    // Originals are ordered as the reader encounters their documents
+    List<SourceManifest.Entry> entries = new ArrayList<>(manifest.getEntries());
+    entries.sort(Comparator
+        .comparingInt((SourceManifest.Entry e) -> workbook.getSheetIndex(e.sheetName()))
+        .thenComparingInt(SourceManifest.Entry::rowNum));
+    // Embedded sources come from the uploaded file, so their aliases stay bounded
+    LoaderOptions options = new LoaderOptions();
+    options.setMaxAliasesForCollections(conversionLimits.getMaxAliasesForCollections());
+    List<JsonNode> originals = new ArrayList<>(entries.size());
+    for (SourceManifest.Entry entry : entries) {
+      originals.add(toJsonNode(new Yaml(options).compose(new StringReader(entry.yaml()))));
+    }
+    List<JsonNode> currents = new ArrayList<>();
+    iterateDocuments(workbook, metrics).forEachRemaining(node -> currents.add(toJsonNode(node)));
+
+    long begin = metrics.begin();
+    if (format == ChangeSetFormat.JSON_PATCH) {
+      ObjectMapperFactory.getObjectMapper().writer()
+          .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+          .writeValue(out, ChangeSetBuilder.jsonPatch(originals, currents));
+    } else {
+      List<Node> overlays = new ArrayList<>();
+      for (int i = 0; i < Math.max(originals.size(), currents.size()); i++) {
+        JsonNode overlay = i >= originals.size() ? currents.get(i)
+            : i >= currents.size() ? NullNode.getInstance()
+                : ChangeSetBuilder.mergePatch(originals.get(i), currents.get(i));
+        if (overlay == null) {
+          // Documents are paired by position, so an unchanged scalar or array repeats itself
+          overlay = currents.get(i);
+        }
+        overlays.add(JsonNodeToYamlNodeConverter.convert(overlay));
+      }
+      writeYaml(overlays, out);
+    }
+    metrics.end(ConversionPhase.SERIALIZATION, begin);
+    metrics.complete();
+  }
+
+  private JsonNode toJsonNode(Node node) {
+    var bytes = new ByteArrayOutputStream();
+    try (JsonGenerator generator =
+        ObjectMapperFactory.getObjectMapper().writer().createGenerator(bytes)) {
+      new NodeJsonWriter(generator, true).write(node);
+    }
+    return ObjectMapperFactory.getObjectMapper().readTree(bytes.toByteArray());
+  }
+
+  private void writeYaml(List<Node> nodes, OutputStream out) {
+    DumperOptions options = new DumperOptions();
+    options.setDefaultFlowStyle(FlowStyle.BLOCK);
+    var writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    Serializer serializer =
+        new Serializer(new Emitter(writer, options), new Resolver(), options, null);
+    try {
+      serializer.open();
+      for (Node node : nodes) {
+        serializer.serialize(node);
+      }
+      serializer.close();
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  Iterator<Node> iterateDocuments(Workbook workbook) {
+    return iterateDocuments(workbook, ConversionMetrics.of(ConversionListener.NOOP));
+  }
+
+  private Iterator<Node> iterateDocuments(Workbook workbook, ConversionMetrics metrics) {
+    return iterateDocuments(workbook, metrics, null);
+  }
+
+  private Iterator<Node> iterateDocuments(Workbook workbook, ConversionMetrics metrics,
+      List<Node> previousNodes) {
+    if (workbook == null) return Collections.emptyIterator();
+
+    long scanBegin = metrics.begin();
+    SheetIndexes indexes = createIndexes();
+    SourceManifest manifest = useEmbeddedSource || previousNodes != null
+        ? SourceManifest.read(workbook, indexes.guard) : null;
+    List<DocumentRows> documentRows = scanDocuments(workbook, indexes);
+    if (jsonSchema != null) {
+      var schemaIndex = new SchemaPathIndex(jsonSchema);
+      indexes.validator = new SchemaValidator(schemaIndex, failFast);
+      indexes.locations = new IdentityHashMap<>();
+      if (typeScalarsBySchema) indexes.typer = new SchemaScalarTyper(schemaIndex);
+    }
+    metrics.end(ConversionPhase.ROW_SCAN, scanBegin);
+
+    // Documents are reconstructed lazily, one at a time
+    return new Iterator<Node>() {
+
+      private final Iterator<DocumentRows> rowsIter = documentRows.iterator();
+      private Node next;
+      private int documentIndex;
+      private int scannedIndex;
+
+      @Override
+      public boolean hasNext() {
+        while (next == null && rowsIter.hasNext()) {
+          indexes.guard.document(scannedIndex++);
+          DocumentRows document = rowsIter.next();
+          List<Row> docRows = document.rows();
+          var event = new DocumentConvertedEvent();
+          event.begin();
+          long begin = metrics.begin();
+          next = reuseUnchangedDocument(manifest, document, previousNodes);
+          if (next == null) {
+            next = reconstruct(indexes, docRows);
+          } else if (indexes.validator != null) {
+            // Reused documents are not rebuilt node by node, so they are validated in one walk
+            indexes.validator.startDocument();
+            indexes.validator.validate("$", next, Map.of(), getDocumentLocation(docRows));
+          }
+          metrics.end(ConversionPhase.RECONSTRUCTION, begin);
+          event.end();
+          if (next == null) continue;
+
+          if (metrics.isEnabled()) {
+            metrics.rowsRead(docRows.size());
+            metrics.documentConverted(docRows.size(), countCells(docRows));
+          }
+          if (event.shouldCommit()) {
+            event.direction = "read";
+            event.documentIndex = documentIndex;
+            event.sheetName = docRows.get(0).getSheet().getSheetName();
+            event.rows = docRows.size();
+            event.cells = countCells(docRows);
+            event.commit();
+          }
+          documentIndex++;
+        }
+        if (next == null && indexes.validator != null) {
+          indexes.validator.throwIfInvalid();
+        }
+        return next != null;
+      }
+
+      @Override
+      public Node next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Node node = next;
+        next = null;
+        return node;
+      }
+
+    };
+  }
+
+  private SheetIndexes createIndexes() {
+    return new SheetIndexes(new ConversionGuard(conversionLimits, cancellationToken));
+  }
+
+  private Node reconstruct(SheetIndexes indexes, List<Row> docRows) {
+    indexes.anchors.clear();
+    indexes.aliases = 0;
+    indexes.blankCells.clear();
+    if (indexes.validator != null) {
+      indexes.locations.clear();
+      indexes.validator.startDocument();
+      indexes.path = "$";
+      indexes.documentLocation = getDocumentLocation(docRows);
+    }
+    if (isPathMode()) {
+      Node node = parsePathRows(indexes, docRows);
+      // Leaves were checked as their rows were read; mappings and sequences only exist now
+      return node == null ? null : completeSharedNode(indexes, node);
+    }
+    Node node = parseRows(indexes, docRows, 0, 0, docRows.size());
+    return node == null ? null : completeNode(indexes, node);
+  }
+
+  private SchemaValidator.Location getDocumentLocation(List<Row> docRows) {
+    Row firstRow = docRows.get(0);
+    return new SchemaValidator.Location(firstRow.getSheet().getSheetName(), firstRow.getRowNum(),
+        0);
+  }
+
+  /**
+   * Appends a segment to the schema path of the nodes being reconstructed.
+   *
+   * @return the previous path, to be restored once the nodes under the segment are complete
+   */
+  private String enterPath(SheetIndexes indexes, String segment) {
+    String parentPath = indexes.path;
+    if (parentPath != null) {
+      indexes.path = parentPath + segment;
+    }
+    return parentPath;
+  }
+
+  /**
+   * Types and validates a node as soon as it has been reconstructed at the current schema path,
+   * after the nodes under it, so a fail-fast violation stops reading at the offending cell.
+   *
+   * @return the node, or its typed replacement
+   */
+  private Node completeNode(SheetIndexes indexes, Node node) {
+    if (indexes.validator == null) return node;
+    if (indexes.typer != null) {
+      node = indexes.typer.type(indexes.path, node, indexes.locations);
+    }
+    indexes.validator.check(indexes.path, node, indexes.locations, indexes.documentLocation);
+    return node;
+  }
+
+  /**
+   * Validates a node reused at the current schema path, such as an aliased node, together with the
+   * nodes under it that were not checked at this path yet.
+   */
+  private Node completeSharedNode(SheetIndexes indexes, Node node) {
+    if (indexes.validator != null) {
+      indexes.validator.validate(indexes.path, node, indexes.locations,
+          indexes.documentLocation);
+    }
+    return node;
+  }
 
+  /**
+   * Splits the visible sheets of a workbook into the rows of each document.
+   */
+  private List<DocumentRows> scanDocuments(Workbook workbook, SheetIndexes indexes) {
     // Build list of visible sheets (skip hidden sheets)
     List<Sheet> visibleSheets = new ArrayList<>();
     for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
@@ -75,76 +690,134 @@ public class YamlWorkbookReader {
       }
     }
 
-    // Process visible sheets by logical index
-    for (int logicalIdx = 0; logicalIdx < visibleSheets.size(); logicalIdx++) {
-      Sheet sheet = visibleSheets.get(logicalIdx);
-      String expectedName = sheetNameStrategy.apply(logicalIdx);
+    // Process visible sheets by logical index, stitching continuation sheets onto their sheet
+    List<List<Sheet>> sheetParts = new ArrayList<>();
+    List<Sheet> currentParts = null;
+    int logicalIdx = 0;
+    for (Sheet sheet : visibleSheets) {
+      if (currentParts != null && sheet.getSheetName().equals(
+          sheetNameStrategy.applyContinuation(logicalIdx - 1, currentParts.size() + 1))) {
+        currentParts.add(sheet);
+        continue;
+      }
+      currentParts = null;
+      String expectedName = sheetNameStrategy.apply(logicalIdx++);
       if (sheet.getSheetName().equals(expectedName)) {
-        processYamlSheet(sheet).forEach(nodeList::add);
+        currentParts = new ArrayList<>(List.of(sheet));
+        sheetParts.add(currentParts);
       }
     }
+    List<DocumentRows> documentRows = new ArrayList<>();
+    for (List<Sheet> parts : sheetParts) {
+      documentRows.addAll(splitByFrontmatter(indexes, parts));
+    }
+    return documentRows;
+  }
 
-    return nodeList;
+  private long countCells(List<Row> rows) {
+    long cells = 0;
+    for (Row row : rows) {
+      cells += row.getPhysicalNumberOfCells();
+    }
+    return cells;
   }
 
-  private Iterable<Node> processYamlSheet(Sheet sheet) {
-    List<Node> documents = new ArrayList<>();
-    if (sheet == null) return documents;
+  /**
+   * Returns the previous Node or composes the embedded source of a document whose cells still
+   * match the recorded fingerprint.
+   *
+   * @return the document node, or null if the document has to be reconstructed from its cells
+   */
+  private Node reuseUnchangedDocument(SourceManifest manifest, DocumentRows document,
+      List<Node> previousNodes) {
+    if (manifest == null || document.frontmatter() == null) {
+      return null;
+    }
+    SourceManifest.Entry entry = manifest.getUnchangedEntry(document.frontmatter(),
+        document.rows());
+    if (entry == null) {
+      return null;
+    }
+    if (previousNodes != null && entry.documentIndex() < previousNodes.size()
+        && previousNodes.get(entry.documentIndex()) != null) {
+      return previousNodes.get(entry.documentIndex());
+    }
+    if (!useEmbeddedSource || entry.yaml() == null) {
+      return null;
+    }
+    String source = entry.yaml();
 
-    List<List<Row>> documentRows = splitByFrontmatter(sheet);
-    for (List<Row> docRows : documentRows) {
-      if (!docRows.isEmpty()) {
-        Node docNode = parseRows(docRows, 0, 0, docRows.size());
-        if (docNode != null) {
-          documents.add(docNode);
-        }
-      }
+    LoaderOptions options = new LoaderOptions();
+    options.setProcessComments(true);
+    try {
+      return new Yaml(options).compose(new StringReader(source));
+    } catch (YAMLException e) {
+      // The embedded source is only a shortcut; the cells remain authoritative
+      return null;
     }
-    return documents;
   }
 
-  private List<List<Row>> splitByFrontmatter(Sheet sheet) {
-    List<List<Row>> documents = new ArrayList<>();
-    List<Row> currentDoc = new ArrayList<>();
-
-    for (int i = 0; i <= sheet.getLastRowNum(); i++) {
-      Row row = sheet.getRow(i);
-      if (row == null) continue;
+  private void recordLocation(SheetIndexes indexes, Node node, Row row, int cellIndex) {
+    if (indexes.locations != null) {
+      // Nested nodes are located at their key or item mark; shared nodes keep their first cell
+      indexes.locations.putIfAbsent(node,
+          new SchemaValidator.Location(row.getSheet().getSheetName(), row.getRowNum(), cellIndex));
+    }
+  }
 
-      String firstCellValue = getCellValue(row, 0);
-      if (workbookSyntax.getFrontmatter().equals(firstCellValue)) {
-        if (!currentDoc.isEmpty()) {
-          documents.add(currentDoc);
-          currentDoc = new ArrayList<>();
+  private List<DocumentRows> splitByFrontmatter(SheetIndexes indexes, List<Sheet> sheetParts) {
+    List<DocumentRows> documents = new ArrayList<>();
+    List<Row> currentDoc = new ArrayList<>();
+    Row frontmatter = null;
+
+    // Continuation sheets carry on the rows of the previous part
+    for (Sheet sheet : sheetParts) {
+      for (int i = 0; i <= sheet.getLastRowNum(); i++) {
+        Row row = sheet.getRow(i);
+        if (row == null) continue;
+        indexes.guard.row(row);
+
+        String firstCellValue = getCellValue(indexes, row, 0);
+        if (workbookSyntax.getFrontmatter().equals(firstCellValue)) {
+          if (!currentDoc.isEmpty()) {
+            documents.add(new DocumentRows(frontmatter, currentDoc));
+            currentDoc = new ArrayList<>();
+          }
+          frontmatter = row;
+        } else {
+          if (currentDoc.isEmpty()) indexes.guard.document();
+          currentDoc.add(row);
         }
-      } else {
-        currentDoc.add(row);
       }
     }
+    indexes.guard.countPendingCells();
 
     if (!currentDoc.isEmpty()) {
-      documents.add(currentDoc);
+      documents.add(new DocumentRows(frontmatter, currentDoc));
     }
 
     return documents;
   }
 
-  private Node parseRows(List<Row> rows, int indentLevel, int startIdx, int endIdx) {
+  private Node parseRows(SheetIndexes indexes, List<Row> rows, int indentLevel, int startIdx,
+      int endIdx) {
     if (startIdx >= endIdx) return null;
 
     List<CommentLine> pendingComments = new ArrayList<>();
     int cellOffset = getContentOffset(indentLevel);
+    indexes.guard.at(rows.get(startIdx), cellOffset);
+    indexes.guard.depth(indentLevel);
 
     // Find first non-comment row to determine structure type
     int firstContentIdx = startIdx;
     while (firstContentIdx < endIdx) {
       Row row = rows.get(firstContentIdx);
-      String firstValue = getCellValue(row, cellOffset);
+      String firstValue = getCellValue(indexes, row, cellOffset);
       if (firstValue != null && !isComment(firstValue)) {
         break;
       }
       if (firstValue != null && isComment(firstValue)) {
-        pendingComments.add(createCommentLine(firstValue));
+        pendingComments.add(createCommentLine(indexes, firstValue));
       }
       firstContentIdx++;
     }
@@ -154,19 +827,27 @@ public class YamlWorkbookReader {
     }
 
     Row firstRow = rows.get(firstContentIdx);
-    String firstValue = getCellValue(firstRow, cellOffset);
-
-    // Determine if this is a sequence, mapping, or scalar
-    if (isItemMark(firstValue)) {
-      return parseSequence(rows, indentLevel, startIdx, endIdx, pendingComments);
+    String firstValue = getCellValue(indexes, firstRow, cellOffset);
+
+    // Determine if this is a table, compact sequence, sequence, mapping, or scalar
+    if (isTableMark(firstValue)) {
+      return parseTable(indexes, rows, indentLevel, firstContentIdx, endIdx, pendingComments);
+    } else if (isCompactMark(firstValue)) {
+      return parseCompactSequence(indexes, rows, indentLevel, firstContentIdx, endIdx,
+          pendingComments);
+    } else if (isItemMark(firstValue)) {
+      return parseSequence(indexes, rows, indentLevel, firstContentIdx, endIdx, pendingComments);
     } else {
-      String secondValue = getCellValue(firstRow, cellOffset + 1);
-      if (secondValue != null || hasNestedContent(rows, indentLevel, firstContentIdx, endIdx)) {
-        return parseMapping(rows, indentLevel, startIdx, endIdx, pendingComments);
+      String secondValue = getCellValue(indexes, firstRow, cellOffset + 1);
+      if (secondValue != null
+          || hasNestedContent(indexes, rows, indentLevel, firstContentIdx, endIdx)
+          || hasSiblingContent(indexes, rows, indentLevel, firstContentIdx, endIdx)) {
+        return parseMapping(indexes, rows, indentLevel, firstContentIdx, endIdx, pendingComments);
       } else {
         // Single scalar value
         ScalarNode node = new ScalarNode(Tag.STR, unescapeValueIfNeeded(firstValue), null, null,
             ScalarStyle.PLAIN);
+        recordLocation(indexes, node, firstRow, cellOffset);
         if (!pendingComments.isEmpty()) {
           node.setBlockComments(pendingComments);
         }
@@ -175,16 +856,18 @@ public class YamlWorkbookReader {
     }
   }
 
-  private MappingNode parseMapping(List<Row> rows, int indentLevel, int startIdx, int endIdx,
-      List<CommentLine> leadingComments) {
+  private MappingNode parseMapping(SheetIndexes indexes, List<Row> rows, int indentLevel,
+      int startIdx, int endIdx, List<CommentLine> leadingComments) {
     List<NodeTuple> tuples = new ArrayList<>();
+    boolean merged = false;
     int cellOffset = getContentOffset(indentLevel);
     List<CommentLine> pendingComments = new ArrayList<>(leadingComments);
 
     int i = startIdx;
     while (i < endIdx) {
+      indexes.guard.checkpoint();
       Row row = rows.get(i);
-      int rowIndent = getIndentLevel(row);
+      int rowIndent = getIndentLevel(indexes, row);
 
       if (rowIndent < indentLevel) {
         break; // Back to parent level
@@ -195,14 +878,14 @@ public class YamlWorkbookReader {
         continue; // Skip nested content (handled by recursive calls)
       }
 
-      String keyValue = getCellValue(row, cellOffset);
+      String keyValue = getCellValue(indexes, row, cellOffset);
       if (keyValue == null) {
         i++;
         continue;
       }
 
       if (isComment(keyValue)) {
-        pendingComments.add(createCommentLine(keyValue));
+        pendingComments.add(createCommentLine(indexes, keyValue));
         i++;
         continue;
       }
@@ -212,7 +895,14 @@ public class YamlWorkbookReader {
       }
 
       // Create key node
-      ScalarNode keyNode = new ScalarNode(Tag.STR, keyValue, null, null, ScalarStyle.PLAIN);
+      keyValue = unescapeKeyIfNeeded(keyValue);
+      // An escaped empty key must not resolve to null
+      ScalarNode keyNode = new ScalarNode(Tag.STR, keyValue, null, null,
+          keyValue.isEmpty() ? ScalarStyle.DOUBLE_QUOTED : ScalarStyle.PLAIN);
+      if (preserveAnchors && MERGE_KEY.equals(keyValue)) {
+        keyNode.setTag(Tag.MERGE);
+        merged = true;
+      }
       if (!pendingComments.isEmpty()) {
         keyNode.setBlockComments(new ArrayList<>(pendingComments));
         pendingComments.clear();
@@ -220,15 +910,16 @@ public class YamlWorkbookReader {
 
       // Check for key inline comment and inline value
       // Format can be: key | value | value_comment OR key | key_comment | value | value_comment
-      String secondCell = getCellValue(row, cellOffset + 1);
+      String secondCell = getCellValue(indexes, row, cellOffset + 1);
       Node valueNode;
+      String parentPath = enterPath(indexes, "." + keyValue);
 
       if (secondCell != null) {
         int valueOffset;
         if (isComment(secondCell)) {
           // Second cell is a key inline comment: key | key_comment | value | value_comment
           List<CommentLine> keyInlineComments = new ArrayList<>();
-          keyInlineComments.add(createInlineCommentLine(secondCell));
+          keyInlineComments.add(createInlineCommentLine(indexes, secondCell));
           keyNode.setInLineComments(keyInlineComments);
           valueOffset = cellOffset + 2;
         } else {
@@ -236,55 +927,70 @@ public class YamlWorkbookReader {
           valueOffset = cellOffset + 1;
         }
 
-        String inlineValue = getCellValue(row, valueOffset);
-        if (inlineValue != null) {
+        AnchoredValue anchored = splitAnchor(getCellValue(indexes, row, valueOffset));
+        String inlineValue = anchored.value();
+        if (isAlias(inlineValue)) {
+          valueNode = completeSharedNode(indexes, getAliasedNode(indexes, inlineValue));
+          i++;
+        } else if (inlineValue != null) {
           // Inline scalar value
           valueNode = new ScalarNode(Tag.STR, unescapeValueIfNeeded(inlineValue), null, null,
               ScalarStyle.PLAIN);
+          recordLocation(indexes, valueNode, row, valueOffset);
           // Check for value inline comments
-          List<CommentLine> inlineComments = parseInlineComments(row, valueOffset + 1);
+          List<CommentLine> inlineComments = parseInlineComments(indexes, row, valueOffset + 1);
           if (!inlineComments.isEmpty()) {
             valueNode.setInLineComments(inlineComments);
           }
+          valueNode = completeNode(indexes, valueNode);
           i++;
         } else {
           // Key with key inline comment but nested content
           int nestedStart = i + 1;
-          int nestedEnd = findNestedEnd(rows, indentLevel, nestedStart, endIdx);
-          valueNode = parseRows(rows, indentLevel + 1, nestedStart, nestedEnd);
+          int nestedEnd = findNestedEnd(indexes, rows, indentLevel, nestedStart, endIdx);
+          valueNode = parseRows(indexes, rows, indentLevel + 1, nestedStart, nestedEnd);
           if (valueNode == null) {
-            valueNode = new ScalarNode(Tag.STR, "", null, null, ScalarStyle.PLAIN);
+            valueNode = createEmptyValue(indexes, row, valueOffset);
           }
+          recordLocation(indexes, valueNode, row, cellOffset);
+          valueNode = completeNode(indexes, valueNode);
           i = nestedEnd;
         }
+        registerAnchor(indexes, anchored.anchor(), valueNode);
       } else {
         // Nested content - find extent
         int nestedStart = i + 1;
-        int nestedEnd = findNestedEnd(rows, indentLevel, nestedStart, endIdx);
-        valueNode = parseRows(rows, indentLevel + 1, nestedStart, nestedEnd);
+        int nestedEnd = findNestedEnd(indexes, rows, indentLevel, nestedStart, endIdx);
+        valueNode = parseRows(indexes, rows, indentLevel + 1, nestedStart, nestedEnd);
         if (valueNode == null) {
-          valueNode = new ScalarNode(Tag.STR, "", null, null, ScalarStyle.PLAIN);
+          valueNode = createEmptyValue(indexes, row, cellOffset + 1);
         }
+        recordLocation(indexes, valueNode, row, cellOffset);
+        valueNode = completeNode(indexes, valueNode);
         i = nestedEnd;
       }
+      indexes.path = parentPath;
 
       tuples.add(new NodeTuple(keyNode, valueNode));
     }
 
     MappingNode node = new MappingNode(Tag.MAP, tuples, FlowStyle.BLOCK);
+    node.setMerged(merged);
     return node;
   }
 
-  private SequenceNode parseSequence(List<Row> rows, int indentLevel, int startIdx, int endIdx,
-      List<CommentLine> leadingComments) {
+  private SequenceNode parseSequence(SheetIndexes indexes, List<Row> rows, int indentLevel,
+      int startIdx, int endIdx, List<CommentLine> leadingComments) {
     List<Node> items = new ArrayList<>();
     int cellOffset = getContentOffset(indentLevel);
     List<CommentLine> pendingComments = new ArrayList<>(leadingComments);
+    String parentPath = enterPath(indexes, "[*]");
 
     int i = startIdx;
     while (i < endIdx) {
+      indexes.guard.checkpoint();
       Row row = rows.get(i);
-      int rowIndent = getIndentLevel(row);
+      int rowIndent = getIndentLevel(indexes, row);
 
       if (rowIndent < indentLevel) {
         break;
@@ -295,14 +1001,14 @@ public class YamlWorkbookReader {
         continue;
       }
 
-      String firstValue = getCellValue(row, cellOffset);
+      String firstValue = getCellValue(indexes, row, cellOffset);
       if (firstValue == null) {
         i++;
         continue;
       }
 
       if (isComment(firstValue)) {
-        pendingComments.add(createCommentLine(firstValue));
+        pendingComments.add(createCommentLine(indexes, firstValue));
         i++;
         continue;
       }
@@ -312,15 +1018,22 @@ public class YamlWorkbookReader {
       }
 
       // Parse sequence item
-      String inlineValue = getCellValue(row, cellOffset + 1);
+      AnchoredValue anchored = splitAnchor(getCellValue(indexes, row, cellOffset + 1));
+      String inlineValue = anchored.value();
       Node itemNode;
 
-      if (inlineValue != null) {
+      if (isAlias(inlineValue)) {
+        // Aliased items are shared, so pending comments stay with the next item
+        items.add(completeSharedNode(indexes, getAliasedNode(indexes, inlineValue)));
+        i++;
+        continue;
+      } else if (inlineValue != null) {
         // Inline scalar value
         itemNode = new ScalarNode(Tag.STR, unescapeValueIfNeeded(inlineValue), null, null,
             ScalarStyle.PLAIN);
+        recordLocation(indexes, itemNode, row, cellOffset + 1);
         // Check for inline comments
-        List<CommentLine> inlineComments = parseInlineComments(row, cellOffset + 2);
+        List<CommentLine> inlineComments = parseInlineComments(indexes, row, cellOffset + 2);
         if (!inlineComments.isEmpty()) {
           itemNode.setInLineComments(inlineComments);
         }
@@ -328,13 +1041,20 @@ public class YamlWorkbookReader {
       } else {
         // Nested content
         int nestedStart = i + 1;
-        int nestedEnd = findNestedEnd(rows, indentLevel, nestedStart, endIdx);
-        itemNode = parseRows(rows, indentLevel + 1, nestedStart, nestedEnd);
+        int nestedEnd = findNestedEnd(indexes, rows, indentLevel, nestedStart, endIdx);
+        itemNode = parseRows(indexes, rows, indentLevel + 1, nestedStart, nestedEnd);
         if (itemNode == null) {
-          itemNode = new ScalarNode(Tag.STR, "", null, null, ScalarStyle.PLAIN);
+          itemNode = createEmptyValue(indexes, row, cellOffset + 1);
         }
+        recordLocation(indexes, itemNode, row, cellOffset);
         i = nestedEnd;
       }
+      if (skipBlankItems && anchored.anchor() == null
+          && isBlank(indexes, itemNode, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+        continue;
+      }
+      itemNode = completeNode(indexes, itemNode);
+      registerAnchor(indexes, anchored.anchor(), itemNode);
 
       if (!pendingComments.isEmpty()) {
         itemNode.setBlockComments(new ArrayList<>(pendingComments));
@@ -343,14 +1063,125 @@ public class YamlWorkbookReader {
 
       items.add(itemNode);
     }
+    indexes.path = parentPath;
 
     return new SequenceNode(Tag.SEQ, items, FlowStyle.BLOCK);
   }
 
-  private int findNestedEnd(List<Row> rows, int parentIndent, int startIdx, int endIdx) {
+  private ScalarNode createEmptyValue(SheetIndexes indexes, Row row, int valueOffset) {
+    ScalarNode node = new ScalarNode(Tag.STR, "", null, null, ScalarStyle.PLAIN);
+    if (skipBlankItems && row.getCell(valueOffset) != null) {
+      indexes.blankCells.add(node);
+    }
+    return node;
+  }
+
+  /**
+   * Returns true when every value under the node was read from a cell that exists but was left
+   * empty. Explicitly empty items such as {@code {}} or {@code []} have no value cells at all and
+   * are therefore kept.
+   */
+  private boolean isBlank(SheetIndexes indexes, Node node, Set<Node> ancestors) {
+    if (node instanceof ScalarNode) {
+      return indexes.blankCells.contains(node);
+    }
+    // Aliases may point back at an enclosing node
+    if (!ancestors.add(node)) return false;
+    try {
+      if (node instanceof MappingNode mapping) {
+        return !mapping.getValue().isEmpty() && mapping.getValue().stream()
+            .allMatch(tuple -> isBlank(indexes, tuple.getValueNode(), ancestors));
+      }
+      List<Node> items = ((SequenceNode) node).getValue();
+      return !items.isEmpty() && items.stream().allMatch(item -> isBlank(indexes, item, ancestors));
+    } finally {
+      ancestors.remove(node);
+    }
+  }
+
+  private SequenceNode parseTable(SheetIndexes indexes, List<Row> rows, int indentLevel,
+      int headerIdx, int endIdx, List<CommentLine> leadingComments) {
+    int cellOffset = getContentOffset(indentLevel);
+
+    // Header row: tableMark | key1 | key2 | ...
+    Row headerRow = rows.get(headerIdx);
+    List<String> keys = new ArrayList<>();
+    for (int c = cellOffset + 1; c < headerRow.getLastCellNum(); c++) {
+      String key = getCellValue(indexes, headerRow, c);
+      if (key == null) break;
+      keys.add(unescapeValueIfNeeded(key));
+    }
+
+    // Item rows: itemMark | value1 | value2 | ...
+    List<Node> items = new ArrayList<>();
+    String parentPath = enterPath(indexes, "[*]");
+    for (int i = headerIdx + 1; i < endIdx; i++) {
+      Row row = rows.get(i);
+      if (getIndentLevel(indexes, row) != indentLevel
+          || !isItemMark(getCellValue(indexes, row, cellOffset))) {
+        break;
+      }
+
+      List<NodeTuple> tuples = new ArrayList<>(keys.size());
+      for (int k = 0; k < keys.size(); k++) {
+        String itemPath = enterPath(indexes, "." + keys.get(k));
+        String value = unescapeValueIfNeeded(getCellValue(indexes, row, cellOffset + 1 + k));
+        Node valueNode =
+            new ScalarNode(Tag.STR, value == null ? "" : value, null, null, ScalarStyle.PLAIN);
+        recordLocation(indexes, valueNode, row, cellOffset + 1 + k);
+        tuples.add(new NodeTuple(
+            new ScalarNode(Tag.STR, keys.get(k), null, null, ScalarStyle.PLAIN),
+            completeNode(indexes, valueNode)));
+        indexes.path = itemPath;
+      }
+      Node itemNode = new MappingNode(Tag.MAP, tuples, FlowStyle.BLOCK);
+      recordLocation(indexes, itemNode, row, cellOffset);
+      items.add(completeNode(indexes, itemNode));
+    }
+    indexes.path = parentPath;
+
+    SequenceNode node = new SequenceNode(Tag.SEQ, items, FlowStyle.BLOCK);
+    if (!leadingComments.isEmpty()) {
+      node.setBlockComments(leadingComments);
+    }
+    return node;
+  }
+
+  private SequenceNode parseCompactSequence(SheetIndexes indexes, List<Row> rows,
+      int indentLevel, int startIdx, int endIdx, List<CommentLine> leadingComments) {
+    int cellOffset = getContentOffset(indentLevel);
+
+    // Compact rows: compactMark | item1 | item2 | ... (wrapped onto further compact rows)
+    List<Node> items = new ArrayList<>();
+    String parentPath = enterPath(indexes, "[*]");
+    for (int i = startIdx; i < endIdx; i++) {
+      Row row = rows.get(i);
+      if (getIndentLevel(indexes, row) != indentLevel
+          || !isCompactMark(getCellValue(indexes, row, cellOffset))) {
+        break;
+      }
+      for (int c = cellOffset + 1; c < row.getLastCellNum(); c++) {
+        String value = unescapeValueIfNeeded(getCellValue(indexes, row, c));
+        Node itemNode = new ScalarNode(Tag.STR, value == null ? "" : value, null, null,
+            ScalarStyle.PLAIN);
+        recordLocation(indexes, itemNode, row, c);
+        items.add(completeNode(indexes, itemNode));
+      }
+    }
+    indexes.path = parentPath;
+
+    SequenceNode node = new SequenceNode(Tag.SEQ, items, FlowStyle.BLOCK);
+    if (!leadingComments.isEmpty()) {
+      node.setBlockComments(leadingComments);
+    }
+    return node;
+  }
+
+  private int findNestedEnd(SheetIndexes indexes, List<Row> rows, int parentIndent, int startIdx,
+      int endIdx) {
     for (int i = startIdx; i < endIdx; i++) {
       Row row = rows.get(i);
-      int rowIndent = getIndentLevel(row);
+      int rowIndent = getIndentLevel(indexes, row);
       if (rowIndent <= parentIndent) {
         return i;
       }
@@ -358,26 +1189,153 @@ public class YamlWorkbookReader {
     return endIdx;
   }
 
-  private boolean hasNestedContent(List<Row> rows, int indentLevel, int startIdx, int endIdx) {
+  private boolean hasNestedContent(SheetIndexes indexes, List<Row> rows, int indentLevel,
+      int startIdx, int endIdx) {
     if (startIdx + 1 >= endIdx) return false;
     Row nextRow = rows.get(startIdx + 1);
-    int nextIndent = getIndentLevel(nextRow);
+    int nextIndent = getIndentLevel(indexes, nextRow);
     return nextIndent > indentLevel;
   }
 
+  // A scalar occupies a single row, so further content at its level makes it a key without value
+  private boolean hasSiblingContent(SheetIndexes indexes, List<Row> rows, int indentLevel,
+      int startIdx, int endIdx) {
+    int cellOffset = getContentOffset(indentLevel);
+    for (int i = startIdx + 1; i < endIdx; i++) {
+      Row row = rows.get(i);
+      int rowIndent = getIndentLevel(indexes, row);
+      if (rowIndent < indentLevel) return false;
+      if (rowIndent > indentLevel) continue;
+      String value = getCellValue(indexes, row, cellOffset);
+      if (value != null && !isComment(value)) return true;
+    }
+    return false;
+  }
+
+  // ==================== PATH Mode Methods ====================
+
+  private Node parsePathRows(SheetIndexes indexes, List<Row> rows) {
+    PathTrie trie = new PathTrie();
+    List<CommentLine> pendingComments = new ArrayList<>();
+    boolean empty = true;
+
+    for (Row row : rows) {
+      String path = getCellValue(indexes, row, 0);
+      if (path != null && isComment(path)) {
+        pendingComments.add(createCommentLine(indexes, path));
+        continue;
+      }
+      String value = getCellValue(indexes, row, 1);
+      if (path == null && value == null) continue;
+
+      Node leaf;
+      if (YamlWorkbookWriter.EMPTY_MAPPING.equals(value)) {
+        leaf = new MappingNode(Tag.MAP, new ArrayList<>(), FlowStyle.FLOW);
+      } else if (YamlWorkbookWriter.EMPTY_SEQUENCE.equals(value)) {
+        leaf = new SequenceNode(Tag.SEQ, new ArrayList<>(), FlowStyle.FLOW);
+      } else {
+        value = unescapeValueIfNeeded(value);
+        leaf = new ScalarNode(Tag.STR, value == null ? "" : value, null, null, ScalarStyle.PLAIN);
+      }
+      List<CommentLine> inlineComments = parseInlineComments(indexes, row, 2);
+      if (!inlineComments.isEmpty()) {
+        leaf.setInLineComments(inlineComments);
+      }
+
+      List<Object> segments = parsePath(path == null ? "" : path);
+      indexes.guard.depth(segments.size() - 1);
+      if (indexes.validator != null) {
+        indexes.path = toSchemaPath(segments);
+        recordLocation(indexes, leaf, row, 1);
+        leaf = completeNode(indexes, leaf);
+      }
+      trie.insert(segments, leaf, pendingComments);
+      pendingComments.clear();
+      empty = false;
+    }
+
+    if (indexes.validator != null) {
+      indexes.path = "$";
+    }
+    return empty ? null : trie.toNode();
+  }
+
+  private String toSchemaPath(List<Object> segments) {
+    StringBuilder sb = new StringBuilder("$");
+    for (Object segment : segments) {
+      sb.append(segment instanceof Integer ? "[*]" : "." + segment);
+    }
+    return sb.toString();
+  }
+
+  private List<Object> parsePath(String path) {
+    String separator = workbookSyntax.getPathSeparator();
+    String indexStart = workbookSyntax.getPathIndexStart();
+    String indexEnd = workbookSyntax.getPathIndexEnd();
+
+    List<Object> segments = new ArrayList<>();
+    int i = 0;
+    if (!path.isEmpty() && !path.startsWith(indexStart)) {
+      i = readPathKey(path, 0, segments);
+    }
+    while (i < path.length()) {
+      if (path.startsWith(separator, i)) {
+        i = readPathKey(path, i + separator.length(), segments);
+      } else if (path.startsWith(indexStart, i)) {
+        int end = path.indexOf(indexEnd, i + indexStart.length());
+        if (end < 0) {
+          throw new IllegalArgumentException("Unclosed sequence index in path: " + path);
+        }
+        segments.add(Integer.valueOf(path.substring(i + indexStart.length(), end).trim()));
+        i = end + indexEnd.length();
+      } else {
+        throw new IllegalArgumentException("Invalid path: " + path);
+      }
+    }
+    return segments;
+  }
+
+  private int readPathKey(String path, int start, List<Object> segments) {
+    String escapeMark = workbookSyntax.getEscapeMark();
+    StringBuilder key = new StringBuilder();
+    int i = start;
+    while (i < path.length() && !path.startsWith(workbookSyntax.getPathSeparator(), i)
+        && !path.startsWith(workbookSyntax.getPathIndexStart(), i)) {
+      if (path.startsWith(escapeMark, i) && i + escapeMark.length() < path.length()) {
+        i += escapeMark.length();
+      }
+      key.append(path.charAt(i++));
+    }
+    segments.add(key.toString());
+    return i;
+  }
+
+  private boolean isPathMode() {
+    return indentationMode == IndentationMode.PATH;
+  }
+
   private boolean isPrefixMode() {
     return indentationMode == IndentationMode.PREFIX;
   }
 
+  private boolean isAdaptiveMode() {
+    return indentationMode == IndentationMode.ADAPTIVE;
+  }
+
   private int getContentOffset(int indentLevel) {
     if (isPrefixMode()) {
       // In prefix mode: level 0 content at col 0, levels 1+ content at col 1
       return indentLevel > 0 ? 1 : 0;
     }
-    return indentLevel * workbookSyntax.getIndentCellCount();
+    int offset = indentLevel * workbookSyntax.getIndentCellCount();
+    if (isAdaptiveMode() && indentLevel > 0 && offset > adaptiveColumnBudget) {
+      // In adaptive mode: rows beyond the column budget are prefixed, content at col 1
+      return 1;
+    }
+    return offset;
   }
 
-  private int getIndentLevel(Row row) {
+  private int getIndentLevel(SheetIndexes indexes, Row row) {
     if (row == null) return 0;
 
     if (isPrefixMode()) {
@@ -386,7 +1344,7 @@ public class YamlWorkbookReader {
       if (firstCell == null || firstCell.isEmpty()) {
         // No prefix means level 0 (or empty row)
         // Check if there's content at col 0
-        String content = getCellValue(row, 0);
+        String content = getCellValue(indexes, row, 0);
         return (content != null && !content.isEmpty()) ? 0 : 0;
       }
       int level = indentPrefixStrategy.parsePrefix(firstCell);
@@ -397,9 +1355,18 @@ public class YamlWorkbookReader {
       return 0;
     }
 
+    if (isAdaptiveMode()) {
+      // In adaptive mode, a prefix in cell 0 marks a deep row; others use cell offsets
+      String firstCell = getCellStringValue(row.getCell(0));
+      int level = firstCell == null ? -1 : indentPrefixStrategy.parsePrefix(firstCell);
+      if (level > 0) {
+        return level;
+      }
+    }
+
     // Original CELL_OFFSET behavior
     for (int i = 0; i <= row.getLastCellNum(); i++) {
-      String value = getCellValue(row, i);
+      String value = getCellValue(indexes, row, i);
       if (value != null && !value.isEmpty()) {
         return i / workbookSyntax.getIndentCellCount();
       }
@@ -407,19 +1374,25 @@ public class YamlWorkbookReader {
     return 0;
   }
 
-  private String getCellValue(Row row, int cellIndex) {
+  private String getCellValue(SheetIndexes indexes, Row row, int cellIndex) {
     if (row == null || cellIndex < 0) return null;
     Cell cell = row.getCell(cellIndex);
     if (cell == null) return null;
+    indexes.guard.at(row, cellIndex);
+    String value = readCellValue(indexes, cell);
+    indexes.guard.scalar(value);
+    return value;
+  }
 
+  private String readCellValue(SheetIndexes indexes, Cell cell) {
     // In DISPLAY_MODE or FORM_MODE, check cell comments for original values
     if (isReadableMode()) {
-      String commentValue = getCellCommentValue(cell);
+      String commentValue = getCellCommentValue(indexes, cell);
       if (commentValue != null) {
         if (commentValue.startsWith("ENUM_VALUES:")) {
           // Enum with enumNames: map display value back to actual enum value by index
           String displayValue = getCellStringValue(cell);
-          List<String> dropdownOptions = getDropdownOptionsForCell(cell);
+          List<String> dropdownOptions = getDropdownOptionsForCell(indexes, cell);
           return mapEnumValueByIndex(displayValue, dropdownOptions, commentValue);
         } else {
           // Cell comment contains the original value (or original comment with # prefix)
@@ -449,44 +1422,104 @@ public class YamlWorkbookReader {
     return null;
   }
 
-  private String getCellCommentValue(Cell cell) {
+  private String getCellCommentValue(SheetIndexes indexes, Cell cell) {
     if (cell == null) return null;
-    Comment comment = cell.getCellComment();
-    if (comment == null) return null;
-    String commentText = comment.getString().getString();
-    return (commentText == null || commentText.isEmpty()) ? null : commentText;
+    return indexes.comments.computeIfAbsent(cell.getSheet(), this::buildCommentIndex)
+        .get(cell.getAddress());
+  }
+
+  private Map<CellAddress, String> buildCommentIndex(Sheet sheet) {
+    var event = new CommentIndexBuiltEvent();
+    event.begin();
+
+    Map<CellAddress, String> index = new HashMap<>();
+    for (var entry : sheet.getCellComments().entrySet()) {
+      Comment comment = entry.getValue();
+      String commentText = comment.getString() == null ? null : comment.getString().getString();
+      if (commentText != null && !commentText.isEmpty()) {
+        index.put(entry.getKey(), commentText);
+      }
+    }
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.sheetName = sheet.getSheetName();
+      event.comments = index.size();
+      event.commit();
+    }
+    return index;
   }
 
   private boolean isReadableMode() {
     return outputMode == OutputMode.DISPLAY_MODE || outputMode == OutputMode.FORM_MODE;
   }
 
-  private List<String> getDropdownOptionsForCell(Cell cell) {
+  private List<String> getDropdownOptionsForCell(SheetIndexes indexes, Cell cell) {
     if (cell == null) {
       return Collections.emptyList();
     }
-    Sheet sheet = cell.getSheet();
+    ValidationIndex index =
+        indexes.validations.computeIfAbsent(cell.getSheet(), this::buildValidationIndex);
+
+    // The first validation covering the cell wins, so only earlier ranges can precede its own
+    ValidationRange single = index.singleCells.get(cell.getAddress());
     int row = cell.getRowIndex();
     int col = cell.getColumnIndex();
+    for (var range : index.ranges) {
+      if (single != null && range.order() > single.order()) break;
+      if (cellInRange(row, col, range.regions())) {
+        return range.options();
+      }
+    }
+    return single != null ? single.options() : Collections.emptyList();
+  }
+
+  private ValidationIndex buildValidationIndex(Sheet sheet) {
+    var event = new ValidationIndexBuiltEvent();
+    event.begin();
 
+    // Sheet#getDataValidations() rebuilds every validation on each call, so read them once
+    ValidationIndex index = new ValidationIndex();
+    int validationCount = 0;
     for (DataValidation validation : sheet.getDataValidations()) {
-      if (cellInRange(row, col, validation.getRegions().getCellRangeAddresses())) {
-        DataValidationConstraint constraint = validation.getValidationConstraint();
-        if (constraint.getValidationType() == DataValidationConstraint.ValidationType.LIST) {
-          // Try explicit list first
-          String[] explicitOptions = constraint.getExplicitListValues();
-          if (explicitOptions != null) {
-            return Arrays.asList(explicitOptions);
-          }
-          // Try formula-based constraint (named range)
-          String formula = constraint.getFormula1();
-          if (formula != null) {
-            return getOptionsFromNamedRange(cell.getSheet().getWorkbook(), formula);
-          }
-        }
+      List<String> options = getListOptions(sheet.getWorkbook(), validation);
+      if (options == null) continue;
+
+      CellRangeAddress[] regions = validation.getRegions().getCellRangeAddresses();
+      var range = new ValidationRange(validationCount++, regions, options);
+      if (regions.length == 1 && regions[0].getNumberOfCells() == 1) {
+        index.singleCells.putIfAbsent(
+            new CellAddress(regions[0].getFirstRow(), regions[0].getFirstColumn()), range);
+      } else {
+        index.ranges.add(range);
       }
     }
-    return Collections.emptyList();
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.sheetName = sheet.getSheetName();
+      event.validations = validationCount;
+      event.commit();
+    }
+    return index;
+  }
+
+  private List<String> getListOptions(Workbook workbook, DataValidation validation) {
+    DataValidationConstraint constraint = validation.getValidationConstraint();
+    if (constraint.getValidationType() != DataValidationConstraint.ValidationType.LIST) {
+      return null;
+    }
+    // Try explicit list first
+    String[] explicitOptions = constraint.getExplicitListValues();
+    if (explicitOptions != null) {
+      return Arrays.asList(explicitOptions);
+    }
+    // Try formula-based constraint (named range)
+    String formula = constraint.getFormula1();
+    if (formula != null) {
+      return getOptionsFromNamedRange(workbook, formula);
+    }
+    return null;
   }
 
   private List<String> getOptionsFromNamedRange(Workbook workbook, String rangeName) {
@@ -586,11 +1619,80 @@ public class YamlWorkbookReader {
     return value;
   }
 
+  // Only keys that would otherwise be read as a mark are escaped, so other keys starting with the
+  // escape mark, e.g. ones of workbooks written before keys were escaped, are read as they are
+  private String unescapeKeyIfNeeded(String key) {
+    if (key.startsWith(workbookSyntax.getEscapeMark())) {
+      String unescaped = key.substring(workbookSyntax.getEscapeMark().length());
+      if (isMarkLikeKey(unescaped)) return unescaped;
+    }
+    return key;
+  }
+
+  private boolean isMarkLikeKey(String key) {
+    return key.isEmpty() || key.startsWith(workbookSyntax.getCommentMark())
+        || key.equals(workbookSyntax.getFrontmatter())
+        || key.equals(workbookSyntax.getItemMark())
+        || key.equals(workbookSyntax.getTableMark())
+        || key.equals(workbookSyntax.getCompactMark())
+        || (key.startsWith(workbookSyntax.getEscapeMark())
+            && isMarkLikeKey(key.substring(workbookSyntax.getEscapeMark().length())));
+  }
+
+  private boolean isTableMark(String value) {
+    return workbookSyntax.getTableMark().equals(value);
+  }
+
+  /**
+   * Splits a cell value of the form {@code &name} or {@code &name value} into its anchor and the
+   * remaining value, which is null for an anchored nested structure.
+   */
+  private AnchoredValue splitAnchor(String value) {
+    String anchorMark = workbookSyntax.getAnchorMark();
+    if (!preserveAnchors || value == null || !value.startsWith(anchorMark)) {
+      return new AnchoredValue(null, value);
+    }
+    int space = value.indexOf(' ');
+    if (space < 0) {
+      return new AnchoredValue(value.substring(anchorMark.length()), null);
+    }
+    return new AnchoredValue(value.substring(anchorMark.length(), space),
+        value.substring(space + 1));
+  }
+
+  private boolean isAlias(String value) {
+    return preserveAnchors && value != null && value.startsWith(workbookSyntax.getAliasMark());
+  }
+
+  private Node getAliasedNode(SheetIndexes indexes, String alias) {
+    String anchor = alias.substring(workbookSyntax.getAliasMark().length());
+    Node node = indexes.anchors.get(anchor);
+    if (node == null) {
+      throw new IllegalArgumentException("Undefined alias: " + alias);
+    }
+    if (!(node instanceof ScalarNode)) {
+      indexes.guard.aliases(++indexes.aliases);
+    }
+    return node;
+  }
+
+  private void registerAnchor(SheetIndexes indexes, String anchor, Node node) {
+    if (anchor != null) {
+      node.setAnchor(anchor);
+      indexes.anchors.put(anchor, node);
+    }
+  }
+
+  private boolean isCompactMark(String value) {
+    return workbookSyntax.getCompactMark().equals(value);
+  }
+
   private boolean isItemMark(String value) {
     return workbookSyntax.getItemMark().equals(value);
   }
 
-  private CommentLine createCommentLine(String commentValue) {
+  private CommentLine createCommentLine(SheetIndexes indexes, String commentValue) {
+    indexes.guard.comment();
     String text = commentValue;
     if (text.startsWith(workbookSyntax.getCommentMark())) {
       text = text.substring(workbookSyntax.getCommentMark().length()).trim();
@@ -598,7 +1700,8 @@ public class YamlWorkbookReader {
     return new CommentLine(null, null, " " + text, CommentType.BLOCK);
   }
 
-  private CommentLine createInlineCommentLine(String commentValue) {
+  private CommentLine createInlineCommentLine(SheetIndexes indexes, String commentValue) {
+    indexes.guard.comment();
     String text = commentValue;
     if (text.startsWith(workbookSyntax.getCommentMark())) {
       text = text.substring(workbookSyntax.getCommentMark().length()).trim();
@@ -606,18 +1709,61 @@ public class YamlWorkbookReader {
     return new CommentLine(null, null, " " + text, CommentType.IN_LINE);
   }
 
-  private List<CommentLine> parseInlineComments(Row row, int startCellIndex) {
+  private List<CommentLine> parseInlineComments(SheetIndexes indexes, Row row, int startCellIndex) {
     List<CommentLine> comments = new ArrayList<>();
     for (int i = startCellIndex; i <= row.getLastCellNum(); i++) {
-      String value = getCellValue(row, i);
+      String value = getCellValue(indexes, row, i);
       if (value != null && isComment(value)) {
-        String text = value.substring(workbookSyntax.getCommentMark().length()).trim();
-        comments.add(new CommentLine(null, null, " " + text, CommentType.IN_LINE));
+        comments.add(createInlineCommentLine(indexes, value));
       }
     }
     return comments;
   }
 
+  /**
+   * Per-conversion lookup tables, built lazily once per sheet and only in readable modes, plus the
+   * anchors of the document being reconstructed and the guard enforcing the conversion limits.
+   */
+  private static final class SheetIndexes {
+
+    private final ConversionGuard guard;
+    private final Map<Sheet, Map<CellAddress, String>> comments = new HashMap<>();
+    private final Map<Sheet, ValidationIndex> validations = new HashMap<>();
+    private final Map<String, Node> anchors = new HashMap<>();
+    /** Aliases of mappings and sequences resolved in the current document */
+    private int aliases;
+    /** Empty values of the current document whose cells exist but were left empty */
+    private final Set<Node> blankCells = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Cells the nodes of the current document were read from; null unless validating */
+    private Map<Node, SchemaValidator.Location> locations;
+    /** Validates nodes as they are reconstructed; null unless jsonSchema is set */
+    private SchemaValidator validator;
+    /** Types scalars as they are reconstructed; null unless typeScalarsBySchema is enabled */
+    private SchemaScalarTyper typer;
+    /** Schema path of the nodes being reconstructed; null unless validating */
+    private String path;
+    /** Location of nodes read from no particular cell in the current document */
+    private SchemaValidator.Location documentLocation;
+
+    private SheetIndexes(ConversionGuard guard) {
+      this.guard = guard;
+    }
+
+  }
+
+  private record DocumentRows(Row frontmatter, List<Row> rows) {}
+
+  private record AnchoredValue(String anchor, String value) {}
+
+  private static final class ValidationIndex {
+
+    private final Map<CellAddress, ValidationRange> singleCells = new HashMap<>();
+    private final List<ValidationRange> ranges = new ArrayList<>();
+
+  }
+
+  private record ValidationRange(int order, CellRangeAddress[] regions, List<String> options) {}
+
   /**
    * Builder class for {@link YamlWorkbookReader}.
    * <p>
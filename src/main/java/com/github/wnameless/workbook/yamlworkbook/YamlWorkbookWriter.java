@@ -1,12 +1,29 @@
 package com.github.wnameless.workbook.yamlworkbook;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.ClientAnchor;
 import org.apache.poi.ss.usermodel.Comment;
 import org.apache.poi.ss.usermodel.CreationHelper;
@@ -20,6 +37,7 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddressList;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.comments.CommentLine;
@@ -42,7 +60,7 @@ import tools.jackson.databind.JsonNode;
  * <li>Parses YAML via SnakeYAML with comment support</li>
  * <li>Generates Apache POI XSSFWorkbook (.xlsx format)</li>
  * <li>Supports three output modes: YAML_ORIENTED, DISPLAY_MODE, FORM_MODE</li>
- * <li>Supports two indentation modes: CELL_OFFSET (default) and PREFIX</li>
+ * <li>Supports indentation modes: CELL_OFFSET (default), PREFIX, ADAPTIVE and PATH</li>
  * </ul>
  *
  * @author Wei-Ming Wu
@@ -55,6 +73,9 @@ public class YamlWorkbookWriter {
 
   private static final Logger log = Logger.getLogger(YamlWorkbookWriter.class.getName());
 
+  static final String EMPTY_MAPPING = "{}";
+  static final String EMPTY_SEQUENCE = "[]";
+
   @Builder.Default
   private OutputMode outputMode = OutputMode.YAML_ORIENTED;
   @Builder.Default
@@ -71,6 +92,46 @@ public class YamlWorkbookWriter {
   private IndentationMode indentationMode = IndentationMode.CELL_OFFSET;
   @Builder.Default
   private IndentPrefixStrategy indentPrefixStrategy = IndentPrefixStrategy.DEFAULT;
+  /** Last content column laid out by cell offset in ADAPTIVE mode; deeper rows use prefixes */
+  @Builder.Default
+  private int adaptiveColumnBudget = 8;
+  @Builder.Default
+  private SequenceLayoutStrategy sequenceLayoutStrategy = SequenceLayoutStrategy.DEFAULT;
+  /** Maximum items per row for {@link SequenceLayout#COMPACT} before wrapping */
+  @Builder.Default
+  private int compactItemsPerRow = 100;
+  /** Writes anchored nodes once and repeated references as alias cells instead of expanding */
+  @Builder.Default
+  private boolean preserveAnchors = false;
+  /** Embeds the source YAML and per-document cell hashes so unchanged documents skip parsing */
+  @Builder.Default
+  private boolean embedSource = false;
+  /** Records per-document row ranges and cell fingerprints for incremental re-reading */
+  @Builder.Default
+  private boolean recordFingerprints = false;
+  /** Renders comment cells in italic grey in YAML_ORIENTED mode */
+  @Builder.Default
+  private boolean styleComments = false;
+  /** Rows per visible sheet before a document continues on a continuation sheet */
+  @Builder.Default
+  private int maxRowsPerSheet = SpreadsheetVersion.EXCEL2007.getMaxRows();
+  /** Receives per-phase timings and counters; {@link ConversionListener#NOOP} disables them */
+  @Builder.Default
+  private ConversionListener conversionListener = ConversionListener.NOOP;
+  /** Runs the {@code *Async} conversions; defaults to virtual threads on Java 21+ */
+  @Builder.Default
+  private Executor executor = AsyncConversions.DEFAULT_EXECUTOR;
+  /** Scans and parses YAML text on a separate thread while earlier content is being rendered */
+  @Builder.Default
+  private boolean pipelined = false;
+  /** Documents a {@link WorkbookSubscriber} requests ahead of the writer */
+  @Builder.Default
+  private int subscriberBufferSize = 16;
+  /** Resource limits checked while writing, e.g. rows, depth and timeout */
+  @Builder.Default
+  private ConversionLimits conversionLimits = ConversionLimits.NONE;
+  /** Optional: cancels the conversions of this writer from any thread */
+  private CancellationToken cancellationToken;
 
   /** JSON Schema string for FORM_MODE */
   private String jsonSchema;
@@ -79,27 +140,154 @@ public class YamlWorkbookWriter {
   private final List<Sheet> visibleSheets = new ArrayList<>();
   private final Map<Integer, Sheet> hiddenSheets = new HashMap<>();
   private final Map<Integer, Integer> hiddenSheetEnumRowCounter = new HashMap<>();
+  private final ConversionMetrics metrics = new ConversionMetrics();
+  private final Map<Sheet, SheetRenderedEvent> sheetEvents = new LinkedHashMap<>();
+  private final Map<Sheet, List<Sheet>> continuationSheets = new HashMap<>();
+  private final Set<Node> renderedAnchors = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Map<Row, Integer> documentIndexes = new LinkedHashMap<>();
+  private final Map<Row, String> documentSources = new HashMap<>();
+  private CellStylePool cellStylePool;
+  private ItemTemplate itemTemplate;
+  private ConversionGuard guard;
 
   private void resetState() {
+    if (maxRowsPerSheet < 1) {
+      throw new IllegalArgumentException("maxRowsPerSheet must be positive: " + maxRowsPerSheet);
+    }
+    if (preserveAnchors && isPathMode()) {
+      // PATH rows are leaves, so aliases would be expanded into every path they reach
+      throw new IllegalStateException("PATH indentation mode does not support preserveAnchors");
+    }
     visibleSheets.clear();
+    continuationSheets.clear();
+    renderedAnchors.clear();
+    documentIndexes.clear();
+    documentSources.clear();
     hiddenSheets.clear();
     hiddenSheetEnumRowCounter.clear();
+    metrics.reset(conversionListener);
+    sheetEvents.clear();
+    cellStylePool = null;
+    itemTemplate = null;
+    guard = new ConversionGuard(conversionLimits, cancellationToken);
+  }
+
+  private void applyStyle(Cell cell, CellStylePool.Role role) {
+    Workbook workbook = cell.getSheet().getWorkbook();
+    if (cellStylePool == null || cellStylePool.getWorkbook() != workbook) {
+      cellStylePool = new CellStylePool(workbook);
+    }
+    cellStylePool.apply(cell, role);
+  }
+
+  private boolean isCommentStyled() {
+    return styleComments && outputMode == OutputMode.YAML_ORIENTED;
+  }
+
+  private void beginSheetEvent(Sheet sheet) {
+    var event = new SheetRenderedEvent();
+    if (event.isEnabled()) {
+      event.begin();
+      sheetEvents.put(sheet, event);
+    }
+  }
+
+  private void commitSheetEvents(Workbook workbook) {
+    for (var entry : sheetEvents.entrySet()) {
+      Sheet sheet = entry.getKey();
+      SheetRenderedEvent event = entry.getValue();
+      event.end();
+      if (event.shouldCommit()) {
+        event.sheetName = sheet.getSheetName();
+        event.hidden = workbook.isSheetHidden(workbook.getSheetIndex(sheet));
+        event.rows = sheet.getPhysicalNumberOfRows();
+        event.commit();
+      }
+    }
+    sheetEvents.clear();
+  }
+
+  private Row createNextRow(Sheet sheet) {
+    metrics.rowCreated();
+    Sheet lastPart = getLastSheetPart(sheet);
+    int maxRows =
+        Math.min(maxRowsPerSheet, sheet.getWorkbook().getSpreadsheetVersion().getMaxRows());
+    if (lastPart.getLastRowNum() + 1 >= maxRows) {
+      lastPart = createContinuationSheet(sheet, lastPart);
+    }
+    Row row = lastPart.createRow(lastPart.getLastRowNum() + 1);
+    guard.row(row);
+    for (ItemTemplate template = itemTemplate; template != null; template = template.outer) {
+      if (template.capturing) template.rows.add(row);
+    }
+    return row;
+  }
+
+  private List<Sheet> getSheetParts(Sheet sheet) {
+    return continuationSheets.getOrDefault(sheet, List.of(sheet));
+  }
+
+  private Sheet getLastSheetPart(Sheet sheet) {
+    List<Sheet> parts = getSheetParts(sheet);
+    return parts.get(parts.size() - 1);
+  }
+
+  private Sheet createContinuationSheet(Sheet sheet, Sheet lastPart) {
+    List<Sheet> parts =
+        continuationSheets.computeIfAbsent(sheet, k -> new ArrayList<>(List.of(sheet)));
+    Workbook workbook = sheet.getWorkbook();
+    String sheetName =
+        sheetNameStrategy.applyContinuation(visibleSheets.indexOf(sheet), parts.size() + 1);
+
+    // Keep continuation sheets right after the part they continue
+    Sheet continuation = workbook.createSheet(sheetName);
+    workbook.setSheetOrder(sheetName, workbook.getSheetIndex(lastPart) + 1);
+    beginSheetEvent(continuation);
+    parts.add(continuation);
+    return continuation;
   }
 
   private boolean isPrefixMode() {
     return indentationMode == IndentationMode.PREFIX;
   }
 
+  private boolean isPathMode() {
+    return indentationMode == IndentationMode.PATH;
+  }
+
+  private boolean isAdaptiveMode() {
+    return indentationMode == IndentationMode.ADAPTIVE;
+  }
+
+  private boolean isPrefixed(int indentLevel) {
+    if (isPrefixMode()) {
+      return indentLevel > 0;
+    }
+    if (isAdaptiveMode()) {
+      // In adaptive mode: switch to prefixes once cell offsets exceed the column budget
+      return indentLevel > 0
+          && indentLevel * workbookSyntax.getIndentCellCount() > adaptiveColumnBudget;
+    }
+    return false;
+  }
+
   private int calculateCellIndex(int indentLevel) {
+    if (isPathMode()) {
+      // In path mode: everything starts at col 0, nesting lives in the path
+      return 0;
+    }
     if (isPrefixMode()) {
       // In prefix mode: level 0 content at col 0, levels 1+ content at col 1
       return indentLevel > 0 ? 1 : 0;
     }
+    if (isPrefixed(indentLevel)) {
+      return 1;
+    }
     return indentLevel * workbookSyntax.getIndentCellCount();
   }
 
   private void writePrefixIfEnabled(Row row, int indentLevel) {
-    if (isPrefixMode() && indentLevel > 0) {
+    if (isPrefixed(indentLevel)) {
       Cell prefixCell = row.createCell(0);
       prefixCell.setCellValue(indentPrefixStrategy.generatePrefix(indentLevel));
     }
@@ -115,36 +303,344 @@ public class YamlWorkbookWriter {
   public Workbook toWorkbook(Reader yamlContent, Reader... yamlContents) {
     resetState();
     var workbook = new XSSFWorkbook();
+    LoaderOptions options = createLoaderOptions();
+    Yaml yaml = new Yaml(options);
+
+    List<Reader> contents = new ArrayList<>();
+    contents.add(yamlContent);
+    contents.addAll(Arrays.asList(yamlContents));
+
+    // Embedded sources are sliced from the text, so it is read up front
+    List<String> texts = embedSource ? readTexts(contents) : null;
+    List<Iterable<Node>> nodeIters = new ArrayList<>();
+    List<PipelinedComposer> pipelines = new ArrayList<>();
+    for (int i = 0; i < contents.size(); i++) {
+      Reader content = texts != null ? new StringReader(texts.get(i)) : contents.get(i);
+      if (pipelined) {
+        var pipeline = new PipelinedComposer(content, options);
+        pipelines.add(pipeline);
+        nodeIters.add(pipeline);
+      } else {
+        nodeIters.add(yaml.composeAll(content));
+      }
+    }
+
+    try {
+      processNodes(nodeIters, texts, workbook);
+    } finally {
+      pipelines.forEach(PipelinedComposer::close);
+    }
 
+    ensureVisibleSheet(workbook);
+    writeManifestIfEnabled(workbook);
+    commitSheetEvents(workbook);
+    metrics.complete();
+    return workbook;
+  }
+
+  /**
+   * Converts in-memory Java objects to an Excel workbook, one YAML document per object.
+   * <p>
+   * Objects ({@code Map}, {@code List}, scalars or JavaBeans) are represented as SnakeYAML Nodes
+   * by the {@link org.yaml.snakeyaml.representer.Representer} and traversed directly, so no YAML
+   * text is serialized or re-parsed. Each document is represented lazily right before it is
+   * written. Note that a {@code String} passed here becomes a scalar document; use
+   * {@link #toWorkbook(Reader, Reader...)} for YAML text.
+   *
+   * @param data the primary object to convert
+   * @param moreData additional objects (optional)
+   * @return the generated Excel workbook
+   */
+  public Workbook toWorkbook(Object data, Object... moreData) {
+    resetState();
+    var workbook = new XSSFWorkbook();
+
+    Yaml yaml = new Yaml(new DumperOptions());
+
+    List<Object> objects = new ArrayList<>();
+    objects.add(data);
+    if (moreData != null) {
+      objects.addAll(Arrays.asList(moreData));
+    }
+    Iterable<Node> nodeIter = () -> objects.stream().map(yaml::represent).iterator();
+    return writeDocuments(nodeIter, workbook);
+  }
+
+  private Workbook writeDocuments(Iterable<Node> nodeIter, Workbook workbook) {
+    processNodes(List.of(nodeIter), null, workbook);
+
+    ensureVisibleSheet(workbook);
+    writeManifestIfEnabled(workbook);
+    commitSheetEvents(workbook);
+    metrics.complete();
+    return workbook;
+  }
+
+  private LoaderOptions createLoaderOptions() {
     LoaderOptions options = new LoaderOptions();
     options.setProcessComments(true);
-    Yaml yaml = new Yaml(options);
+    // Even alias cells are expanded again by readers walking the documents, so aliases stay bounded
+    options.setMaxAliasesForCollections(conversionLimits.getMaxAliasesForCollections());
+    return options;
+  }
 
-    List<Iterable<Node>> nodeIters = new ArrayList<>();
-    nodeIters.add(yaml.composeAll(yamlContent));
-    for (Reader content : yamlContents) {
-      nodeIters.add(yaml.composeAll(content));
+  /**
+   * Returns a subscriber that writes the YAML document nodes it receives into a new workbook as
+   * they arrive, requesting at most {@code subscriberBufferSize} documents ahead of the writer.
+   * <p>
+   * The writer runs on the configured executor for the lifetime of the subscription, so a writer
+   * must not be used for other conversions until the workbook is complete.
+   *
+   * @return a subscriber whose {@link WorkbookSubscriber#getWorkbook()} completes with the
+   *         workbook
+   */
+  public WorkbookSubscriber<Node> toWorkbookSubscriber() {
+    return new WorkbookSubscriber<>(List::of, this::writeDocuments, executor,
+        subscriberBufferSize);
+  }
+
+  /**
+   * Returns a subscriber that writes the YAML texts it receives into a new workbook as they
+   * arrive. Each text may hold several documents.
+   *
+   * @return a subscriber whose {@link WorkbookSubscriber#getWorkbook()} completes with the
+   *         workbook
+   * @see #toWorkbookSubscriber()
+   */
+  public WorkbookSubscriber<String> toWorkbookTextSubscriber() {
+    Yaml yaml = new Yaml(createLoaderOptions());
+    return new WorkbookSubscriber<>(text -> yaml.composeAll(new StringReader(text)),
+        this::writeDocuments, executor, subscriberBufferSize);
+  }
+
+  private Workbook writeDocuments(Iterable<Node> nodeIter) {
+    resetState();
+    return writeDocuments(nodeIter, new XSSFWorkbook());
+  }
+
+  /**
+   * Converts YAML content from Readers to an Excel workbook on the configured executor.
+   * <p>
+   * Cancelling the returned future interrupts the conversion, which stops at the next row it
+   * writes. A writer runs one conversion at a time, so concurrent conversions need separate
+   * writers.
+   *
+   * @param yamlContent the primary YAML content reader
+   * @param yamlContents additional YAML content readers (optional)
+   * @return a future of the generated Excel workbook
+   * @see #toWorkbook(Reader, Reader...)
+   */
+  public CompletableFuture<Workbook> toWorkbookAsync(Reader yamlContent, Reader... yamlContents) {
+    return AsyncConversions.supply(() -> toWorkbook(yamlContent, yamlContents), executor);
+  }
+
+  /**
+   * Converts in-memory Java objects to an Excel workbook on the configured executor.
+   *
+   * @param data the primary object to convert
+   * @param moreData additional objects (optional)
+   * @return a future of the generated Excel workbook
+   * @see #toWorkbook(Object, Object...)
+   * @see #toWorkbookAsync(Reader, Reader...)
+   */
+  public CompletableFuture<Workbook> toWorkbookAsync(Object data, Object... moreData) {
+    return AsyncConversions.supply(() -> toWorkbook(data, moreData), executor);
+  }
+
+  /**
+   * Creates a workbook from JSON Schema for FORM_MODE on the configured executor.
+   *
+   * @return a future of the generated workbook
+   * @see #toWorkbook()
+   * @see #toWorkbookAsync(Reader, Reader...)
+   */
+  public CompletableFuture<Workbook> toWorkbookAsync() {
+    return AsyncConversions.supply(this::toWorkbook, executor);
+  }
+
+  /**
+   * Updates a workbook previously generated by this writer to new YAML content in place.
+   * <p>
+   * The new content is rendered in memory and compared with the workbook block by block, a block
+   * being the rows of a top-level entry. Unchanged rows are left untouched, keeping any formatting
+   * users applied to them; changed rows are updated in place, and only the surplus rows are
+   * inserted or removed. Sheets the new content no longer needs are removed, while sheets not
+   * named by the {@link SheetNameStrategy} are kept. Embedded sources and fingerprints are
+   * rewritten if enabled and removed otherwise.
+   * <p>
+   * The update renders the whole content and compares a signature of every row, so its cost is
+   * linear in the size of the workbook even for a one-cell change; only the writes are limited to
+   * the changed rows.
+   *
+   * @param workbook the workbook to update
+   * @param yamlContent the primary YAML content reader
+   * @param yamlContents additional YAML content readers (optional)
+   * @return the updated workbook
+   */
+  public Workbook updateWorkbook(Workbook workbook, Reader yamlContent, Reader... yamlContents) {
+    try (Workbook rendered = toWorkbook(yamlContent, yamlContents)) {
+      new WorkbookUpdater(sheetNameStrategy).update(workbook, rendered);
+      if (workbook instanceof XSSFWorkbook xssfWorkbook) {
+        // Recorded row ranges no longer apply after the update
+        SourceManifest.remove(xssfWorkbook);
+        writeManifestIfEnabled(workbook);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return workbook;
+  }
+
+  /**
+   * Writes a workbook in .xlsx format, reporting the {@link ConversionPhase#SERIALIZATION} time
+   * and the number of bytes written to the configured {@link ConversionListener}.
+   * <p>
+   * Serialization is reported as a separate conversion: the listener receives a second
+   * {@link ConversionListener#conversionCompleted(ConversionStats)} whose stats only carry the
+   * serialization phase and {@link ConversionStats#getBytesWritten()}, while the stats of the
+   * conversion that produced the workbook keep a byte count of 0.
+   *
+   * @param workbook the workbook to write
+   * @param out the output stream to write to (not closed by this method)
+   * @throws IOException if writing fails
+   */
+  public void write(Workbook workbook, OutputStream out) throws IOException {
+    metrics.reset(conversionListener);
+    if (!metrics.isEnabled()) {
+      workbook.write(out);
+      return;
     }
 
-    processNodes(nodeIters, workbook);
+    var countingOut = new CountingOutputStream(out);
+    long begin = metrics.begin();
+    workbook.write(countingOut);
+    countingOut.flush();
+    metrics.end(ConversionPhase.SERIALIZATION, begin);
+    metrics.bytesWritten(countingOut.getCount());
+    metrics.complete();
+  }
 
+  private void ensureVisibleSheet(Workbook workbook) {
     if (visibleSheets.isEmpty()) {
       Sheet sheet = createVisibleSheet(workbook, 0);
       visibleSheets.add(sheet);
     }
-    return workbook;
   }
 
-  private void processNodes(List<Iterable<Node>> nodeIters, Workbook workbook) {
+  private void processNodes(List<Iterable<Node>> nodeIters, List<String> texts,
+      Workbook workbook) {
     int nodeIdx = 0;
-    for (var nodeIter : nodeIters) {
-      for (var node : nodeIter) {
-        processNode(node, workbook, nodeIdx);
+    for (int i = 0; i < nodeIters.size(); i++) {
+      Iterator<Node> nodes = nodeIters.get(i).iterator();
+      String text = texts != null ? texts.get(i) : null;
+      int charIdx = 0;
+      int codePointIdx = 0;
+      Row lastFrontmatter = null;
+      while (true) {
+        // Documents are parsed lazily, so parse time is spent inside the iterator
+        long parseBegin = metrics.begin();
+        Node node = nodes.hasNext() ? nodes.next() : null;
+        metrics.end(ConversionPhase.PARSE, parseBegin);
+        if (node == null) break;
+        guard.document();
+
+        Row frontmatter = processNode(node, workbook, nodeIdx);
+        guard.countPendingCells();
+        if (recordFingerprints || embedSource) {
+          documentIndexes.put(frontmatter, nodeIdx);
+        }
+        nodeIdx++;
+        if (!embedSource) continue;
+
+        if (text == null) {
+          documentSources.put(frontmatter, serialize(node));
+        } else {
+          // Marks count code points; each document runs up to the end of its root node
+          int endCodePointIdx = node.getEndMark().getIndex();
+          int endCharIdx = text.offsetByCodePoints(charIdx, endCodePointIdx - codePointIdx);
+          documentSources.put(frontmatter, text.substring(charIdx, endCharIdx));
+          charIdx = endCharIdx;
+          codePointIdx = endCodePointIdx;
+          lastFrontmatter = frontmatter;
+        }
+      }
+      if (lastFrontmatter != null && charIdx < text.length()) {
+        // Trailing text (e.g. end comments) belongs to the last document
+        documentSources.merge(lastFrontmatter, text.substring(charIdx), String::concat);
+      }
+    }
+  }
+
+  private List<String> readTexts(List<Reader> contents) {
+    long begin = metrics.begin();
+    List<String> texts = new ArrayList<>(contents.size());
+    for (Reader content : contents) {
+      var text = new StringWriter();
+      try {
+        content.transferTo(text);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
       }
+      texts.add(text.toString());
     }
+    metrics.end(ConversionPhase.PARSE, begin);
+    return texts;
+  }
+
+  private String serialize(Node node) {
+    DumperOptions options = new DumperOptions();
+    options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+    options.setProcessComments(true);
+    var text = new StringWriter();
+    new Yaml(options).serialize(node, text);
+    return text.toString();
   }
 
-  private void processNode(Node node, Workbook workbook, int nodeIdx) {
+  private void writeManifestIfEnabled(Workbook workbook) {
+    if (documentIndexes.isEmpty()) {
+      return;
+    }
+    var manifest = new SourceManifest();
+    for (var entry : documentIndexes.entrySet()) {
+      Row frontmatter = entry.getKey();
+      manifest.add(frontmatter, entry.getValue(), getDocumentRows(frontmatter),
+          documentSources.get(frontmatter));
+    }
+    manifest.write((XSSFWorkbook) workbook);
+  }
+
+  /**
+   * Returns the rows after a frontmatter row up to the next frontmatter row, following
+   * continuation sheets, as {@link YamlWorkbookReader} splits them.
+   */
+  private List<Row> getDocumentRows(Row frontmatter) {
+    Sheet sheet = frontmatter.getSheet();
+    List<Sheet> parts = List.of(sheet);
+    for (List<Sheet> sheetParts : continuationSheets.values()) {
+      if (sheetParts.contains(sheet)) {
+        parts = sheetParts;
+      }
+    }
+
+    List<Row> rows = new ArrayList<>();
+    int firstRowNum = frontmatter.getRowNum() + 1;
+    for (int p = parts.indexOf(sheet); p < parts.size(); p++) {
+      Sheet part = parts.get(p);
+      for (int i = part == sheet ? firstRowNum : 0; i <= part.getLastRowNum(); i++) {
+        Row row = part.getRow(i);
+        if (row == null) continue;
+
+        Cell cell = row.getCell(0);
+        if (cell != null && workbookSyntax.getFrontmatter().equals(cell.toString())) {
+          return rows;
+        }
+        rows.add(row);
+      }
+    }
+    return rows;
+  }
+
+  private Row processNode(Node node, Workbook workbook, int nodeIdx) {
     var logicalSheetIdx = nodeToSheetMapper.apply(node, nodeIdx);
 
     // Ensure visible sheet exists at logical index
@@ -154,6 +650,14 @@ public class YamlWorkbookWriter {
     }
     var sheet = visibleSheets.get(logicalSheetIdx);
 
+    var event = new DocumentConvertedEvent();
+    event.begin();
+    long begin = metrics.begin();
+    long nestedMark = metrics.nestedMark();
+    long rowsBefore = metrics.getRows();
+    Sheet firstPart = getLastSheetPart(sheet);
+    int firstRowNum = firstPart.getLastRowNum() + 1;
+
     // Handle document-level comments (before frontmatter)
     if (isDisplayMode()) {
       if (displayModeConfig.getDocumentComment() == CommentVisibility.COMMENT) {
@@ -163,14 +667,61 @@ public class YamlWorkbookWriter {
       writeDocumentComments(node, sheet);
     }
 
-    writeFrontmatter(sheet);
-    traverseAndPrintNodeWithoutBlockComments(node, sheet, 0);
-    nodeIdx++;
+    Row frontmatter = writeFrontmatter(sheet);
+    renderedAnchors.clear();
+    if (isPathMode()) {
+      writePathNode(node, sheet, "", null, 0);
+    } else {
+      traverseAndPrintNodeWithoutBlockComments(node, sheet, 0, "$");
+    }
+
+    metrics.endExcludingNested(ConversionPhase.TRAVERSAL, begin, nestedMark);
+    event.end();
+    if (metrics.isEnabled()) {
+      metrics.documentConverted((int) (metrics.getRows() - rowsBefore),
+          countCells(sheet, firstPart, firstRowNum));
+    }
+    if (event.shouldCommit()) {
+      event.direction = "write";
+      event.documentIndex = nodeIdx;
+      event.sheetName = sheet.getSheetName();
+      event.rows = countRows(sheet, firstPart, firstRowNum);
+      event.cells = countCells(sheet, firstPart, firstRowNum);
+      event.commit();
+    }
+    return frontmatter;
+  }
+
+  private int countRows(Sheet sheet, Sheet firstPart, int firstRowNum) {
+    int rows = 0;
+    List<Sheet> parts = getSheetParts(sheet);
+    for (int p = parts.indexOf(firstPart); p < parts.size(); p++) {
+      Sheet part = parts.get(p);
+      rows += part.getLastRowNum() + 1 - (part == firstPart ? firstRowNum : 0);
+    }
+    return rows;
+  }
+
+  private long countCells(Sheet sheet, Sheet firstPart, int firstRowNum) {
+    long cells = 0;
+    List<Sheet> parts = getSheetParts(sheet);
+    for (int p = parts.indexOf(firstPart); p < parts.size(); p++) {
+      Sheet part = parts.get(p);
+      for (int i = part == firstPart ? firstRowNum : 0; i <= part.getLastRowNum(); i++) {
+        Row row = part.getRow(i);
+        if (row != null) {
+          cells += row.getPhysicalNumberOfCells();
+        }
+      }
+    }
+    return cells;
   }
 
   private Sheet createVisibleSheet(Workbook workbook, int logicalIdx) {
     String sheetName = sheetNameStrategy.apply(logicalIdx);
-    return workbook.createSheet(sheetName);
+    Sheet sheet = workbook.createSheet(sheetName);
+    beginSheetEvent(sheet);
+    return sheet;
   }
 
   private void writeDocumentComments(Node node, Sheet sheet) {
@@ -178,13 +729,15 @@ public class YamlWorkbookWriter {
     writeComments(node.getBlockComments(), sheet, 0);
   }
 
-  private void writeFrontmatter(Sheet sheet) {
-    Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+  private Row writeFrontmatter(Sheet sheet) {
+    Row row = createNextRow(sheet);
     Cell cell = row.createCell(0);
     cell.setCellValue(workbookSyntax.getFrontmatter());
+    return row;
   }
 
-  private void traverseAndPrintNodeWithoutBlockComments(Node node, Sheet sheet, int indentLevel) {
+  private void traverseAndPrintNodeWithoutBlockComments(Node node, Sheet sheet, int indentLevel,
+      String jsonPath) {
     // Used for root node where block comments are handled as document comments
     if (node == null) {
       return;
@@ -193,18 +746,19 @@ public class YamlWorkbookWriter {
     if (node instanceof ScalarNode scalarNode) {
       traverseScalarNode(scalarNode, sheet, indentLevel);
     } else if (node instanceof MappingNode mappingNode) {
-      traverseMappingNode(mappingNode, sheet, indentLevel);
+      traverseMappingNode(mappingNode, sheet, indentLevel, jsonPath);
     } else if (node instanceof SequenceNode sequenceNode) {
-      traverseSequenceNode(sequenceNode, sheet, indentLevel);
+      traverseSequenceNode(sequenceNode, sheet, indentLevel, jsonPath);
     }
 
     writeComments(node.getEndComments(), sheet, indentLevel);
   }
 
-  private void traverseAndPrintNode(Node node, Sheet sheet, int indentLevel) {
+  private void traverseAndPrintNode(Node node, Sheet sheet, int indentLevel, String jsonPath) {
     if (node == null) {
       return;
     }
+    guard.depth(indentLevel);
 
     // Write block comments - note that for MappingNode/SequenceNode VALUE nodes,
     // SnakeYAML never attaches block comments here (they're on KEY nodes instead).
@@ -214,9 +768,9 @@ public class YamlWorkbookWriter {
     if (node instanceof ScalarNode scalarNode) {
       traverseScalarNode(scalarNode, sheet, indentLevel);
     } else if (node instanceof MappingNode mappingNode) {
-      traverseMappingNode(mappingNode, sheet, indentLevel);
+      traverseMappingNode(mappingNode, sheet, indentLevel, jsonPath);
     } else if (node instanceof SequenceNode sequenceNode) {
-      traverseSequenceNode(sequenceNode, sheet, indentLevel);
+      traverseSequenceNode(sequenceNode, sheet, indentLevel, jsonPath);
     }
 
     writeComments(node.getEndComments(), sheet, indentLevel);
@@ -230,7 +784,7 @@ public class YamlWorkbookWriter {
     switch (option) {
       case DISPLAY_NAME -> {
         // For OBJECT/ARRAY, DISPLAY_NAME shows the comment as a header row
-        Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+        Row row = createNextRow(sheet);
         writePrefixIfEnabled(row, indentLevel);
         int cellIndex = calculateCellIndex(indentLevel);
         Cell cell = row.createCell(cellIndex);
@@ -246,14 +800,15 @@ public class YamlWorkbookWriter {
   }
 
   private void traverseScalarNode(ScalarNode node, Sheet sheet, int indentLevel) {
-    Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+    Row row = createNextRow(sheet);
     writePrefixIfEnabled(row, indentLevel);
     int cellIndex = calculateCellIndex(indentLevel);
     Cell cell = row.createCell(cellIndex);
     cell.setCellValue(escapeValueIfNeeded(node.getValue()));
   }
 
-  private void traverseMappingNode(MappingNode node, Sheet sheet, int indentLevel) {
+  private void traverseMappingNode(MappingNode node, Sheet sheet, int indentLevel,
+      String jsonPath) {
     for (NodeTuple tuple : node.getValue()) {
       Node keyNode = tuple.getKeyNode();
       Node valueNode = tuple.getValueNode();
@@ -277,20 +832,20 @@ public class YamlWorkbookWriter {
       }
 
       if (keyNode instanceof ScalarNode scalarKey) {
-        Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+        Row row = createNextRow(sheet);
         writePrefixIfEnabled(row, indentLevel);
         int cellIndex = calculateCellIndex(indentLevel);
         Cell keyCell = row.createCell(cellIndex);
 
         // Handle key display
-        String keyDisplayValue = scalarKey.getValue();
+        String keyDisplayValue = escapeKeyIfNeeded(scalarKey.getValue());
         String originalKeyValue = null;
         if (isDisplayMode()) {
           String keyCommentText = extractCommentText(scalarKey.getInLineComments());
           if (keyCommentText != null) {
             switch (displayModeConfig.getKeyComment()) {
               case DISPLAY_NAME -> {
-                originalKeyValue = scalarKey.getValue();
+                originalKeyValue = escapeKeyIfNeeded(scalarKey.getValue());
                 keyDisplayValue = keyCommentText;
               }
               case HIDDEN -> {
@@ -318,6 +873,12 @@ public class YamlWorkbookWriter {
           }
 
           Cell valueCell = row.createCell(nextCellIndex);
+          String alias = getAlias(valueNode);
+          if (alias != null) {
+            valueCell.setCellValue(alias);
+            writeComments(keyNode.getEndComments(), sheet, indentLevel);
+            continue;
+          }
 
           // Handle value display
           String valueDisplayValue = escapeValueIfNeeded(scalarValue.getValue());
@@ -337,6 +898,15 @@ public class YamlWorkbookWriter {
               }
             }
           }
+          String anchor = getAnchor(valueNode);
+          if (anchor != null) {
+            if (originalValue != null) {
+              originalValue = anchor + " " + originalValue;
+            } else {
+              valueDisplayValue =
+                  anchor + " " + (valueDisplayValue == null ? "" : valueDisplayValue);
+            }
+          }
           valueCell.setCellValue(valueDisplayValue);
           if (originalValue != null) {
             addCellComment(valueCell, originalValue);
@@ -352,18 +922,31 @@ public class YamlWorkbookWriter {
           }
         } else {
           // Handle key inline comments for nested value
+          int nextCellIndex = cellIndex + 1;
           if (isDisplayMode()) {
             if (displayModeConfig.getKeyComment() == CommentDisplayOption.COMMENT) {
-              writeInlineComments(keyNode.getInLineComments(), row, cellIndex + 1);
+              nextCellIndex = writeInlineComments(keyNode.getInLineComments(), row, nextCellIndex);
             }
           } else {
-            writeInlineComments(keyNode.getInLineComments(), row, cellIndex + 1);
+            nextCellIndex = writeInlineComments(keyNode.getInLineComments(), row, nextCellIndex);
+          }
+
+          // Anchored nested values are written once; later references become alias cells
+          String alias = getAlias(valueNode);
+          if (alias != null) {
+            row.createCell(nextCellIndex).setCellValue(alias);
+          } else {
+            String anchor = getAnchor(valueNode);
+            if (anchor != null) {
+              row.createCell(nextCellIndex).setCellValue(anchor);
+            }
+            String propertyPath = jsonPath + "." + scalarKey.getValue();
+            traverseAndPrintNode(valueNode, sheet, indentLevel + 1, propertyPath);
           }
-          traverseAndPrintNode(valueNode, sheet, indentLevel + 1);
         }
       } else {
-        traverseAndPrintNode(keyNode, sheet, indentLevel);
-        traverseAndPrintNode(valueNode, sheet, indentLevel + 1);
+        traverseAndPrintNode(keyNode, sheet, indentLevel, jsonPath);
+        traverseAndPrintNode(valueNode, sheet, indentLevel + 1, jsonPath);
       }
 
       writeComments(keyNode.getEndComments(), sheet, indentLevel);
@@ -379,8 +962,33 @@ public class YamlWorkbookWriter {
     writeComments(comments, sheet, indentLevel);
   }
 
-  private void traverseSequenceNode(SequenceNode node, Sheet sheet, int indentLevel) {
+  private void traverseSequenceNode(SequenceNode node, Sheet sheet, int indentLevel,
+      String jsonPath) {
+    SequenceLayout layout = sequenceLayoutStrategy.apply(jsonPath, node);
+    if (layout == SequenceLayout.TABLE) {
+      List<String> keys = getTableKeys(node);
+      if (keys != null) {
+        writeTable(node, keys, sheet, indentLevel);
+        return;
+      }
+    } else if (layout == SequenceLayout.COMPACT && isCompactable(node)) {
+      writeCompact(node, sheet, indentLevel);
+      return;
+    }
+
+    String itemsPath = jsonPath + "[*]";
     for (Node item : node.getValue()) {
+      String alias = getAlias(item);
+      if (alias != null) {
+        // Comments of an aliased item belong to its anchored occurrence
+        Row row = createNextRow(sheet);
+        writePrefixIfEnabled(row, indentLevel);
+        int cellIndex = calculateCellIndex(indentLevel);
+        row.createCell(cellIndex).setCellValue(workbookSyntax.getItemMark());
+        row.createCell(cellIndex + 1).setCellValue(alias);
+        continue;
+      }
+
       // Handle item block comments
       if (isDisplayMode()) {
         writeBlockCommentsInDisplayMode(item.getBlockComments(), sheet, indentLevel,
@@ -389,15 +997,20 @@ public class YamlWorkbookWriter {
         writeComments(item.getBlockComments(), sheet, indentLevel);
       }
 
-      Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+      Row row = createNextRow(sheet);
       writePrefixIfEnabled(row, indentLevel);
       int cellIndex = calculateCellIndex(indentLevel);
       Cell itemMarkCell = row.createCell(cellIndex);
       itemMarkCell.setCellValue(workbookSyntax.getItemMark());
 
+      String anchor = getAnchor(item);
       if (item instanceof ScalarNode scalarItem) {
         Cell valueCell = row.createCell(cellIndex + 1);
-        valueCell.setCellValue(escapeValueIfNeeded(scalarItem.getValue()));
+        String value = escapeValueIfNeeded(scalarItem.getValue());
+        if (anchor != null) {
+          value = anchor + " " + (value == null ? "" : value);
+        }
+        valueCell.setCellValue(value);
 
         // Handle item inline comments
         if (isDisplayMode()) {
@@ -408,24 +1021,261 @@ public class YamlWorkbookWriter {
           writeInlineComments(item.getInLineComments(), row, cellIndex + 2);
         }
       } else {
-        traverseAndPrintNode(item, sheet, indentLevel + 1);
+        if (anchor != null) {
+          row.createCell(cellIndex + 1).setCellValue(anchor);
+        }
+        traverseAndPrintNode(item, sheet, indentLevel + 1, itemsPath);
       }
 
       writeComments(item.getEndComments(), sheet, indentLevel);
     }
   }
 
+  /**
+   * Returns the shared keys of a sequence that qualifies for {@link SequenceLayout#TABLE}: every
+   * item is a mapping with the same scalar keys in the same order and scalar values, and no node
+   * carries comments.
+   *
+   * @return the keys, or null if the sequence does not qualify
+   */
+  private List<String> getTableKeys(SequenceNode node) {
+    List<String> keys = null;
+    for (Node item : node.getValue()) {
+      if (!(item instanceof MappingNode mappingItem) || hasComments(item) || isAnchored(item)) {
+        return null;
+      }
+      List<NodeTuple> tuples = mappingItem.getValue();
+      if (keys == null) {
+        if (tuples.isEmpty()) return null;
+        keys = new ArrayList<>(tuples.size());
+      } else if (tuples.size() != keys.size()) {
+        return null;
+      }
+
+      for (int i = 0; i < tuples.size(); i++) {
+        Node keyNode = tuples.get(i).getKeyNode();
+        Node valueNode = tuples.get(i).getValueNode();
+        if (!(keyNode instanceof ScalarNode scalarKey) || !(valueNode instanceof ScalarNode)
+            || hasComments(keyNode) || hasComments(valueNode) || isAnchored(valueNode)) {
+          return null;
+        }
+        // Header cells cannot hold empty or null keys, and the reader stops at an empty one
+        if (scalarKey.getValue().isEmpty() || escapeValueIfNeeded(scalarKey.getValue()) == null) {
+          return null;
+        }
+        if (keys.size() < tuples.size()) {
+          keys.add(scalarKey.getValue());
+        } else if (!keys.get(i).equals(scalarKey.getValue())) {
+          return null;
+        }
+      }
+    }
+    return keys;
+  }
+
+  private boolean hasComments(Node node) {
+    return (node.getBlockComments() != null && !node.getBlockComments().isEmpty())
+        || (node.getInLineComments() != null && !node.getInLineComments().isEmpty())
+        || (node.getEndComments() != null && !node.getEndComments().isEmpty());
+  }
+
+  private boolean isAnchored(Node node) {
+    return preserveAnchors && node.getAnchor() != null;
+  }
+
+  /**
+   * Returns the anchor cell marker of an anchored node and records the node as rendered.
+   *
+   * @return the anchor marker and name, or null if the node is not anchored
+   */
+  private String getAnchor(Node node) {
+    if (!isAnchored(node)) {
+      return null;
+    }
+    renderedAnchors.add(node);
+    return workbookSyntax.getAnchorMark() + node.getAnchor();
+  }
+
+  /**
+   * Returns the alias cell value of an anchored node that has already been rendered.
+   *
+   * @return the alias marker and name, or null if the node has to be rendered
+   */
+  private String getAlias(Node node) {
+    if (!isAnchored(node) || !renderedAnchors.contains(node)) {
+      return null;
+    }
+    return workbookSyntax.getAliasMark() + node.getAnchor();
+  }
+
+  private boolean isCompactable(SequenceNode node) {
+    if (node.getValue().isEmpty()) {
+      return false;
+    }
+    for (Node item : node.getValue()) {
+      if (!(item instanceof ScalarNode) || hasComments(item) || isAnchored(item)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void writeCompact(SequenceNode node, Sheet sheet, int indentLevel) {
+    int cellIndex = calculateCellIndex(indentLevel);
+    int maxItemsPerRow = Math.max(1, Math.min(compactItemsPerRow,
+        sheet.getWorkbook().getSpreadsheetVersion().getLastColumnIndex() - cellIndex));
+
+    Row row = null;
+    int column = 0;
+    for (Node item : node.getValue()) {
+      if (row == null || column == maxItemsPerRow) {
+        row = createNextRow(sheet);
+        writePrefixIfEnabled(row, indentLevel);
+        row.createCell(cellIndex).setCellValue(workbookSyntax.getCompactMark());
+        column = 0;
+      }
+      // Blank cells are still created so trailing null items keep their position
+      Cell cell = row.createCell(cellIndex + 1 + column++);
+      String value = escapeValueIfNeeded(((ScalarNode) item).getValue());
+      if (value != null) {
+        cell.setCellValue(value);
+      }
+    }
+  }
+
+  private void writeTable(SequenceNode node, List<String> keys, Sheet sheet, int indentLevel) {
+    int cellIndex = calculateCellIndex(indentLevel);
+
+    Row headerRow = createNextRow(sheet);
+    writePrefixIfEnabled(headerRow, indentLevel);
+    headerRow.createCell(cellIndex).setCellValue(workbookSyntax.getTableMark());
+    for (int i = 0; i < keys.size(); i++) {
+      headerRow.createCell(cellIndex + 1 + i).setCellValue(escapeValueIfNeeded(keys.get(i)));
+    }
+
+    for (Node item : node.getValue()) {
+      Row row = createNextRow(sheet);
+      writePrefixIfEnabled(row, indentLevel);
+      row.createCell(cellIndex).setCellValue(workbookSyntax.getItemMark());
+      List<NodeTuple> tuples = ((MappingNode) item).getValue();
+      for (int i = 0; i < tuples.size(); i++) {
+        String value = ((ScalarNode) tuples.get(i).getValueNode()).getValue();
+        String escaped = escapeValueIfNeeded(value);
+        if (escaped != null) {
+          row.createCell(cellIndex + 1 + i).setCellValue(escaped);
+        }
+      }
+    }
+  }
+
+  // ==================== PATH Mode Methods ====================
+
+  private void writePathNode(Node node, Sheet sheet, String path,
+      List<CommentLine> keyInlineComments, int depth) {
+    if (node instanceof ScalarNode scalarNode) {
+      writePathLeaf(sheet, path, escapePathValue(scalarNode.getValue()), keyInlineComments,
+          scalarNode.getInLineComments());
+    } else if (node instanceof MappingNode mappingNode) {
+      if (mappingNode.getValue().isEmpty()) {
+        writePathLeaf(sheet, path, EMPTY_MAPPING, keyInlineComments, node.getInLineComments());
+      } else {
+        // Nested keys have no row of their own, so their inline comments become comment rows
+        writeComments(keyInlineComments, sheet, 0);
+        guard.depth(depth);
+        for (NodeTuple tuple : mappingNode.getValue()) {
+          if (!(tuple.getKeyNode() instanceof ScalarNode keyNode)) {
+            throw new IllegalArgumentException(
+                "PATH indentation mode requires scalar mapping keys at " + path);
+          }
+          writeComments(keyNode.getBlockComments(), sheet, 0);
+          writePathNode(tuple.getValueNode(), sheet, appendPathKey(path, keyNode.getValue()),
+              keyNode.getInLineComments(), depth + 1);
+          writeComments(keyNode.getEndComments(), sheet, 0);
+        }
+      }
+    } else if (node instanceof SequenceNode sequenceNode) {
+      if (sequenceNode.getValue().isEmpty()) {
+        writePathLeaf(sheet, path, EMPTY_SEQUENCE, keyInlineComments, node.getInLineComments());
+      } else {
+        writeComments(keyInlineComments, sheet, 0);
+        guard.depth(depth);
+        List<Node> items = sequenceNode.getValue();
+        for (int i = 0; i < items.size(); i++) {
+          Node item = items.get(i);
+          writeComments(item.getBlockComments(), sheet, 0);
+          writePathNode(item, sheet, path + workbookSyntax.getPathIndexStart() + i
+              + workbookSyntax.getPathIndexEnd(), null, depth + 1);
+        }
+      }
+    }
+
+    writeComments(node.getEndComments(), sheet, 0);
+  }
+
+  private void writePathLeaf(Sheet sheet, String path, String value,
+      List<CommentLine> keyInlineComments, List<CommentLine> valueInlineComments) {
+    Row row = createNextRow(sheet);
+    if (!path.isEmpty()) {
+      row.createCell(0).setCellValue(path);
+    }
+    Cell valueCell = row.createCell(1);
+    if (value != null) {
+      valueCell.setCellValue(value);
+    }
+    int nextCellIndex = writeInlineComments(keyInlineComments, row, 2);
+    writeInlineComments(valueInlineComments, row, nextCellIndex);
+  }
+
+  private String appendPathKey(String path, String key) {
+    StringBuilder sb = new StringBuilder(path);
+    if (path.isEmpty()) {
+      // An empty root key has no path of its own: its leaf would be the root document itself
+      if (key.isEmpty()) {
+        throw new IllegalArgumentException(
+            "PATH indentation mode does not support empty keys at the document root");
+      }
+      // Root keys must not be mistaken for comments or frontmatter
+      if (key.startsWith(workbookSyntax.getCommentMark())
+          || key.startsWith(workbookSyntax.getFrontmatter())) {
+        sb.append(workbookSyntax.getEscapeMark());
+      }
+    } else {
+      sb.append(workbookSyntax.getPathSeparator());
+    }
+
+    String escapeMark = workbookSyntax.getEscapeMark();
+    for (int i = 0; i < key.length(); i++) {
+      if (key.startsWith(escapeMark, i) || key.startsWith(workbookSyntax.getPathSeparator(), i)
+          || key.startsWith(workbookSyntax.getPathIndexStart(), i)) {
+        sb.append(escapeMark);
+      }
+      sb.append(key.charAt(i));
+    }
+    return sb.toString();
+  }
+
+  private String escapePathValue(String value) {
+    if (EMPTY_MAPPING.equals(value) || EMPTY_SEQUENCE.equals(value)) {
+      return workbookSyntax.getEscapeMark() + value;
+    }
+    return escapeValueIfNeeded(value);
+  }
+
   private void writeComments(List<CommentLine> comments, Sheet sheet, int indentLevel) {
     if (comments == null || comments.isEmpty()) {
       return;
     }
 
     for (CommentLine comment : comments) {
-      Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+      guard.comment();
+      Row row = createNextRow(sheet);
       writePrefixIfEnabled(row, indentLevel);
       int cellIndex = calculateCellIndex(indentLevel);
       Cell cell = row.createCell(cellIndex);
       cell.setCellValue(workbookSyntax.getCommentMark() + " " + comment.getValue().trim());
+      if (isCommentStyled()) {
+        applyStyle(cell, CellStylePool.Role.COMMENT);
+      }
     }
   }
 
@@ -436,24 +1286,50 @@ public class YamlWorkbookWriter {
 
     int cellIndex = startCellIndex;
     for (CommentLine comment : comments) {
+      guard.comment();
       Cell cell = row.createCell(cellIndex++);
       cell.setCellValue(workbookSyntax.getCommentMark() + " " + comment.getValue().trim());
+      if (isCommentStyled()) {
+        applyStyle(cell, CellStylePool.Role.COMMENT);
+      }
     }
     return cellIndex;
   }
 
   private String escapeValueIfNeeded(String value) {
+    guard.scalar(value);
     if (value == null || "null".equals(value)) {
       return null;
     }
-    // Only escape if value STARTS with comment mark or escape mark
+    // Only escape if value STARTS with comment mark or escape mark, or IS a layout mark or prefix
     if (value.startsWith(workbookSyntax.getCommentMark())
-        || value.startsWith(workbookSyntax.getEscapeMark())) {
+        || value.startsWith(workbookSyntax.getEscapeMark())
+        || value.equals(workbookSyntax.getTableMark())
+        || value.equals(workbookSyntax.getCompactMark())
+        || (preserveAnchors && (value.startsWith(workbookSyntax.getAnchorMark())
+            || value.startsWith(workbookSyntax.getAliasMark())))
+        || ((isPrefixMode() || isAdaptiveMode()) && indentPrefixStrategy.parsePrefix(value) > 0)) {
       return workbookSyntax.getEscapeMark() + value;
     }
     return value;
   }
 
+  // Keys share their column with layout marks, so keys that would be read as a mark are escaped;
+  // other keys, including ones starting with the escape mark, are written as they are
+  private String escapeKeyIfNeeded(String key) {
+    return isMarkLikeKey(key) ? workbookSyntax.getEscapeMark() + key : key;
+  }
+
+  private boolean isMarkLikeKey(String key) {
+    return key.isEmpty() || key.startsWith(workbookSyntax.getCommentMark())
+        || key.equals(workbookSyntax.getFrontmatter())
+        || key.equals(workbookSyntax.getItemMark())
+        || key.equals(workbookSyntax.getTableMark())
+        || key.equals(workbookSyntax.getCompactMark())
+        || (key.startsWith(workbookSyntax.getEscapeMark())
+            && isMarkLikeKey(key.substring(workbookSyntax.getEscapeMark().length())));
+  }
+
   private boolean isDisplayMode() {
     return outputMode == OutputMode.DISPLAY_MODE;
   }
@@ -470,6 +1346,8 @@ public class YamlWorkbookWriter {
     if (commentText == null || commentText.isEmpty()) {
       return;
     }
+    guard.comment();
+    long begin = metrics.begin();
     Sheet sheet = cell.getSheet();
     Workbook workbook = sheet.getWorkbook();
     CreationHelper factory = workbook.getCreationHelper();
@@ -484,6 +1362,8 @@ public class YamlWorkbookWriter {
     Comment comment = drawing.createCellComment(anchor);
     comment.setString(factory.createRichTextString(commentText));
     cell.setCellComment(comment);
+    metrics.commentCreated();
+    metrics.end(ConversionPhase.COMMENTS, begin);
   }
 
   // ==================== FORM_MODE Methods ====================
@@ -500,12 +1380,18 @@ public class YamlWorkbookWriter {
       throw new IllegalStateException(
           "toWorkbook() without parameters requires FORM_MODE and jsonSchema to be set");
     }
+    if (isPathMode()) {
+      throw new IllegalStateException("FORM_MODE does not support PATH indentation mode");
+    }
 
     resetState();
 
     try {
       var workbook = new XSSFWorkbook();
 
+      var schemaEvent = new SchemaCompiledEvent();
+      schemaEvent.begin();
+      long parseBegin = metrics.begin();
       // 1. Generate skeleton JSON from schema
       var generator = JsonSchemaDataGenerator.skeleton();
       if (formModeConfig.isSkipAllOf()) {
@@ -518,18 +1404,48 @@ public class YamlWorkbookWriter {
 
       // 3. Convert to YAML Node
       Node yamlNode = JsonNodeToYamlNodeConverter.convert(skeleton);
+      metrics.end(ConversionPhase.PARSE, parseBegin);
+      schemaEvent.end();
+      if (schemaEvent.shouldCommit()) {
+        schemaEvent.schemaLength = jsonSchema.length();
+        schemaEvent.commit();
+      }
+
+      // Returned workbooks are matched against their schema by this fingerprint
+      SchemaFingerprint.write(workbook, jsonSchema);
 
       // 4. Create visible sheet and process with path tracking
       Sheet sheet = createVisibleSheet(workbook, 0);
       visibleSheets.add(sheet);
 
+      long begin = metrics.begin();
+      long nestedMark = metrics.nestedMark();
+
       // Write frontmatter
-      writeFrontmatter(sheet);
+      guard.document();
+      Row frontmatter = writeFrontmatter(sheet);
 
       // Process the node with path tracking
       traverseAndPrintNodeWithPath(yamlNode, sheet, 0, "$", navigator);
+      guard.countPendingCells();
+      if (recordFingerprints || embedSource) {
+        documentIndexes.put(frontmatter, 0);
+      }
+      if (embedSource) {
+        // The skeleton is the original the filled-in form is compared against
+        documentSources.put(frontmatter, serialize(yamlNode));
+      }
 
+      metrics.endExcludingNested(ConversionPhase.TRAVERSAL, begin, nestedMark);
+      if (metrics.isEnabled()) {
+        metrics.documentConverted((int) metrics.getRows(), countCells(sheet, sheet, 0));
+      }
+      writeManifestIfEnabled(workbook);
+      commitSheetEvents(workbook);
+      metrics.complete();
       return workbook;
+    } catch (CancellationException | ConversionLimitException e) {
+      throw e;
     } catch (Exception e) {
       throw new RuntimeException("Failed to generate workbook from JSON Schema", e);
     }
@@ -540,6 +1456,7 @@ public class YamlWorkbookWriter {
     if (node == null) {
       return;
     }
+    guard.depth(indentLevel);
 
     if (node instanceof ScalarNode scalarNode) {
       traverseScalarNodeWithPath(scalarNode, sheet, indentLevel, jsonPath, navigator);
@@ -552,7 +1469,7 @@ public class YamlWorkbookWriter {
 
   private void traverseScalarNodeWithPath(ScalarNode node, Sheet sheet, int indentLevel,
       String jsonPath, JsonSchemaPathNavigator navigator) {
-    Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+    Row row = createNextRow(sheet);
     writePrefixIfEnabled(row, indentLevel);
     int cellIndex = calculateCellIndex(indentLevel);
     Cell cell = row.createCell(cellIndex);
@@ -570,6 +1487,10 @@ public class YamlWorkbookWriter {
 
   private void traverseMappingNodeWithPath(MappingNode node, Sheet sheet, int indentLevel,
       String jsonPath, JsonSchemaPathNavigator navigator) {
+    Set<String> requiredKeys = formModeConfig.isHighlightRequired()
+        ? getRequiredKeys(navigator.findSchema(jsonPath).orElse(null))
+        : Set.of();
+
     for (NodeTuple tuple : node.getValue()) {
       Node keyNode = tuple.getKeyNode();
       Node valueNode = tuple.getValueNode();
@@ -580,18 +1501,22 @@ public class YamlWorkbookWriter {
             "$".equals(jsonPath) ? "$." + originalKey : jsonPath + "." + originalKey;
         JsonNode propertySchema = navigator.findSchema(propertyPath).orElse(null);
 
-        Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+        Row row = createNextRow(sheet);
         writePrefixIfEnabled(row, indentLevel);
         int cellIndex = calculateCellIndex(indentLevel);
         Cell keyCell = row.createCell(cellIndex);
 
         // Use title as display name if available
-        String displayKey = getDisplayNameForKey(originalKey, propertySchema);
+        String displayKey = getDisplayNameForKey(escapeKeyIfNeeded(originalKey), propertySchema);
         keyCell.setCellValue(displayKey);
 
         // Store original key in comment if title was used
         if (shouldStoreOriginalKey(propertySchema)) {
-          addCellComment(keyCell, originalKey);
+          addCellComment(keyCell, escapeKeyIfNeeded(originalKey));
+        }
+        boolean required = requiredKeys.contains(originalKey);
+        if (required) {
+          applyStyle(keyCell, CellStylePool.Role.REQUIRED_KEY);
         }
 
         if (valueNode instanceof ScalarNode scalarValue) {
@@ -604,6 +1529,9 @@ public class YamlWorkbookWriter {
           } else {
             valueCell.setCellValue(escapeValueIfNeeded(scalarValue.getValue()));
           }
+          if (required) {
+            applyStyle(valueCell, CellStylePool.Role.REQUIRED_VALUE);
+          }
         } else {
           traverseAndPrintNodeWithPath(valueNode, sheet, indentLevel + 1, propertyPath, navigator);
         }
@@ -617,9 +1545,16 @@ public class YamlWorkbookWriter {
   private void traverseSequenceNodeWithPath(SequenceNode node, Sheet sheet, int indentLevel,
       String jsonPath, JsonSchemaPathNavigator navigator) {
     String itemsPath = jsonPath + "[*]";
+    int blankItems = countBlankItems(node, navigator.findSchema(jsonPath).orElse(null));
+    ItemTemplate template = null;
+    if (blankItems > 0) {
+      // The first item is captured as it is rendered and replicated for the blank items
+      template = new ItemTemplate(itemTemplate);
+      itemTemplate = template;
+    }
 
     for (Node item : node.getValue()) {
-      Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+      Row row = createNextRow(sheet);
       writePrefixIfEnabled(row, indentLevel);
       int cellIndex = calculateCellIndex(indentLevel);
       Cell itemMarkCell = row.createCell(cellIndex);
@@ -638,11 +1573,81 @@ public class YamlWorkbookWriter {
       } else {
         traverseAndPrintNodeWithPath(item, sheet, indentLevel + 1, itemsPath, navigator);
       }
+      if (template != null) template.capturing = false;
+    }
+
+    if (template != null) {
+      replicateItemTemplate(template, blankItems, sheet);
+      itemTemplate = template.outer;
     }
   }
 
   // ==================== Helper Methods for FORM_MODE ====================
 
+  private int countBlankItems(SequenceNode node, JsonNode arraySchema) {
+    int itemCount = formModeConfig.getArrayItemCount();
+    if (arraySchema != null && arraySchema.path("maxItems").canConvertToInt()) {
+      itemCount = Math.min(itemCount, arraySchema.get("maxItems").asInt());
+    }
+    return node.getValue().isEmpty() ? 0 : Math.max(0, itemCount - node.getValue().size());
+  }
+
+  private void replicateItemTemplate(ItemTemplate template, int copies, Sheet sheet) {
+    Map<Cell, List<Cell>> validatedCells = new LinkedHashMap<>();
+    template.validations.keySet().forEach(cell -> validatedCells.put(cell, new ArrayList<>()));
+
+    for (int i = 0; i < copies; i++) {
+      for (Row templateRow : template.rows) {
+        Row row = createNextRow(sheet);
+        for (Cell templateCell : templateRow) {
+          Cell cell = row.createCell(templateCell.getColumnIndex());
+          if (templateCell.getCellType() == CellType.STRING) {
+            cell.setCellValue(templateCell.getStringCellValue());
+          }
+          if (templateCell.getCellStyle().getIndex() != 0) {
+            cell.setCellStyle(templateCell.getCellStyle());
+          }
+          Comment comment = templateCell.getCellComment();
+          if (comment != null) {
+            addCellComment(cell, comment.getString().getString());
+          }
+          List<Cell> cells = validatedCells.get(templateCell);
+          if (cells != null) cells.add(cell);
+        }
+      }
+    }
+
+    // Dropdowns with the same options share one validation spanning all copies
+    ItemTemplate outer = getCapturingTemplate(template.outer);
+    Map<List<String>, List<Cell>> cellsByOptions = new LinkedHashMap<>();
+    for (var entry : template.validations.entrySet()) {
+      List<Cell> cells = cellsByOptions.computeIfAbsent(entry.getValue(), o -> new ArrayList<>());
+      cells.add(entry.getKey());
+      cells.addAll(validatedCells.get(entry.getKey()));
+    }
+    cellsByOptions.forEach((options, cells) -> {
+      if (outer != null) {
+        cells.forEach(cell -> outer.validations.put(cell, options));
+      } else {
+        addDropdownValidation(cells, options, sheet);
+      }
+    });
+  }
+
+  private ItemTemplate getCapturingTemplate(ItemTemplate template) {
+    while (template != null && !template.capturing) {
+      template = template.outer;
+    }
+    return template;
+  }
+
+  private Set<String> getRequiredKeys(JsonNode schema) {
+    if (schema == null || !schema.path("required").isArray()) {
+      return Set.of();
+    }
+    return Set.copyOf(toStringList(schema.get("required")));
+  }
+
   private void handleEnumCell(Cell cell, JsonNode schema, Sheet sheet) {
     JsonNode enumValues = schema.get("enum");
     JsonNode enumNames = schema.has("enumNames") ? schema.get("enumNames") : null;
@@ -678,37 +1683,85 @@ public class YamlWorkbookWriter {
     if (options == null || options.isEmpty()) {
       return;
     }
+    // Dropdowns of array item templates are created once their copies exist
+    ItemTemplate template = getCapturingTemplate(itemTemplate);
+    if (template != null) {
+      template.validations.put(cell, options);
+      return;
+    }
+    addDropdownValidation(List.of(cell), options, sheet);
+  }
+
+  private void addDropdownValidation(List<Cell> cells, List<String> options, Sheet sheet) {
 
+    long begin = metrics.begin();
     String joinedOptions = String.join(",", options);
 
     if (joinedOptions.length() <= 255) {
       // Use explicit list constraint (current behavior)
-      addExplicitDropdownValidation(cell, options, sheet);
+      addExplicitDropdownValidation(cells, options);
     } else if (formModeConfig.isUseHiddenSheetsForLongEnums()) {
       // Write to hidden sheet, use named range
-      addNamedRangeDropdownValidation(cell, options, sheet);
+      addNamedRangeDropdownValidation(cells, options, sheet);
     } else {
       // Truncate + warning
       List<String> truncated = truncateOptionsTo256(options);
       log.warning(String.format("Dropdown truncated from %d to %d options (256 char limit)",
           options.size(), truncated.size()));
-      addExplicitDropdownValidation(cell, truncated, sheet);
+      addExplicitDropdownValidation(cells, truncated);
     }
+    metrics.validationCreated();
+    metrics.end(ConversionPhase.VALIDATIONS, begin);
   }
 
-  private void addExplicitDropdownValidation(Cell cell, List<String> options, Sheet sheet) {
-    DataValidationHelper validationHelper = sheet.getDataValidationHelper();
-    DataValidationConstraint constraint =
-        validationHelper.createExplicitListConstraint(options.toArray(new String[0]));
-    CellRangeAddressList addressList = new CellRangeAddressList(cell.getRowIndex(),
-        cell.getRowIndex(), cell.getColumnIndex(), cell.getColumnIndex());
-    DataValidation validation = validationHelper.createValidation(constraint, addressList);
-    // For XSSF, setSuppressDropDownArrow(true) actually SHOWS the dropdown arrow
-    validation.setSuppressDropDownArrow(true);
-    sheet.addValidationData(validation);
+  private void addExplicitDropdownValidation(List<Cell> cells, List<String> options) {
+    // The cells may live on continuation sheets
+    getAddressLists(cells).forEach((cellSheet, addressList) -> {
+      DataValidationHelper validationHelper = cellSheet.getDataValidationHelper();
+      DataValidationConstraint constraint =
+          validationHelper.createExplicitListConstraint(options.toArray(new String[0]));
+      DataValidation validation = validationHelper.createValidation(constraint, addressList);
+      // For XSSF, setSuppressDropDownArrow(true) actually SHOWS the dropdown arrow
+      validation.setSuppressDropDownArrow(true);
+      cellSheet.addValidationData(validation);
+    });
   }
 
-  private void addNamedRangeDropdownValidation(Cell cell, List<String> options, Sheet sheet) {
+  private Map<Sheet, CellRangeAddressList> getAddressLists(List<Cell> cells) {
+    List<Cell> sorted = new ArrayList<>(cells);
+    sorted.sort(Comparator.comparingInt(Cell::getColumnIndex).thenComparingInt(Cell::getRowIndex));
+
+    // Vertically adjacent cells of a column are merged into one range
+    Map<Sheet, CellRangeAddressList> addressLists = new LinkedHashMap<>();
+    Map<Sheet, Cell> rangeStarts = new HashMap<>();
+    Map<Sheet, Cell> rangeEnds = new HashMap<>();
+    for (Cell cell : sorted) {
+      Sheet cellSheet = cell.getSheet();
+      addressLists.computeIfAbsent(cellSheet, s -> new CellRangeAddressList());
+      Cell end = rangeEnds.get(cellSheet);
+      if (end != null && end.getColumnIndex() == cell.getColumnIndex()
+          && end.getRowIndex() + 1 == cell.getRowIndex()) {
+        rangeEnds.put(cellSheet, cell);
+        continue;
+      }
+      if (end != null) {
+        addRange(addressLists.get(cellSheet), rangeStarts.get(cellSheet), end);
+      }
+      rangeStarts.put(cellSheet, cell);
+      rangeEnds.put(cellSheet, cell);
+    }
+    rangeEnds.forEach((cellSheet, end) -> addRange(addressLists.get(cellSheet),
+        rangeStarts.get(cellSheet), end));
+    return addressLists;
+  }
+
+  private void addRange(CellRangeAddressList addressList, Cell start, Cell end) {
+    addressList.addCellRangeAddress(start.getRowIndex(), start.getColumnIndex(),
+        end.getRowIndex(), end.getColumnIndex());
+  }
+
+  private void addNamedRangeDropdownValidation(List<Cell> cells, List<String> options,
+      Sheet sheet) {
     Workbook workbook = sheet.getWorkbook();
     int visibleSheetIdx = workbook.getSheetIndex(sheet);
 
@@ -726,8 +1779,13 @@ public class YamlWorkbookWriter {
     }
     hiddenSheetEnumRowCounter.put(visibleSheetIdx, startRow + options.size());
 
-    // Create named range
+    // Create named range (cells on continuation sheets are qualified by their sheet index)
+    Cell cell = cells.get(0);
+    Sheet cellSheet = cell.getSheet();
     String rangeName = "Enum_" + cell.getRowIndex() + "_" + cell.getColumnIndex();
+    if (cellSheet != sheet) {
+      rangeName += "_" + workbook.getSheetIndex(cellSheet);
+    }
     Name namedRange = workbook.createName();
     namedRange.setNameName(rangeName);
     String formula = String.format("'%s'!$A$%d:$A$%d", hiddenSheet.getSheetName(), startRow + 1,
@@ -735,13 +1793,14 @@ public class YamlWorkbookWriter {
     namedRange.setRefersToFormula(formula);
 
     // Create validation using named range
-    DataValidationHelper helper = sheet.getDataValidationHelper();
-    DataValidationConstraint constraint = helper.createFormulaListConstraint(rangeName);
-    CellRangeAddressList addressList = new CellRangeAddressList(cell.getRowIndex(),
-        cell.getRowIndex(), cell.getColumnIndex(), cell.getColumnIndex());
-    DataValidation validation = helper.createValidation(constraint, addressList);
-    validation.setSuppressDropDownArrow(true);
-    sheet.addValidationData(validation);
+    String constraintName = rangeName;
+    getAddressLists(cells).forEach((validatedSheet, addressList) -> {
+      DataValidationHelper helper = validatedSheet.getDataValidationHelper();
+      DataValidationConstraint constraint = helper.createFormulaListConstraint(constraintName);
+      DataValidation validation = helper.createValidation(constraint, addressList);
+      validation.setSuppressDropDownArrow(true);
+      validatedSheet.addValidationData(validation);
+    });
   }
 
   private Sheet getOrCreateHiddenSheet(Workbook workbook, int visibleLogicalIdx) {
@@ -753,6 +1812,7 @@ public class YamlWorkbookWriter {
 
     // Create hidden sheet
     Sheet hiddenSheet = workbook.createSheet(hiddenSheetName);
+    beginSheetEvent(hiddenSheet);
 
     // Find actual index of visible sheet and insert hidden sheet right after it
     Sheet visibleSheet = visibleSheets.get(visibleLogicalIdx);
@@ -762,6 +1822,7 @@ public class YamlWorkbookWriter {
 
     hiddenSheets.put(visibleLogicalIdx, hiddenSheet);
     hiddenSheetEnumRowCounter.put(visibleLogicalIdx, 0);
+    metrics.hiddenSheetCreated();
     return hiddenSheet;
   }
 
@@ -836,4 +1897,21 @@ public class YamlWorkbookWriter {
    */
   public static class YamlWorkbookWriterBuilder {}
 
+  /**
+   * Rows and pending dropdowns of the first item of a FORM_MODE array, captured while it is
+   * rendered so that blank items can be copied from it instead of traversed again.
+   */
+  private static final class ItemTemplate {
+
+    private final ItemTemplate outer;
+    private final List<Row> rows = new ArrayList<>();
+    private final Map<Cell, List<String>> validations = new LinkedHashMap<>();
+    private boolean capturing = true;
+
+    private ItemTemplate(ItemTemplate outer) {
+      this.outer = outer;
+    }
+
+  }
+
 }
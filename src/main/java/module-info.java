@@ -9,6 +9,7 @@ module com.github.wnameless.workbook.yamlworkbook {
   requires transitive tools.jackson.databind;
   requires com.github.wnameless.json.jsonschemadatagenerator;
   requires java.logging;
+  requires jdk.jfr;
   requires static lombok;
 
   // Export public API
@@ -0,0 +1,137 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.junit.jupiter.api.Test;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecorderEventsTest {
+
+  private static final String PREFIX = "com.github.wnameless.workbook.yamlworkbook.";
+
+  // ==================== Writer Event Tests ====================
+
+  @Test
+  void testWriterEmitsDocumentAndSheetEvents() throws IOException {
+    List<RecordedEvent> events = record(() -> {
+      YamlWorkbookWriter writer = YamlWorkbookWriter.builder()
+          .nodeToSheetMapper((node, index) -> index)
+          .build();
+      writer.toWorkbook(new StringReader("a: 1\nb: 2\n---\n- x\n- y\n- z\n")).close();
+    });
+
+    List<RecordedEvent> documents = filter(events, "DocumentConverted");
+    assertEquals(2, documents.size());
+    assertEquals("write", documents.get(0).getString("direction"));
+    assertEquals(0, documents.get(0).getInt("documentIndex"));
+    assertEquals("Sheet1", documents.get(0).getString("sheetName"));
+    assertEquals(3, documents.get(0).getInt("rows"));
+    assertEquals(5, documents.get(0).getLong("cells"));
+    assertEquals(1, documents.get(1).getInt("documentIndex"));
+    assertEquals("Sheet2", documents.get(1).getString("sheetName"));
+    assertEquals(4, documents.get(1).getInt("rows"));
+
+    List<RecordedEvent> sheets = filter(events, "SheetRendered");
+    assertEquals(List.of("Sheet1", "Sheet2"),
+        sheets.stream().map(e -> e.getString("sheetName")).toList());
+    assertFalse(sheets.get(0).getBoolean("hidden"));
+  }
+
+  @Test
+  void testFormModeEmitsSchemaCompiledEvent() throws IOException {
+    String jsonSchema = """
+        {
+          "type": "object",
+          "properties": {
+            "color": { "type": "string", "enum": ["r", "g"], "enumNames": ["Red", "Green"] }
+          }
+        }
+        """;
+    List<RecordedEvent> events = record(() -> {
+      Workbook workbook = YamlWorkbookWriter.builder()
+          .outputMode(OutputMode.FORM_MODE)
+          .jsonSchema(jsonSchema)
+          .build()
+          .toWorkbook();
+      YamlWorkbookReader.builder().outputMode(OutputMode.FORM_MODE).build().fromWorkbook(workbook);
+      workbook.close();
+    });
+
+    List<RecordedEvent> schemas = filter(events, "SchemaCompiled");
+    assertEquals(1, schemas.size());
+    assertEquals(jsonSchema.length(), schemas.get(0).getInt("schemaLength"));
+
+    List<RecordedEvent> validations = filter(events, "ValidationIndexBuilt");
+    assertEquals(1, validations.size());
+    assertEquals(1, validations.get(0).getInt("validations"));
+
+    List<RecordedEvent> comments = filter(events, "CommentIndexBuilt");
+    assertEquals(1, comments.size());
+    assertEquals(1, comments.get(0).getInt("comments"));
+  }
+
+  // ==================== Reader Event Tests ====================
+
+  @Test
+  void testReaderEmitsDocumentEvents() throws IOException {
+    Workbook workbook = YamlWorkbook.toWorkbook("a: 1\n---\nb: 2\n");
+    List<RecordedEvent> events =
+        record(() -> YamlWorkbookReader.builder().build().fromWorkbook(workbook));
+    workbook.close();
+
+    List<RecordedEvent> documents = filter(events, "DocumentConverted");
+    assertEquals(2, documents.size());
+    assertEquals("read", documents.get(0).getString("direction"));
+    assertEquals(1, documents.get(1).getInt("documentIndex"));
+    assertEquals(1, documents.get(1).getInt("rows"));
+    assertTrue(filter(events, "CommentIndexBuilt").isEmpty());
+  }
+
+  @Test
+  void testNoEventsWhenDisabled() throws IOException {
+    List<RecordedEvent> events = record(false,
+        () -> YamlWorkbook.fromWorkbook(YamlWorkbook.toWorkbook("a: 1\n")));
+    assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().startsWith(PREFIX)));
+  }
+
+  private interface Action {
+    void run() throws IOException;
+  }
+
+  private List<RecordedEvent> record(Action action) throws IOException {
+    return record(true, action);
+  }
+
+  private List<RecordedEvent> record(boolean enabled, Action action) throws IOException {
+    Path file = Files.createTempFile("yaml-workbook", ".jfr");
+    try (Recording recording = new Recording()) {
+      for (String name : List.of("DocumentConverted", "SheetRendered", "ValidationIndexBuilt",
+          "CommentIndexBuilt", "SchemaCompiled")) {
+        if (enabled) {
+          recording.enable(PREFIX + name).withoutThreshold();
+        } else {
+          recording.disable(PREFIX + name);
+        }
+      }
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+    return events.stream().filter(e -> e.getEventType().getName().equals(PREFIX + name)).toList();
+  }
+
+}
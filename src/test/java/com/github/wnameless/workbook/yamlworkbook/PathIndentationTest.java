@@ -0,0 +1,193 @@
+package com.github.wnameless.workbook.yamlworkbook;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+
+class PathIndentationTest {
+
+  // ==================== Writer Tests ====================
+
+  @Test
+  void testPathModeWritesOneRowPerLeaf() {
+    String yaml = """
+        server:
+          host: localhost
+          ports:
+            - 80
+            - 443 # tls
+        """;
+    Workbook workbook = pathWriter().toWorkbook(new StringReader(yaml));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals(3, sheet.getLastRowNum());
+    assertEquals("server.host", sheet.getRow(1).getCell(0).getStringCellValue());
+    assertEquals("localhost", sheet.getRow(1).getCell(1).getStringCellValue());
+    assertEquals("server.ports[0]", sheet.getRow(2).getCell(0).getStringCellValue());
+    assertEquals("server.ports[1]", sheet.getRow(3).getCell(0).getStringCellValue());
+    assertEquals("443", sheet.getRow(3).getCell(1).getStringCellValue());
+    assertEquals("# tls", sheet.getRow(3).getCell(2).getStringCellValue());
+  }
+
+  @Test
+  void testPathModeEscapesSpecialKeys() {
+    String yaml = """
+        "a.b":
+          "c[0]": 1
+        "#root": 2
+        """;
+    Workbook workbook = pathWriter().toWorkbook(new StringReader(yaml));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals("a\\.b.c\\[0]", sheet.getRow(1).getCell(0).getStringCellValue());
+    assertEquals("\\#root", sheet.getRow(2).getCell(0).getStringCellValue());
+  }
+
+  @Test
+  void testPathModeRejectsEmptyRootKeys() {
+    var e = assertThrows(IllegalArgumentException.class,
+        () -> pathWriter().toWorkbook(new StringReader("'': 1\nb: 2\n")));
+    assertEquals("PATH indentation mode does not support empty keys at the document root",
+        e.getMessage());
+  }
+
+  @Test
+  void testPathModeRoundTripNestedEmptyKeys() throws IOException {
+    String yaml = "a:\n  '': 1\n  b:\n    '': [x]\n";
+    Workbook workbook = pathWriter().toWorkbook(new StringReader(yaml));
+
+    Object expected = new Yaml().load(yaml);
+    assertEquals(List.of(expected), pathReader().toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testPathModeRejectsFormMode() {
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .indentationMode(IndentationMode.PATH)
+        .jsonSchema("{\"type\": \"object\"}")
+        .build();
+    assertThrows(IllegalStateException.class, writer::toWorkbook);
+  }
+
+  // ==================== Roundtrip Tests ====================
+
+  @Test
+  void testPathModeRoundTripResources() throws IOException {
+    for (String resource : List.of("yaml/simple.yaml", "yaml/nested.yaml", "yaml/sequence.yaml",
+        "yaml/complex.yaml", "yaml/multidoc.yaml", "yaml/root-scalar.yaml")) {
+      String yaml = loadYaml(resource);
+      Workbook workbook = pathWriter().toWorkbook(new StringReader(yaml));
+
+      List<Object> expected = new ArrayList<>();
+      new Yaml().loadAll(yaml).forEach(expected::add);
+      assertEquals(expected, pathReader().toObjects(workbook), resource);
+      workbook.close();
+    }
+  }
+
+  @Test
+  void testPathModeRoundTripSpecialValues() throws IOException {
+    String yaml = """
+        "a.b":
+          "c[0]": '{}'
+          "x\\\\y": '#hash'
+        "---": empty
+        "#root": {}
+        list: []
+        matrix:
+          - [1, 2]
+          - []
+        """;
+    Workbook workbook = pathWriter().toWorkbook(new StringReader(yaml));
+
+    Object expected = new Yaml().load(yaml);
+    assertEquals(List.of(expected), pathReader().toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testPathModeRoundTripComments() throws IOException {
+    String yaml = """
+        # database settings
+        db:
+          host: localhost # primary
+        """;
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .indentationMode(IndentationMode.PATH)
+        .build()
+        .toWorkbook(new StringReader("key: 1\n" + yaml));
+
+    List<Node> nodes = pathReader().fromWorkbook(workbook);
+    MappingNode root = (MappingNode) nodes.get(0);
+    Node dbKey = root.getValue().get(1).getKeyNode();
+    assertEquals(" database settings", dbKey.getBlockComments().get(0).getValue());
+
+    MappingNode db = (MappingNode) root.getValue().get(1).getValueNode();
+    ScalarNode host = (ScalarNode) db.getValue().get(0).getValueNode();
+    assertEquals("localhost", host.getValue());
+    assertEquals(" primary", host.getInLineComments().get(0).getValue());
+    workbook.close();
+  }
+
+  @Test
+  void testPathModeCustomSeparators() throws IOException {
+    WorkbookSyntax syntax = new WorkbookSyntax() {
+      public String getFrontmatter() { return "---"; }
+      public String getCommentMark() { return "#"; }
+      public String getEscapeMark() { return "\\"; }
+      public String getItemMark() { return "-"; }
+      public Short getIndentCellCount() { return 1; }
+      public String getPathSeparator() { return "/"; }
+      public String getPathIndexStart() { return "<"; }
+      public String getPathIndexEnd() { return ">"; }
+    };
+    String yaml = "a:\n  b.c:\n    - x\n    - y\n";
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .indentationMode(IndentationMode.PATH)
+        .workbookSyntax(syntax)
+        .build()
+        .toWorkbook(new StringReader(yaml));
+
+    assertEquals("a/b.c<1>", workbook.getSheetAt(0).getRow(2).getCell(0).getStringCellValue());
+
+    List<Object> objects = YamlWorkbookReader.builder()
+        .indentationMode(IndentationMode.PATH)
+        .workbookSyntax(syntax)
+        .build()
+        .toObjects(workbook);
+    Object expected = new Yaml().load(yaml);
+    assertEquals(List.of(expected), objects);
+    workbook.close();
+  }
+
+  private YamlWorkbookWriter pathWriter() {
+    return YamlWorkbookWriter.builder().indentationMode(IndentationMode.PATH).build();
+  }
+
+  private YamlWorkbookReader pathReader() {
+    return YamlWorkbookReader.builder().indentationMode(IndentationMode.PATH).build();
+  }
+
+  private String loadYaml(String resourcePath) throws IOException {
+    try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
+      if (is == null) {
+        throw new IOException("Resource not found: " + resourcePath);
+      }
+      return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+}
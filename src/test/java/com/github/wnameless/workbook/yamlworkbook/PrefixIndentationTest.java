@@ -13,6 +13,7 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.ScalarNode;
@@ -413,4 +414,92 @@ class PrefixIndentationTest {
     }
   }
 
+  // ==================== Adaptive Indentation Tests ====================
+
+  @Test
+  void testAdaptiveModeSwitchesToPrefixBeyondBudget() throws IOException {
+    String yaml = """
+        a:
+          b:
+            c:
+              d: deep
+        """;
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .indentationMode(IndentationMode.ADAPTIVE)
+        .adaptiveColumnBudget(1)
+        .build()
+        .toWorkbook(new StringReader(yaml));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    // Within the budget: cell offsets
+    assertEquals("a", sheet.getRow(1).getCell(0).getStringCellValue());
+    assertEquals("b", sheet.getRow(2).getCell(1).getStringCellValue());
+    assertNull(sheet.getRow(2).getCell(0));
+    // Beyond the budget: prefix at col 0, content at col 1
+    assertEquals("2>", sheet.getRow(3).getCell(0).getStringCellValue());
+    assertEquals("c", sheet.getRow(3).getCell(1).getStringCellValue());
+    assertEquals("3>", sheet.getRow(4).getCell(0).getStringCellValue());
+    assertEquals("d", sheet.getRow(4).getCell(1).getStringCellValue());
+    assertEquals("deep", sheet.getRow(4).getCell(2).getStringCellValue());
+    workbook.close();
+  }
+
+  @Test
+  void testAdaptiveModeKeepsDeepDocumentsNarrow() throws IOException {
+    StringBuilder yaml = new StringBuilder();
+    for (int i = 0; i < 40; i++) {
+      yaml.append("  ".repeat(i)).append("k").append(i).append(":\n");
+    }
+    yaml.append("  ".repeat(40)).append("leaf: value\n");
+
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .indentationMode(IndentationMode.ADAPTIVE)
+        .build()
+        .toWorkbook(new StringReader(yaml.toString()));
+    for (Row row : workbook.getSheetAt(0)) {
+      assertTrue(row.getLastCellNum() <= 10);
+    }
+
+    Object expected = new Yaml().load(yaml.toString());
+    List<Object> objects = YamlWorkbookReader.builder()
+        .indentationMode(IndentationMode.ADAPTIVE)
+        .build()
+        .toObjects(workbook);
+    assertEquals(List.of(expected), objects);
+    workbook.close();
+  }
+
+  @Test
+  void testAdaptiveModeRoundTripMixedLayouts() throws IOException {
+    String yaml = """
+        # top
+        label: "2>"
+        root:
+          list:
+            - name: x # inline
+              tags: [a, b]
+            - - nested
+              - "3>"
+          map:
+            deep:
+              deeper: 1
+        """;
+    for (int budget : List.of(0, 1, 2, 3, 100)) {
+      Workbook workbook = YamlWorkbookWriter.builder()
+          .indentationMode(IndentationMode.ADAPTIVE)
+          .adaptiveColumnBudget(budget)
+          .build()
+          .toWorkbook(new StringReader(yaml));
+
+      List<Object> objects = YamlWorkbookReader.builder()
+          .indentationMode(IndentationMode.ADAPTIVE)
+          .adaptiveColumnBudget(budget)
+          .build()
+          .toObjects(workbook);
+      Object expected = new Yaml().load(yaml);
+      assertEquals(List.of(expected), objects, "budget " + budget);
+      workbook.close();
+    }
+  }
+
 }
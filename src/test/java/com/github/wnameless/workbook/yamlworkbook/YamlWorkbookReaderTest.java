@@ -1,31 +1,56 @@
 package com.github.wnameless.workbook.yamlworkbook;
 
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
 import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.NodeTuple;
 import org.yaml.snakeyaml.nodes.ScalarNode;
 import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import tools.jackson.databind.JsonNode;
 
 class YamlWorkbookReaderTest {
 
   private static final boolean WRITE_EXCEL_FILES = true;
   private static final Path OUTPUT_DIR = Paths.get("target/test-excel");
 
+  @TempDir
+  Path dir;
+
   @BeforeAll
   static void setUpOnce() throws IOException {
     if (WRITE_EXCEL_FILES) {
@@ -892,6 +917,36 @@ class YamlWorkbookReaderTest {
     workbook.close();
   }
 
+  @Test
+  void testFirstOverlappingValidationProvidesEnumOptions() throws IOException {
+    try (Workbook workbook = new XSSFWorkbook()) {
+      Sheet sheet = workbook.createSheet("Sheet1");
+      sheet.createRow(0).createCell(0).setCellValue("---");
+      Row row = sheet.createRow(1);
+      row.createCell(0).setCellValue("color");
+      Cell cell = row.createCell(1);
+      cell.setCellValue("Green");
+      var anchor = workbook.getCreationHelper().createClientAnchor();
+      var comment = sheet.createDrawingPatriarch().createCellComment(anchor);
+      comment.setString(workbook.getCreationHelper().createRichTextString("ENUM_VALUES:r,g"));
+      cell.setCellComment(comment);
+
+      // A range listed before a single-cell validation of the same cell takes precedence
+      var helper = sheet.getDataValidationHelper();
+      sheet.addValidationData(helper.createValidation(
+          helper.createExplicitListConstraint(new String[] {"Green", "Red"}),
+          new CellRangeAddressList(1, 2, 1, 1)));
+      sheet.addValidationData(helper.createValidation(
+          helper.createExplicitListConstraint(new String[] {"Red", "Green"}),
+          new CellRangeAddressList(1, 1, 1, 1)));
+
+      assertEquals(List.of(Map.of("color", "r")), YamlWorkbookReader.builder()
+          .outputMode(OutputMode.FORM_MODE)
+          .build()
+          .toObjects(workbook));
+    }
+  }
+
   // ==================== WORKBOOK_READABLE Mode Roundtrip Tests ====================
 
   @Test
@@ -1098,4 +1153,1637 @@ class YamlWorkbookReaderTest {
     workbook.close();
   }
 
+  // ==================== Object Binding Tests ====================
+
+  @Test
+  void testToObjectsTypedScalars() throws IOException {
+    String yaml = """
+        name: John Doe
+        age: 30
+        score: 9.5
+        active: true
+        nickname:
+        hobbies:
+          - reading
+          - 42
+        address:
+          city: New York
+          zip: '10001'
+        """;
+    Workbook workbook = YamlWorkbook.toWorkbook(yaml);
+
+    List<Object> objects = YamlWorkbook.toObjects(workbook);
+
+    assertEquals(1, objects.size());
+    Map<?, ?> map = (Map<?, ?>) objects.get(0);
+    assertEquals("John Doe", map.get("name"));
+    assertEquals(30, map.get("age"));
+    assertEquals(9.5, map.get("score"));
+    assertEquals(Boolean.TRUE, map.get("active"));
+    assertTrue(map.containsKey("nickname"));
+    assertNull(map.get("nickname"));
+    assertEquals(List.of("reading", 42), map.get("hobbies"));
+    // Cells carry no quoting, so numeric-looking strings are typed like plain YAML
+    assertEquals(Map.of("city", "New York", "zip", 10001), map.get("address"));
+
+    workbook.close();
+  }
+
+  @Test
+  void testToObjectsMultiDocument() throws IOException {
+    String yaml = loadYaml("yaml/multidoc.yaml");
+    Workbook workbook = YamlWorkbook.toWorkbook(yaml);
+
+    List<Object> objects = YamlWorkbook.toObjects(workbook);
+    List<Node> nodes = YamlWorkbook.fromWorkbook(workbook);
+
+    assertEquals(nodes.size(), objects.size());
+    YamlWorkbookReader reader = YamlWorkbookReader.builder().build();
+    for (int i = 0; i < nodes.size(); i++) {
+      assertEquals(reader.toObject(nodes.get(i)), objects.get(i));
+    }
+
+    workbook.close();
+  }
+
+  @Test
+  void testToObjectsJavaBean() throws IOException {
+    String yaml = """
+        host: localhost
+        ports:
+          - 8080
+          - 8443
+        secure: true
+        """;
+    Workbook workbook = YamlWorkbook.toWorkbook(yaml);
+
+    List<Endpoint> endpoints = YamlWorkbook.toObjects(workbook, Endpoint.class);
+
+    assertEquals(1, endpoints.size());
+    Endpoint endpoint = endpoints.get(0);
+    assertEquals("localhost", endpoint.getHost());
+    assertEquals(List.of(8080, 8443), endpoint.getPorts());
+    assertTrue(endpoint.isSecure());
+
+    workbook.close();
+  }
+
+  @Test
+  void testToObjectJavaBeanDoesNotModifyNode() throws IOException {
+    Workbook workbook = YamlWorkbook.toWorkbook("host: '123'\n");
+    Node node = YamlWorkbook.fromWorkbook(workbook).get(0);
+    YamlWorkbookReader reader = YamlWorkbookReader.builder().build();
+
+    Endpoint endpoint = reader.toObject(node, Endpoint.class);
+
+    // Typed property keeps the string even though the text looks like an int
+    assertEquals("123", endpoint.getHost());
+    assertEquals(org.yaml.snakeyaml.nodes.Tag.MAP, node.getTag());
+    assertNull(reader.toObject(null));
+
+    workbook.close();
+  }
+
+  @Test
+  void testToObjectsEmptyWorkbook() {
+    YamlWorkbookReader reader = YamlWorkbookReader.builder().build();
+    assertTrue(reader.toObjects(null).isEmpty());
+  }
+
+  public static class Endpoint {
+
+    private String host;
+    private List<Integer> ports;
+    private boolean secure;
+
+    public String getHost() {
+      return host;
+    }
+
+    public void setHost(String host) {
+      this.host = host;
+    }
+
+    public List<Integer> getPorts() {
+      return ports;
+    }
+
+    public void setPorts(List<Integer> ports) {
+      this.ports = ports;
+    }
+
+    public boolean isSecure() {
+      return secure;
+    }
+
+    public void setSecure(boolean secure) {
+      this.secure = secure;
+    }
+
+  }
+
+  // ==================== JSON Output Tests ====================
+
+  @Test
+  void testToJsonTypedScalars() throws IOException {
+    String yaml = """
+        # comments are not part of JSON
+        name: John Doe  # display name
+        age: 30
+        score: 9.5
+        active: true
+        nickname:
+        limit: .inf
+        tags:
+          - a
+          - 1
+        """;
+    Workbook workbook = YamlWorkbook.toWorkbook(yaml);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    YamlWorkbook.toJson(workbook, out);
+
+    assertEquals("[{\"name\":\"John Doe\",\"age\":30,\"score\":9.5,\"active\":true,"
+        + "\"nickname\":null,\"limit\":\".inf\",\"tags\":[\"a\",1]}]",
+        out.toString(StandardCharsets.UTF_8));
+
+    workbook.close();
+  }
+
+  @Test
+  void testToJsonMultiDocumentArrayAndNdjson() throws IOException {
+    String yaml = """
+        a: 1
+        ---
+        - x
+        - y
+        ---
+        plain
+        """;
+    Workbook workbook = YamlWorkbook.toWorkbook(yaml);
+
+    ByteArrayOutputStream array = new ByteArrayOutputStream();
+    YamlWorkbook.toJson(workbook, array, JsonOutputFormat.ARRAY);
+    assertEquals("[{\"a\":1},[\"x\",\"y\"],\"plain\"]", array.toString(StandardCharsets.UTF_8));
+
+    ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+    YamlWorkbook.toJson(workbook, ndjson, JsonOutputFormat.NDJSON);
+    assertEquals("{\"a\":1}\n[\"x\",\"y\"]\n\"plain\"\n", ndjson.toString(StandardCharsets.UTF_8));
+
+    workbook.close();
+  }
+
+  @Test
+  void testToJsonDoesNotCloseStream() throws IOException {
+    Workbook workbook = YamlWorkbook.toWorkbook("key: value\n");
+    AtomicBoolean closed = new AtomicBoolean();
+    ByteArrayOutputStream out = new ByteArrayOutputStream() {
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    };
+
+    YamlWorkbookReader.builder().build().toJson(workbook, out);
+
+    assertFalse(closed.get());
+    assertEquals("[{\"key\":\"value\"}]", out.toString(StandardCharsets.UTF_8));
+    workbook.close();
+  }
+
+  @Test
+  void testToJsonEmptyWorkbook() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    YamlWorkbookReader.builder().build().toJson(null, out);
+    assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+  }
+
+  // ==================== Conversion Listener Tests ====================
+
+  @Test
+  void testFromWorkbookReportsConversionStats() throws IOException {
+    Workbook workbook = YamlWorkbook.toWorkbook("a: 1\nb:\n  - x\n  - y\n---\nc: 2\n");
+    ConversionStatsRecorder recorder = new ConversionStatsRecorder();
+    YamlWorkbookReader reader =
+        YamlWorkbookReader.builder().conversionListener(recorder).build();
+
+    List<Node> nodes = reader.fromWorkbook(workbook);
+
+    ConversionStats stats = recorder.getLastStats();
+    assertEquals(2, nodes.size());
+    assertEquals(2, stats.getDocuments());
+    assertEquals(stats.getRows(),
+        stats.getDocumentRowCounts().stream().mapToInt(Integer::intValue).sum());
+    assertTrue(stats.getCells() > 0);
+    assertTrue(stats.getPhaseNanos(ConversionPhase.ROW_SCAN) > 0);
+    assertTrue(stats.getPhaseNanos(ConversionPhase.RECONSTRUCTION) > 0);
+    assertEquals(0, stats.getBytesWritten());
+    workbook.close();
+  }
+
+  @Test
+  void testToJsonReportsBytesWritten() throws IOException {
+    Workbook workbook = YamlWorkbook.toWorkbook("key: value\n");
+    ConversionStatsRecorder recorder = new ConversionStatsRecorder();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    YamlWorkbookReader.builder().conversionListener(recorder).build().toJson(workbook, out);
+
+    ConversionStats stats = recorder.getLastStats();
+    assertEquals(out.size(), stats.getBytesWritten());
+    assertEquals(1, stats.getDocuments());
+    assertTrue(stats.getPhaseNanos(ConversionPhase.SERIALIZATION) > 0);
+    workbook.close();
+  }
+
+  @Test
+  void testToObjectsReportsBindingPhase() throws IOException {
+    Workbook workbook = YamlWorkbook.toWorkbook("key: value\n");
+    ConversionStatsRecorder recorder = new ConversionStatsRecorder();
+
+    YamlWorkbookReader.builder().conversionListener(recorder).build().toObjects(workbook);
+
+    assertTrue(recorder.getLastStats().getPhaseNanos(ConversionPhase.BINDING) > 0);
+    workbook.close();
+  }
+
+  // ==================== Table Layout Tests ====================
+
+  @Test
+  void testTableLayoutRoundTrip() throws IOException {
+    String yaml = """
+        title: inventory
+        servers:
+          - name: web
+            port: 80
+            note: '# not a comment'
+          - name: '|'
+            port: 5432
+            note: n/a
+        groups:
+          - members:
+              - id: 1
+              - id: 2
+        """;
+    for (IndentationMode mode : IndentationMode.values()) {
+      Workbook workbook = YamlWorkbookWriter.builder()
+          .indentationMode(mode)
+          .sequenceLayoutStrategy(SequenceLayoutStrategy.AUTO)
+          .build()
+          .toWorkbook(new StringReader(yaml));
+
+      List<Object> objects =
+          YamlWorkbookReader.builder().indentationMode(mode).build().toObjects(workbook);
+
+      Object expected = new Yaml().load(yaml);
+      assertEquals(List.of(expected), objects);
+      workbook.close();
+    }
+  }
+
+  @Test
+  void testTableLayoutRootSequence() throws IOException {
+    String yaml = "- a: x\n  b: y\n- a: z\n  b: w\n";
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .sequenceLayoutStrategy(SequenceLayoutStrategy.AUTO)
+        .build()
+        .toWorkbook(new StringReader(yaml));
+
+    assertEquals(3, workbook.getSheetAt(0).getLastRowNum());
+    Node node = YamlWorkbook.fromWorkbook(workbook).get(0);
+    SequenceNode sequence = assertInstanceOf(SequenceNode.class, node);
+    assertEquals(2, sequence.getValue().size());
+    MappingNode second = (MappingNode) sequence.getValue().get(1);
+    assertEquals("w", getScalarValue(second.getValue().get(1).getValueNode()));
+    workbook.close();
+  }
+
+  @Test
+  void testTableLayoutSkipsKeysThatCannotBeHeaders() throws IOException {
+    String yaml = "empty: [{'': 1}, {'': 2}]\nnulls: [{'null': 1}, {'null': 2}]\n";
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .sequenceLayoutStrategy(SequenceLayoutStrategy.AUTO)
+        .build()
+        .toWorkbook(new StringReader(yaml));
+
+    for (Row row : workbook.getSheetAt(0)) {
+      for (Cell cell : row) {
+        assertNotEquals("|", cell.getStringCellValue());
+      }
+    }
+    // Read back exactly as the item layout, instead of as empty mappings
+    try (Workbook items = YamlWorkbook.toWorkbook(yaml)) {
+      assertEquals(YamlWorkbook.toObjects(items), YamlWorkbook.toObjects(workbook));
+    }
+    workbook.close();
+  }
+
+  @Test
+  void testKeysEqualToLayoutMarksRoundTrip() throws IOException {
+    String yaml = """
+        x: {'|': 1, b: 2}
+        y: {'[]': 1}
+        z: {'-': 1, '# not a comment': 2, '\\escaped': 3, '': 4, '\\#': 5, '---': 6}
+        '---': 7
+        """;
+    for (OutputMode mode : List.of(OutputMode.YAML_ORIENTED, OutputMode.DISPLAY_MODE)) {
+      Workbook workbook =
+          YamlWorkbookWriter.builder().outputMode(mode).build().toWorkbook(new StringReader(yaml));
+
+      Object expected = new Yaml().load(yaml);
+      assertEquals(List.of(expected),
+          YamlWorkbookReader.builder().outputMode(mode).build().toObjects(workbook));
+      workbook.close();
+    }
+  }
+
+  @Test
+  void testKeysStartingWithEscapeMarkAreKeptAsWritten() throws IOException {
+    try (Workbook workbook = YamlWorkbook.toWorkbook("\\\\server: 1\n")) {
+      Sheet sheet = workbook.getSheetAt(0);
+      assertEquals("\\\\server", sheet.getRow(1).getCell(0).getStringCellValue());
+
+      // Workbooks written before keys were escaped hold such keys as they are
+      sheet.getRow(1).getCell(0).setCellValue("\\server");
+      assertEquals(List.of(Map.of("\\server", 1)), YamlWorkbook.toObjects(workbook));
+    }
+  }
+
+  // ==================== Compact Layout Tests ====================
+
+  @Test
+  void testCompactLayoutRoundTrip() throws IOException {
+    String yaml = """
+        tags: [web, '[]', '#hash', ~, last]
+        ports: [1, 2, 3, 4, 5]
+        nested:
+          - [x, y]
+          - z
+        """;
+    for (IndentationMode mode : IndentationMode.values()) {
+      Workbook workbook = YamlWorkbookWriter.builder()
+          .indentationMode(mode)
+          .sequenceLayoutStrategy(SequenceLayoutStrategy.COMPACT)
+          .compactItemsPerRow(2)
+          .build()
+          .toWorkbook(new StringReader(yaml));
+
+      List<Object> objects =
+          YamlWorkbookReader.builder().indentationMode(mode).build().toObjects(workbook);
+
+      Object expected = new Yaml().load(yaml);
+      assertEquals(List.of(expected), objects);
+      workbook.close();
+    }
+  }
+
+  // ==================== Continuation Sheet Tests ====================
+
+  @Test
+  void testContinuationSheetsRoundTrip() throws IOException {
+    String yaml = loadYaml("yaml/complex.yaml");
+    for (IndentationMode mode : IndentationMode.values()) {
+      Workbook workbook = YamlWorkbookWriter.builder()
+          .indentationMode(mode)
+          .maxRowsPerSheet(4)
+          .build()
+          .toWorkbook(new StringReader(yaml + "\n---\nnext: doc\n"));
+      assertTrue(workbook.getNumberOfSheets() > 1);
+
+      List<Object> objects =
+          YamlWorkbookReader.builder().indentationMode(mode).build().toObjects(workbook);
+
+      List<Object> expected = new ArrayList<>();
+      new Yaml().loadAll(yaml + "\n---\nnext: doc\n").forEach(expected::add);
+      assertEquals(expected, objects, mode.name());
+      workbook.close();
+    }
+  }
+
+  @Test
+  void testContinuationSheetsWithCustomSheetNaming() throws IOException {
+    SheetNameStrategy naming = new SheetNameStrategy() {
+      @Override
+      public String apply(Integer index) {
+        return "Data_" + (index + 1);
+      }
+
+      @Override
+      public String applyContinuation(int visibleSheetIndex, int part) {
+        return apply(visibleSheetIndex) + "_part" + part;
+      }
+    };
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .sheetNameStrategy(naming)
+        .nodeToSheetMapper((node, index) -> index)
+        .maxRowsPerSheet(2)
+        .build()
+        .toWorkbook(new StringReader("- 1\n- 2\n- 3\n---\nx: y\n"));
+    assertEquals("Data_1_part2", workbook.getSheetName(1));
+
+    List<Object> objects =
+        YamlWorkbookReader.builder().sheetNameStrategy(naming).build().toObjects(workbook);
+    assertEquals(List.of(List.of(1, 2, 3), Map.of("x", "y")), objects);
+    workbook.close();
+  }
+
+  // ==================== Anchor and Alias Tests ====================
+
+  @Test
+  void testAnchorsRoundTripAsSharedNodes() throws IOException {
+    String anchorYaml = loadYaml("yaml/anchors.yaml");
+    Workbook workbook = YamlWorkbookWriter.builder().preserveAnchors(true).build()
+        .toWorkbook(new StringReader(anchorYaml));
+    YamlWorkbookReader reader = YamlWorkbookReader.builder().preserveAnchors(true).build();
+
+    List<Node> nodes = reader.fromWorkbook(workbook);
+    MappingNode root = (MappingNode) nodes.get(0);
+    Node base = root.getValue().get(0).getValueNode();
+    assertEquals("base", base.getAnchor());
+    assertSame(base, root.getValue().get(2).getValueNode());
+    assertSame(base, ((SequenceNode) root.getValue().get(7).getValueNode()).getValue().get(0));
+
+    Object expected = new Yaml().load(anchorYaml);
+    assertEquals(List.of(expected), reader.toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testAnchorLikeValuesAreEscaped() throws IOException {
+    String yaml = """
+        star: "*not-an-alias"
+        amp: "&not-an-anchor"
+        items: ["*x", "&y z"]
+        """;
+    Workbook workbook = YamlWorkbookWriter.builder().preserveAnchors(true).build()
+        .toWorkbook(new StringReader(yaml));
+
+    Object expected = new Yaml().load(yaml);
+    assertEquals(List.of(expected),
+        YamlWorkbookReader.builder().preserveAnchors(true).build().toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testRecursiveAliasesCannotBeWrittenAsJson() throws IOException {
+    // Recursive nodes only come from embedded sources; alias cells always refer backwards
+    try (Workbook workbook = YamlWorkbookWriter.builder().preserveAnchors(true).embedSource(true)
+        .build().toWorkbook(new StringReader("a: &loop\n  - *loop\n"))) {
+      var reader = YamlWorkbookReader.builder().preserveAnchors(true).useEmbeddedSource(true)
+          .build();
+      assertThrows(IllegalArgumentException.class,
+          () -> reader.toJson(workbook, new ByteArrayOutputStream()));
+    }
+  }
+
+  @Test
+  void testUndefinedAliasThrows() throws IOException {
+    try (Workbook workbook = new XSSFWorkbook()) {
+      Sheet sheet = workbook.createSheet("Sheet1");
+      sheet.createRow(0).createCell(0).setCellValue("---");
+      Row row = sheet.createRow(1);
+      row.createCell(0).setCellValue("a");
+      row.createCell(1).setCellValue("*missing");
+
+      assertThrows(IllegalArgumentException.class,
+          () -> YamlWorkbookReader.builder().preserveAnchors(true).build().fromWorkbook(workbook));
+    }
+  }
+
+  // ==================== Embedded Source Tests ====================
+
+  @Test
+  void testUnchangedDocumentsUseEmbeddedSource() throws IOException {
+    String sourceYaml = loadYaml("yaml/embedded-source.yaml");
+    Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader(sourceYaml));
+
+    YamlWorkbookReader reader = YamlWorkbookReader.builder().useEmbeddedSource(true).build();
+
+    List<Node> nodes = reader.fromWorkbook(workbook);
+    // Composed from the embedded source: implicit tags and comments as in the source
+    assertEquals(Tag.INT, portNode(nodes.get(0)).getTag());
+    assertEquals(Tag.INT, portNode(nodes.get(1)).getTag());
+    assertEquals(" tls", portNode(nodes.get(1)).getInLineComments().get(0).getValue());
+    List<Object> expected = new ArrayList<>();
+    new Yaml().loadAll(sourceYaml).forEach(expected::add);
+    assertEquals(expected, reader.toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testEditedDocumentsAreReconstructed() throws IOException {
+    String sourceYaml = loadYaml("yaml/embedded-source.yaml");
+    Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader(sourceYaml));
+    var sheet = workbook.getSheetAt(0);
+    for (var row : sheet) {
+      if (row.getCell(0) != null && "port".equals(row.getCell(0).getStringCellValue())
+          && "443".equals(row.getCell(1).getStringCellValue())) {
+        row.getCell(1).setCellValue("8443");
+      }
+    }
+
+    YamlWorkbookReader reader = YamlWorkbookReader.builder().useEmbeddedSource(true).build();
+    List<Node> nodes = reader.fromWorkbook(workbook);
+    assertEquals(Tag.INT, portNode(nodes.get(0)).getTag());
+    assertEquals(Tag.STR, portNode(nodes.get(1)).getTag());
+    assertEquals(
+        List.of(Map.of("name", "first", "port", 80), Map.of("name", "second", "port", 8443)),
+        reader.toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testEmbeddedSourceIsIgnoredByDefault() throws IOException {
+    String sourceYaml = loadYaml("yaml/embedded-source.yaml");
+    Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader(sourceYaml));
+
+    List<Node> nodes = YamlWorkbookReader.builder().build().fromWorkbook(workbook);
+    assertEquals(Tag.STR, portNode(nodes.get(0)).getTag());
+    workbook.close();
+  }
+
+  @Test
+  void testEditedCellCommentsInvalidateEmbeddedSource() throws IOException {
+    String schema = """
+        {"type": "object", "properties": {"color": {"type": "string", "title": "Color",
+          "enum": ["r", "g"], "enumNames": ["Red", "Green"]}}}
+        """;
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema(schema)
+        .embedSource(true)
+        .build()
+        .toWorkbook();
+    workbook.getSheetAt(0).getRow(1).getCell(1).setCellValue("Red");
+    var cell = workbook.getSheetAt(0).getRow(1).getCell(0);
+    cell.getCellComment().setString(
+        workbook.getCreationHelper().createRichTextString("colour"));
+
+    var reader = YamlWorkbookReader.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .useEmbeddedSource(true)
+        .build();
+    assertTrue(((Map<?, ?>) reader.toObjects(workbook).get(0)).containsKey("colour"));
+    workbook.close();
+  }
+
+  @Test
+  void testEmbeddedSourceSizeIsLimited() throws IOException {
+    String sourceYaml = loadYaml("yaml/embedded-source.yaml");
+    Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader(sourceYaml));
+
+    var e = assertThrows(ConversionLimitException.class, () -> YamlWorkbookReader.builder()
+        .useEmbeddedSource(true)
+        .conversionLimits(ConversionLimits.builder().maxEmbeddedSourceSize(64).build())
+        .build()
+        .fromWorkbook(workbook));
+    assertEquals(ConversionLimit.EMBEDDED_SOURCE_SIZE, e.getLimit());
+    assertEquals(64L * 1024 * 1024, ConversionLimits.NONE.getMaxEmbeddedSourceSize());
+    workbook.close();
+  }
+
+  @Test
+  void testEmbeddedSourceFromObjectsAndContinuationSheets() throws IOException {
+    Map<String, Object> data = Map.of("name", "object", "port", 8080);
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .embedSource(true)
+        .maxRowsPerSheet(2)
+        .build()
+        .toWorkbook((Object) data, List.of(1, 2, 3));
+    assertTrue(workbook.getNumberOfSheets() > 1);
+
+    YamlWorkbookReader reader = YamlWorkbookReader.builder().useEmbeddedSource(true).build();
+    List<Node> nodes = reader.fromWorkbook(workbook);
+    assertEquals(Tag.INT, portNode(nodes.get(0)).getTag());
+    assertEquals(List.of(data, List.of(1, 2, 3)), reader.toObjects(workbook));
+    workbook.close();
+  }
+
+  private Node portNode(Node document) {
+    return ((MappingNode) document).getValue().stream()
+        .filter(t -> "port".equals(((ScalarNode) t.getKeyNode()).getValue()))
+        .findFirst().orElseThrow().getValueNode();
+  }
+
+  // ==================== Incremental Read Tests ====================
+
+  @Test
+  void testUnchangedDocumentsReusePreviousNodes() throws IOException {
+    String fingerprintedYaml = loadYaml("yaml/fingerprinted.yaml");
+    List<Node> previous = readDocuments(fingerprintedYaml);
+    Workbook workbook = YamlWorkbookWriter.builder().recordFingerprints(true).build()
+        .toWorkbook(new StringReader(fingerprintedYaml));
+
+    List<Node> nodes = YamlWorkbookReader.builder().build().fromWorkbook(workbook, previous);
+    assertEquals(3, nodes.size());
+    for (int i = 0; i < nodes.size(); i++) {
+      assertSame(previous.get(i), nodes.get(i));
+    }
+    workbook.close();
+  }
+
+  @Test
+  void testOnlyEditedDocumentsAreReconstructed() throws IOException {
+    String fingerprintedYaml = loadYaml("yaml/fingerprinted.yaml");
+    List<Node> previous = readDocuments(fingerprintedYaml);
+    Workbook workbook = YamlWorkbookWriter.builder().recordFingerprints(true).build()
+        .toWorkbook(new StringReader(fingerprintedYaml));
+    workbook.getSheetAt(0).getRow(5).getCell(1).setCellValue("8443");
+
+    List<Node> nodes = YamlWorkbookReader.builder().build().fromWorkbook(workbook, previous);
+    assertSame(previous.get(0), nodes.get(0));
+    assertNotSame(previous.get(1), nodes.get(1));
+    assertSame(previous.get(2), nodes.get(2));
+
+    var reader = YamlWorkbookReader.builder().build();
+    assertEquals(Map.of("name", "second", "port", 8443), reader.toObject(nodes.get(1)));
+    workbook.close();
+  }
+
+  @Test
+  void testInsertedRowsInvalidateFollowingDocuments() throws IOException {
+    String fingerprintedYaml = loadYaml("yaml/fingerprinted.yaml");
+    List<Node> previous = readDocuments(fingerprintedYaml);
+    Workbook workbook = YamlWorkbookWriter.builder().recordFingerprints(true).build()
+        .toWorkbook(new StringReader(fingerprintedYaml));
+    Sheet sheet = workbook.getSheetAt(0);
+    sheet.shiftRows(3, sheet.getLastRowNum(), 1);
+    Row row = sheet.createRow(3);
+    row.createCell(0).setCellValue("extra");
+    row.createCell(1).setCellValue("true");
+
+    List<Node> nodes = YamlWorkbookReader.builder().build().fromWorkbook(workbook, previous);
+    assertNotSame(previous.get(0), nodes.get(0));
+    // Documents after the insertion no longer start at their recorded rows
+    assertNotSame(previous.get(1), nodes.get(1));
+    assertNotSame(previous.get(2), nodes.get(2));
+
+    List<Object> objects = new ArrayList<>();
+    nodes.forEach(node -> objects.add(YamlWorkbookReader.builder().build().toObject(node)));
+    assertEquals(Map.of("name", "first", "port", 80, "extra", true), objects.get(0));
+    assertEquals(Map.of("name", "third", "port", 8080), objects.get(2));
+    workbook.close();
+  }
+
+  @Test
+  void testFingerprintsSurviveSaving() throws IOException {
+    String fingerprintedYaml = loadYaml("yaml/fingerprinted.yaml");
+    List<Node> previous = readDocuments(fingerprintedYaml);
+    Workbook workbook = YamlWorkbookWriter.builder().recordFingerprints(true).build()
+        .toWorkbook(new StringReader(fingerprintedYaml));
+    var out = new ByteArrayOutputStream();
+    workbook.write(out);
+    workbook.close();
+
+    try (Workbook reopened = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+      List<Node> nodes = YamlWorkbookReader.builder().build().fromWorkbook(reopened, previous);
+      assertSame(previous.get(2), nodes.get(2));
+    }
+  }
+
+  @Test
+  void testWorkbookWithoutFingerprintsIsFullyReconstructed() throws IOException {
+    String fingerprintedYaml = loadYaml("yaml/fingerprinted.yaml");
+    List<Node> previous = readDocuments(fingerprintedYaml);
+    Workbook workbook =
+        YamlWorkbookWriter.builder().build().toWorkbook(new StringReader(fingerprintedYaml));
+
+    List<Node> nodes = YamlWorkbookReader.builder().build().fromWorkbook(workbook, previous);
+    assertEquals(3, nodes.size());
+    nodes.forEach(node -> assertFalse(previous.contains(node)));
+
+    List<Object> expected = new ArrayList<>();
+    new Yaml().loadAll(fingerprintedYaml).forEach(expected::add);
+    assertEquals(expected, YamlWorkbookReader.builder().build().toObjects(workbook));
+    workbook.close();
+  }
+
+  private List<Node> readDocuments(String yaml) throws IOException {
+    try (Workbook workbook = YamlWorkbookWriter.builder().build()
+        .toWorkbook(new StringReader(yaml))) {
+      return YamlWorkbookReader.builder().build().fromWorkbook(workbook);
+    }
+  }
+
+  // ==================== Workbook Diff Tests ====================
+
+  @Test
+  void testIdenticalWorkbooksHaveNoDifferences() throws IOException {
+    String diffYaml = loadYaml("yaml/diff.yaml");
+    try (Workbook oldWorkbook = YamlWorkbook.toWorkbook(diffYaml);
+        Workbook newWorkbook = YamlWorkbook.toWorkbook(diffYaml)) {
+      assertTrue(YamlWorkbook.diff(oldWorkbook, newWorkbook).isEmpty());
+    }
+  }
+
+  @Test
+  void testChangedAddedAndRemovedPaths() throws IOException {
+    String diffYaml = loadYaml("yaml/diff.yaml");
+    String updated = diffYaml.replace("port: 80", "port: 443").replace("  - b\n", "")
+        .replace("name: app\n", "name: app\nowner: ops\n").replace("  host: localhost\n", "");
+    try (Workbook oldWorkbook = YamlWorkbook.toWorkbook(diffYaml);
+        Workbook newWorkbook = YamlWorkbook.toWorkbook(updated)) {
+      List<NodeDifference> differences = YamlWorkbook.diff(oldWorkbook, newWorkbook);
+
+      assertEquals(List.of("REMOVED $.server.host", "CHANGED $.server.port",
+          "REMOVED $.tags[1]", "ADDED $.owner"), describe(differences));
+      NodeDifference port = differences.get(1);
+      assertEquals(0, port.getDocumentIndex());
+      assertEquals("80", ((ScalarNode) port.getOldNode()).getValue());
+      assertEquals("443", ((ScalarNode) port.getNewNode()).getValue());
+      assertEquals("b", ((ScalarNode) differences.get(2).getOldNode()).getValue());
+      assertNull(differences.get(2).getNewNode());
+    }
+  }
+
+  @Test
+  void testAddedAndRemovedDocuments() throws IOException {
+    String diffYaml = loadYaml("yaml/diff.yaml");
+    try (Workbook oldWorkbook = YamlWorkbook.toWorkbook(diffYaml);
+        Workbook newWorkbook = YamlWorkbook.toWorkbook(diffYaml + "---\nname: third\n")) {
+      List<NodeDifference> added = YamlWorkbook.diff(oldWorkbook, newWorkbook);
+      assertEquals(List.of("ADDED $"), describe(added));
+      assertEquals(2, added.get(0).getDocumentIndex());
+
+      List<NodeDifference> removed = YamlWorkbook.diff(newWorkbook, oldWorkbook);
+      assertEquals(List.of("REMOVED $"), describe(removed));
+      assertTrue(YamlWorkbook.diff(null, null).isEmpty());
+    }
+  }
+
+  @Test
+  void testNodeKindChangesAndSpecialKeys() throws IOException {
+    try (Workbook oldWorkbook = YamlWorkbook.toWorkbook("\"a.b\": 1\nlist: [1, 2]\n");
+        Workbook newWorkbook = YamlWorkbook.toWorkbook("\"a.b\": 2\nlist: x\n")) {
+      assertEquals(List.of("CHANGED $['a.b']", "CHANGED $.list"),
+          describe(YamlWorkbook.diff(oldWorkbook, newWorkbook)));
+    }
+  }
+
+  // ==================== Node Diff Tests ====================
+
+  @Test
+  void testNodeDiffIgnoresTagsAndComments() {
+    List<Node> oldNodes = compose("port: 80 # http\n");
+    List<Node> newNodes = compose("port: '80'\n");
+    assertTrue(YamlWorkbookReader.builder().build().diff(oldNodes, newNodes).isEmpty());
+  }
+
+  @Test
+  void testNodeDiffHandlesRecursiveAliases() {
+    List<Node> oldNodes = compose("a: &x [1, *x]\n");
+    List<Node> newNodes = compose("a: &x [2, *x]\n");
+    assertEquals(List.of("CHANGED $.a[0]"),
+        describe(YamlWorkbookReader.builder().build().diff(oldNodes, newNodes)));
+  }
+
+  @Test
+  void testNodeDiffReportsSharedNodesAtEveryPath() {
+    List<Node> oldNodes = compose("a: &x {v: 1}\nb: *x\nc: *x\n");
+    List<Node> newNodes = compose("a: &y {v: 2}\nb: *y\nc: {v: 1}\n");
+    assertEquals(List.of("CHANGED $.a.v", "CHANGED $.b.v"),
+        describe(YamlWorkbookReader.builder().build().diff(oldNodes, newNodes)));
+  }
+
+  private List<Node> compose(String yaml) {
+    LoaderOptions options = new LoaderOptions();
+    options.setProcessComments(true);
+    List<Node> nodes = new ArrayList<>();
+    new Yaml(options).composeAll(new StringReader(yaml)).forEach(nodes::add);
+    return nodes;
+  }
+
+  private List<String> describe(List<NodeDifference> differences) {
+    return differences.stream().map(d -> d.getType() + " " + d.getPath()).toList();
+  }
+
+  // ==================== Change Set JSON Patch Tests ====================
+
+  @Test
+  void testUnchangedWorkbookHasEmptyPatch() throws IOException {
+    String changeSetYaml = loadYaml("yaml/change-set.yaml");
+    try (Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader(changeSetYaml))) {
+      assertEquals("[]", changeSet(workbook, ChangeSetFormat.JSON_PATCH));
+    }
+  }
+
+  @Test
+  void testJsonPatchContainsOnlyEditedPaths() throws IOException {
+    String changeSetYaml = loadYaml("yaml/change-set.yaml");
+    try (Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader(changeSetYaml))) {
+      Sheet sheet = workbook.getSheetAt(0);
+      sheet.getRow(2).getCell(1).setCellValue("8080");
+      sheet.removeRow(sheet.getRow(5));
+      Row row = sheet.getRow(7);
+      row.getCell(1).setCellValue("third");
+
+      assertEquals("[{\"op\":\"replace\",\"path\":\"/0/port\",\"value\":8080},"
+          + "{\"op\":\"remove\",\"path\":\"/0/tags/1\"},"
+          + "{\"op\":\"replace\",\"path\":\"/1/name\",\"value\":\"third\"}]",
+          changeSet(workbook, ChangeSetFormat.JSON_PATCH));
+    }
+  }
+
+  @Test
+  void testJsonPatchEscapesKeys() throws IOException {
+    try (Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader("\"a/b\": 1\n\"c~d\": 2\n"))) {
+      Sheet sheet = workbook.getSheetAt(0);
+      sheet.getRow(1).getCell(1).setCellValue("3");
+      sheet.removeRow(sheet.getRow(2));
+
+      assertEquals("[{\"op\":\"replace\",\"path\":\"/0/a~1b\",\"value\":3},"
+          + "{\"op\":\"remove\",\"path\":\"/0/c~0d\"}]",
+          changeSet(workbook, ChangeSetFormat.JSON_PATCH));
+    }
+  }
+
+  // ==================== Change Set YAML Overlay Tests ====================
+
+  @Test
+  void testYamlOverlayPerDocument() throws IOException {
+    String changeSetYaml = loadYaml("yaml/change-set.yaml");
+    try (Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader(changeSetYaml))) {
+      Sheet sheet = workbook.getSheetAt(0);
+      sheet.getRow(2).getCell(1).setCellValue("8080");
+      sheet.removeRow(sheet.getRow(1));
+
+      assertEquals("""
+          name: null
+          port: 8080
+          --- {}
+          """, changeSet(workbook, ChangeSetFormat.YAML_OVERLAY));
+    }
+  }
+
+  @Test
+  void testYamlOverlayKeepsUnchangedNonMappingDocuments() throws IOException {
+    try (Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader("- 1\n- 2\n---\nplain\n"))) {
+      Sheet sheet = workbook.getSheetAt(0);
+      sheet.getRow(4).getCell(0).setCellValue("edited");
+
+      // {} would replace a non-object document with an empty object
+      assertEquals("""
+          - 1
+          - 2
+          --- edited
+          """, changeSet(workbook, ChangeSetFormat.YAML_OVERLAY));
+    }
+  }
+
+  @Test
+  void testEmbeddedSourceAliasesAreLimited() throws IOException {
+    StringBuilder yaml = new StringBuilder("a: &a [x]\nb:\n");
+    for (int i = 0; i < 60; i++) {
+      yaml.append("  - *a\n");
+    }
+    try (Workbook workbook = YamlWorkbookWriter.builder()
+        .preserveAnchors(true)
+        .embedSource(true)
+        .conversionLimits(ConversionLimits.builder().maxAliasesForCollections(100).build())
+        .build()
+        .toWorkbook(new StringReader(yaml.toString()))) {
+      assertThrows(YAMLException.class, () -> changeSet(workbook, ChangeSetFormat.JSON_PATCH));
+    }
+  }
+
+  // ==================== Change Set FORM_MODE Tests ====================
+
+  @Test
+  void testFormModeChangesAreRelativeToSkeleton() throws IOException {
+    String schema = """
+        {
+          "type": "object",
+          "properties": {
+            "name": { "type": "string", "title": "Name" },
+            "color": { "type": "string", "enum": ["r", "g"], "enumNames": ["Red", "Green"] }
+          }
+        }
+        """;
+    try (Workbook workbook = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema(schema)
+        .embedSource(true)
+        .build()
+        .toWorkbook()) {
+      Sheet sheet = workbook.getSheetAt(0);
+      sheet.getRow(1).getCell(1).setCellValue("Bob");
+      sheet.getRow(2).getCell(1).setCellValue("Green");
+
+      var out = new ByteArrayOutputStream();
+      YamlWorkbookReader.builder().outputMode(OutputMode.FORM_MODE).build()
+          .toChangeSet(workbook, out, ChangeSetFormat.JSON_PATCH);
+      assertEquals("[{\"op\":\"replace\",\"path\":\"/0/name\",\"value\":\"Bob\"},"
+          + "{\"op\":\"replace\",\"path\":\"/0/color\",\"value\":\"g\"}]",
+          out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void testChangeSetRequiresEmbeddedSource() throws IOException {
+    String changeSetYaml = loadYaml("yaml/change-set.yaml");
+    try (Workbook workbook = YamlWorkbookWriter.builder().recordFingerprints(true).build()
+        .toWorkbook(new StringReader(changeSetYaml))) {
+      assertThrows(IllegalStateException.class,
+          () -> changeSet(workbook, ChangeSetFormat.JSON_PATCH));
+    }
+  }
+
+  private String changeSet(Workbook workbook, ChangeSetFormat format) {
+    var out = new ByteArrayOutputStream();
+    YamlWorkbookReader.builder().build().toChangeSet(workbook, out, format);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  // ==================== Schema Fingerprint Tests ====================
+
+  @Test
+  void testFormModeWorkbookRecordsSchemaFingerprint() throws IOException {
+    String harvestSchema = loadJsonSchema("schema/harvest-form.json");
+    try (Workbook workbook = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema(harvestSchema)
+        .build()
+        .toWorkbook()) {
+      assertEquals(SchemaFingerprint.of(harvestSchema), SchemaFingerprint.read(workbook));
+      // Formatting does not matter
+      assertEquals(SchemaFingerprint.of(harvestSchema.replaceAll("\\s+", "")),
+          SchemaFingerprint.read(workbook));
+    }
+  }
+
+  // ==================== Harvest Tests ====================
+
+  @Test
+  void testHarvestDirectoryAsNdjsonInFileOrder() throws IOException {
+    String harvestSchema = loadJsonSchema("schema/harvest-form.json");
+    for (int i = 0; i < 10; i++) {
+      writeForm("form-" + i + ".xlsx", harvestSchema, "person" + i, String.valueOf(20 + i));
+    }
+    Files.writeString(dir.resolve("notes.txt"), "ignored");
+
+    var out = new ByteArrayOutputStream();
+    HarvestReport report = WorkbookHarvester.builder()
+        .jsonSchema(harvestSchema)
+        .parallelism(3)
+        .build()
+        .harvest(dir, out);
+
+    assertEquals(10, report.getFiles());
+    assertEquals(10, report.getDocuments());
+    assertTrue(report.getFailures().isEmpty());
+    List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+    assertEquals(10, lines.size());
+    assertEquals("{\"name\":\"person0\",\"age\":20}", lines.get(0));
+    assertEquals("{\"name\":\"person9\",\"age\":29}", lines.get(9));
+  }
+
+  @Test
+  void testHarvestReportsFailuresPerFile() throws IOException {
+    String harvestSchema = loadJsonSchema("schema/harvest-form.json");
+    writeForm("a.xlsx", harvestSchema, "alice", "30");
+    writeForm("b.xlsx", harvestSchema.replace("integer", "number"), "bob", "40");
+    Files.writeString(dir.resolve("c.xlsx"), "not a workbook");
+    writeForm("d.xlsx", harvestSchema, "dave", "50");
+
+    var out = new ByteArrayOutputStream();
+    HarvestReport report = YamlWorkbook.harvesterBuilder()
+        .jsonSchema(harvestSchema)
+        .build()
+        .harvest(dir, out);
+
+    assertEquals(4, report.getFiles());
+    assertEquals(2, report.getDocuments());
+    assertEquals(List.of(dir.resolve("b.xlsx"), dir.resolve("c.xlsx")),
+        report.getFailures().stream().map(HarvestFailure::getFile).toList());
+    assertInstanceOf(IllegalStateException.class, report.getFailures().get(0).getCause());
+    assertEquals("{\"name\":\"alice\",\"age\":30}\n{\"name\":\"dave\",\"age\":50}\n",
+        out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testHarvestStreamAsYaml() throws IOException {
+    String harvestSchema = loadJsonSchema("schema/harvest-form.json");
+    Path first = writeForm("1.xlsx", harvestSchema, "alice", "30");
+    Path second = writeForm("2.xlsx", harvestSchema, "bob", "40");
+
+    var out = new ByteArrayOutputStream();
+    HarvestReport report = WorkbookHarvester.builder()
+        .format(HarvestFormat.YAML)
+        .build()
+        .harvest(Stream.of(first, second), out);
+
+    assertEquals(2, report.getDocuments());
+    assertEquals("""
+        ---
+        name: alice
+        age: 30
+        ---
+        name: bob
+        age: 40
+        """, out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testHarvestRejectsNonPositiveParallelism() {
+    WorkbookHarvester harvester = WorkbookHarvester.builder().parallelism(0).build();
+    assertThrows(IllegalArgumentException.class,
+        () -> harvester.harvest(Stream.empty(), OutputStream.nullOutputStream()));
+  }
+
+  private Path writeForm(String fileName, String schema, String name, String age)
+      throws IOException {
+    Path file = dir.resolve(fileName);
+    try (Workbook workbook = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema(schema)
+        .build()
+        .toWorkbook();
+        OutputStream out = Files.newOutputStream(file)) {
+      workbook.getSheetAt(0).getRow(1).getCell(1).setCellValue(name);
+      workbook.getSheetAt(0).getRow(2).getCell(1).setCellValue(age);
+      workbook.write(out);
+    }
+    return file;
+  }
+
+  // ==================== Schema Validation FORM_MODE Tests ====================
+
+  @Test
+  void testValidFormPasses() throws IOException {
+    try (Workbook workbook = validationFormWorkbook()) {
+      fill(workbook, "Alice", "30", "Green");
+      List<Object> objects = validatingReader(false).toObjects(workbook);
+      assertEquals("g", ((Map<?, ?>) objects.get(0)).get("color"));
+    }
+  }
+
+  @Test
+  void testViolationsAreReportedWithCoordinates() throws IOException {
+    try (Workbook workbook = validationFormWorkbook()) {
+      fill(workbook, "A", "abc", null);
+      var e = assertThrows(SchemaValidationException.class,
+          () -> validatingReader(false).fromWorkbook(workbook));
+
+      List<SchemaViolation> violations = e.getViolations();
+      assertEquals(List.of("$.name", "$.age", "$.color"),
+          violations.stream().map(SchemaViolation::getPath).toList());
+      assertEquals("must have at least 2 characters", violations.get(0).getMessage());
+      assertEquals("Sheet1!B2", violations.get(0).getCellReference());
+      assertEquals("expected integer but was 'abc'", violations.get(1).getMessage());
+      assertEquals("Sheet1!B3", violations.get(1).getCellReference());
+      assertEquals("missing required property 'color'", violations.get(2).getMessage());
+      assertTrue(e.getMessage().contains("(and 2 more)"));
+    }
+  }
+
+  @Test
+  void testFailFastStopsAtFirstViolation() throws IOException {
+    try (Workbook workbook = validationFormWorkbook()) {
+      fill(workbook, "A", "200", "Green");
+      var e = assertThrows(SchemaValidationException.class,
+          () -> validatingReader(true).fromWorkbook(workbook));
+      assertEquals(1, e.getViolations().size());
+      assertEquals("$.name", e.getViolations().get(0).getPath());
+    }
+  }
+
+  @Test
+  void testFailFastStopsBeforeLaterRowsAreRead() throws IOException {
+    String schema = """
+        {"type": "object", "properties": {"age": {"type": "integer"}}}
+        """;
+    try (Workbook workbook = YamlWorkbookWriter.builder().build()
+        .toWorkbook(new StringReader("age: abc\nname: Bob\n"))) {
+      // Reconstructing the next row would fail on its undefined alias
+      workbook.getSheetAt(0).getRow(2).getCell(1).setCellValue("*missing");
+      var e = assertThrows(SchemaValidationException.class, () -> YamlWorkbookReader.builder()
+          .preserveAnchors(true).jsonSchema(schema).failFast(true).build().toObjects(workbook));
+      assertEquals("Sheet1!B2", e.getViolations().get(0).getCellReference());
+    }
+  }
+
+  // ==================== Schema Validation Keyword Tests ====================
+
+  @Test
+  void testNumericBoundsEnumsAndArrays() throws IOException {
+    String validationSchema = loadJsonSchema("schema/validated-form.json");
+    String yaml = """
+        name: Bob
+        age: 200
+        color: b
+        tags: [a, b, long]
+        """;
+    try (Workbook workbook =
+        YamlWorkbookWriter.builder().build().toWorkbook(new StringReader(yaml))) {
+      var e = assertThrows(SchemaValidationException.class, () -> YamlWorkbookReader.builder()
+          .jsonSchema(validationSchema).build().toObjects(workbook));
+
+      assertEquals(List.of("$.age: must be <= 150", "$.color: 'b' is not one of [\"r\",\"g\"]",
+          "$.tags[*]: must have at most 3 characters", "$.tags: must have at most 2 items"),
+          e.getViolations().stream().map(v -> v.getPath() + ": " + v.getMessage()).toList());
+      assertEquals("Sheet1!C8", e.getViolations().get(2).getCellReference());
+    }
+  }
+
+  @Test
+  void testSharedNodesAreValidatedOncePerPath() throws IOException {
+    String schema = """
+        {"type": "object", "properties": {"a": {"type": "array",
+          "items": {"type": "array", "items": {"type": "string", "maxLength": 1}}}}}
+        """;
+    try (Workbook workbook = YamlWorkbookWriter.builder().preserveAnchors(true).build()
+        .toWorkbook(new StringReader("a: [&x [long], *x, *x]\n"))) {
+      var e = assertThrows(SchemaValidationException.class, () -> YamlWorkbookReader.builder()
+          .preserveAnchors(true).jsonSchema(schema).build().toObjects(workbook));
+      assertEquals(List.of("$.a[*][*]: must have at most 1 characters"),
+          e.getViolations().stream().map(v -> v.getPath() + ": " + v.getMessage()).toList());
+    }
+  }
+
+  @Test
+  void testValidationIsDisabledByDefault() throws IOException {
+    try (Workbook workbook = YamlWorkbookWriter.builder().build()
+        .toWorkbook(new StringReader("age: abc\n"))) {
+      assertEquals(List.of(Map.of("age", "abc")),
+          YamlWorkbookReader.builder().build().toObjects(workbook));
+    }
+  }
+
+  private Workbook validationFormWorkbook() throws IOException {
+    String validationSchema = loadJsonSchema("schema/validated-form.json");
+    return YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema(validationSchema)
+        .build()
+        .toWorkbook();
+  }
+
+  private void fill(Workbook workbook, String name, String age, String color) {
+    Sheet sheet = workbook.getSheetAt(0);
+    sheet.getRow(1).getCell(1).setCellValue(name);
+    sheet.getRow(2).getCell(1).setCellValue(age);
+    if (color != null) {
+      sheet.getRow(3).getCell(1).setCellValue(color);
+    }
+  }
+
+  private YamlWorkbookReader validatingReader(boolean failFast) throws IOException {
+    String validationSchema = loadJsonSchema("schema/validated-form.json");
+    return YamlWorkbookReader.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema(validationSchema)
+        .failFast(failFast)
+        .build();
+  }
+
+  // ==================== Schema Typed Scalar Tests ====================
+
+  @Test
+  void testScalarsAreTaggedBySchemaType() throws IOException {
+    try (Workbook workbook = typedFormWorkbook("02134", "30", "9.5", "true")) {
+      MappingNode document = (MappingNode) typingReader().fromWorkbook(workbook).get(0);
+
+      assertEquals(Tag.STR, scalar(document, "zip").getTag());
+      assertFalse(scalar(document, "zip").isPlain());
+      assertEquals(Tag.INT, scalar(document, "age").getTag());
+      assertEquals(Tag.FLOAT, scalar(document, "price").getTag());
+      assertEquals(Tag.BOOL, scalar(document, "active").getTag());
+    }
+  }
+
+  @Test
+  void testEmptyNonStringCellsBecomeNull() throws IOException {
+    try (Workbook workbook = typedFormWorkbook("02134", "", "", "")) {
+      MappingNode document = (MappingNode) typingReader().fromWorkbook(workbook).get(0);
+
+      assertEquals(Tag.NULL, scalar(document, "age").getTag());
+      assertEquals(Tag.NULL, scalar(document, "active").getTag());
+    }
+  }
+
+  @Test
+  void testTypingIsDisabledByDefault() throws IOException {
+    String typedSchema = loadJsonSchema("schema/typed-form.json");
+    try (Workbook workbook = typedFormWorkbook("02134", "30", "9.5", "true")) {
+      MappingNode document = (MappingNode) YamlWorkbookReader.builder()
+          .outputMode(OutputMode.FORM_MODE).jsonSchema(typedSchema).build().fromWorkbook(workbook)
+          .get(0);
+
+      assertEquals(Tag.STR, scalar(document, "age").getTag());
+      assertTrue(scalar(document, "zip").isPlain());
+    }
+  }
+
+  @Test
+  void testArrayItemsAreTyped() throws IOException {
+    String typedSchema = loadJsonSchema("schema/typed-form.json");
+    try (Workbook workbook = YamlWorkbookWriter.builder().build()
+        .toWorkbook(new StringReader("scores:\n  - 1\n  - 2.5\n"))) {
+      List<JsonNode> documents = YamlWorkbookReader.builder().jsonSchema(typedSchema)
+          .typeScalarsBySchema(true).build().toJsonNodes(workbook);
+
+      assertTrue(documents.get(0).get("scores").get(0).isInt());
+      assertTrue(documents.get(0).get("scores").get(1).isDouble());
+    }
+  }
+
+  // ==================== Schema Typed Output Tests ====================
+
+  @Test
+  void testTypedJsonNodes() throws IOException {
+    try (Workbook workbook = typedFormWorkbook("02134", "30", "9.5", "false")) {
+      JsonNode document = typingReader().toJsonNodes(workbook).get(0);
+
+      assertEquals("02134", document.get("zip").asString());
+      assertTrue(document.get("zip").isString());
+      assertEquals(30, document.get("age").asInt());
+      assertEquals(9.5, document.get("price").asDouble());
+      assertFalse(document.get("active").asBoolean());
+      assertTrue(document.get("active").isBoolean());
+    }
+  }
+
+  @Test
+  void testStringFieldsStayStringsInObjects() throws IOException {
+    try (Workbook workbook = typedFormWorkbook("02134", "30", "", "yes")) {
+      Map<?, ?> form = (Map<?, ?>) typingReader().toObjects(workbook).get(0);
+
+      assertEquals("02134", form.get("zip"));
+      assertEquals(30, form.get("age"));
+      assertNull(form.get("price"));
+    }
+  }
+
+  @Test
+  void testMismatchedValuesAreStillReported() throws IOException {
+    try (Workbook workbook = typedFormWorkbook("02134", "abc", "9.5", "true")) {
+      var e = assertThrows(SchemaValidationException.class,
+          () -> typingReader().fromWorkbook(workbook));
+
+      assertEquals(1, e.getViolations().size());
+      assertEquals("$.age", e.getViolations().get(0).getPath());
+      assertEquals("Sheet1!B3", e.getViolations().get(0).getCellReference());
+    }
+  }
+
+  private Workbook typedFormWorkbook(String zip, String age, String price, String active)
+      throws IOException {
+    String typedSchema = loadJsonSchema("schema/typed-form.json");
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema(typedSchema)
+        .build()
+        .toWorkbook();
+    Sheet sheet = workbook.getSheetAt(0);
+    sheet.getRow(1).getCell(1).setCellValue(zip);
+    sheet.getRow(2).getCell(1).setCellValue(age);
+    sheet.getRow(3).getCell(1).setCellValue(price);
+    sheet.getRow(4).getCell(1).setCellValue(active);
+    return workbook;
+  }
+
+  private YamlWorkbookReader typingReader() throws IOException {
+    String typedSchema = loadJsonSchema("schema/typed-form.json");
+    return YamlWorkbookReader.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema(typedSchema)
+        .typeScalarsBySchema(true)
+        .build();
+  }
+
+  private ScalarNode scalar(MappingNode mapping, String key) {
+    for (NodeTuple tuple : mapping.getValue()) {
+      if (key.equals(((ScalarNode) tuple.getKeyNode()).getValue())) {
+        Node value = tuple.getValueNode();
+        return (ScalarNode) value;
+      }
+    }
+    throw new AssertionError("No key " + key);
+  }
+
+  // ==================== Form Array Item Tests ====================
+
+  @Test
+  void testBlankItemsAreSkipped() throws IOException {
+    String arraySchema = loadJsonSchema("schema/array-items-form.json");
+    try (Workbook workbook = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .formModeConfig(FormModeConfig.builder().arrayItemCount(4).build())
+        .jsonSchema(arraySchema)
+        .build()
+        .toWorkbook()) {
+      Sheet sheet = workbook.getSheetAt(0);
+      sheet.getRow(1).getCell(1).setCellValue("Order");
+      sheet.getRow(7).getCell(3).setCellValue("A-1");
+      sheet.getRow(14).getCell(2).setCellValue("y");
+
+      Map<?, ?> form = (Map<?, ?>) YamlWorkbookReader.builder()
+          .outputMode(OutputMode.FORM_MODE)
+          .skipBlankItems(true)
+          .build()
+          .toObjects(workbook).get(0);
+
+      List<?> lines = (List<?>) form.get("lines");
+      assertEquals(1, lines.size());
+      assertEquals("A-1", ((Map<?, ?>) lines.get(0)).get("sku"));
+      assertEquals(List.of("y"), form.get("tags"));
+    }
+  }
+
+  @Test
+  void testBlankItemsAreKeptByDefault() throws IOException {
+    String arraySchema = loadJsonSchema("schema/array-items-form.json");
+    try (Workbook workbook = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .formModeConfig(FormModeConfig.builder().arrayItemCount(4).build())
+        .jsonSchema(arraySchema)
+        .build()
+        .toWorkbook()) {
+      workbook.getSheetAt(0).getRow(1).getCell(1).setCellValue("Order");
+
+      Map<?, ?> form = (Map<?, ?>) YamlWorkbookReader.builder()
+          .outputMode(OutputMode.FORM_MODE)
+          .build()
+          .toObjects(workbook).get(0);
+
+      assertEquals(3, ((List<?>) form.get("lines")).size());
+      assertEquals(4, ((List<?>) form.get("tags")).size());
+    }
+  }
+
+  @Test
+  void testExplicitlyEmptyItemsAreNotBlank() throws IOException {
+    try (Workbook workbook = YamlWorkbook.toWorkbook("a: [{}, [], 1, '']\n")) {
+      YamlWorkbookReader reader = YamlWorkbookReader.builder().skipBlankItems(true).build();
+
+      // Only items whose value cells exist but are empty are dropped
+      Map<?, ?> yaml = (Map<?, ?>) reader.toObjects(workbook).get(0);
+      assertEquals(Arrays.asList(null, null, 1), yaml.get("a"));
+    }
+  }
+
+  // ==================== Async Conversion Tests ====================
+
+  @Test
+  void testReaderAsyncVariants() throws Exception {
+    try (Workbook workbook = YamlWorkbook.toWorkbook("name: app\n")) {
+      var reader = YamlWorkbookReader.builder().build();
+
+      assertEquals(1, YamlWorkbook.fromWorkbookAsync(workbook).get(10, TimeUnit.SECONDS).size());
+      assertEquals(List.of(Map.of("name", "app")),
+          reader.toObjectsAsync(workbook).get(10, TimeUnit.SECONDS));
+
+      var out = new ByteArrayOutputStream();
+      reader.toJsonAsync(workbook, out, JsonOutputFormat.NDJSON).get(10, TimeUnit.SECONDS);
+      assertEquals("{\"name\":\"app\"}\n", out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  // ==================== Flow Publisher Tests ====================
+
+  @Test
+  void testPublisherEmitsOnDemand() throws Exception {
+    try (Workbook workbook = YamlWorkbook.toWorkbook("a: 1\n", "b: 2\n", "c: 3\n")) {
+      var received = new ArrayList<Node>();
+      var done = new CompletableFuture<Void>();
+      var subscriptionRef = new Flow.Subscription[1];
+
+      YamlWorkbookReader.builder().build().toPublisher(workbook).subscribe(
+          new Flow.Subscriber<Node>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+              subscriptionRef[0] = subscription;
+              subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Node item) {
+              synchronized (received) {
+                received.add(item);
+                received.notifyAll();
+              }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+              done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+              done.complete(null);
+            }
+          });
+
+      synchronized (received) {
+        while (received.isEmpty()) received.wait(10_000);
+      }
+      Thread.sleep(50);
+      assertEquals(1, received.size());
+      assertFalse(done.isDone());
+
+      subscriptionRef[0].request(Long.MAX_VALUE);
+      done.get(10, TimeUnit.SECONDS);
+      assertEquals(3, received.size());
+    }
+  }
+
+  @Test
+  void testPublisherToSubscriberPipeline() throws Exception {
+    try (Workbook source = YamlWorkbook.toWorkbook("a: 1\n", "b: [x, y]\n")) {
+      WorkbookSubscriber<Node> subscriber = YamlWorkbookWriter.builder().build()
+          .toWorkbookSubscriber();
+      YamlWorkbookReader.builder().build().toPublisher(source).subscribe(subscriber);
+
+      try (Workbook copy = subscriber.getWorkbook().get(10, TimeUnit.SECONDS)) {
+        assertEquals(YamlWorkbook.toObjects(source), YamlWorkbook.toObjects(copy));
+      }
+    }
+  }
+
+  @Test
+  void testNonPositiveRequestSignalsError() throws Exception {
+    try (Workbook workbook = YamlWorkbook.toWorkbook("a: 1\n")) {
+      var error = new CompletableFuture<Throwable>();
+      YamlWorkbookReader.builder().build().toPublisher(workbook).subscribe(
+          new Flow.Subscriber<Node>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+              subscription.request(0);
+            }
+
+            @Override
+            public void onNext(Node item) {}
+
+            @Override
+            public void onError(Throwable throwable) {
+              error.complete(throwable);
+            }
+
+            @Override
+            public void onComplete() {}
+          });
+      assertInstanceOf(IllegalArgumentException.class, error.get(10, TimeUnit.SECONDS));
+    }
+  }
+
+  // ==================== Conversion Limit Tests ====================
+
+  @Test
+  void testReaderMaxRows() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    try (Workbook workbook = YamlWorkbook.toWorkbook(flatYaml)) {
+      var e = assertThrows(ConversionLimitException.class,
+          () -> YamlWorkbookReader.builder()
+              .conversionLimits(ConversionLimits.builder().maxRows(5).build())
+              .build()
+              .fromWorkbook(workbook));
+      assertEquals(ConversionLimit.ROWS, e.getLimit());
+      assertEquals("Sheet1!A6", e.getLocation());
+      assertEquals(0, e.getDocumentIndex());
+    }
+  }
+
+  @Test
+  void testReaderMaxCells() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    try (Workbook workbook = YamlWorkbook.toWorkbook(flatYaml)) {
+      var e = assertThrows(ConversionLimitException.class,
+          () -> YamlWorkbookReader.builder()
+              .conversionLimits(ConversionLimits.builder().maxCells(16).build())
+              .build()
+              .toObjects(workbook));
+      assertEquals(ConversionLimit.CELLS, e.getLimit());
+      assertEquals("Sheet1!A9", e.getLocation());
+
+      assertEquals(1, YamlWorkbookReader.builder()
+          .conversionLimits(ConversionLimits.builder().maxCells(17).build())
+          .build()
+          .toObjects(workbook).size());
+    }
+  }
+
+  @Test
+  void testReaderMaxDepthReportsCell() throws IOException {
+    String deepYaml = loadYaml("yaml/deep.yaml");
+    try (Workbook workbook = YamlWorkbook.toWorkbook(deepYaml)) {
+      var e = assertThrows(ConversionLimitException.class,
+          () -> YamlWorkbookReader.builder()
+              .conversionLimits(ConversionLimits.builder().maxDepth(1).build())
+              .build()
+              .fromWorkbook(workbook));
+      assertEquals(ConversionLimit.DEPTH, e.getLimit());
+      assertEquals("Sheet1!C4", e.getLocation());
+    }
+  }
+
+  @Test
+  void testReaderMaxDepthInPathMode() throws IOException {
+    String deepYaml = loadYaml("yaml/deep.yaml");
+    try (Workbook workbook = YamlWorkbookWriter.builder()
+        .indentationMode(IndentationMode.PATH).build().toWorkbook(new StringReader(deepYaml))) {
+      var e = assertThrows(ConversionLimitException.class, () -> YamlWorkbookReader.builder()
+          .indentationMode(IndentationMode.PATH)
+          .conversionLimits(ConversionLimits.builder().maxDepth(1).build())
+          .build()
+          .fromWorkbook(workbook));
+      assertEquals(ConversionLimit.DEPTH, e.getLimit());
+    }
+  }
+
+  @Test
+  void testReaderMaxScalarLengthReportsCell() throws IOException {
+    try (Workbook workbook = YamlWorkbook.toWorkbook("a: " + "x".repeat(100) + "\n")) {
+      var e = assertThrows(ConversionLimitException.class, () -> YamlWorkbookReader.builder()
+          .conversionLimits(ConversionLimits.builder().maxScalarLength(50).build())
+          .build()
+          .fromWorkbook(workbook));
+      assertEquals(ConversionLimit.SCALAR_LENGTH, e.getLimit());
+      assertEquals("Sheet1!B2", e.getLocation());
+    }
+  }
+
+  @Test
+  void testReaderMaxComments() throws IOException {
+    try (Workbook workbook = YamlWorkbook.toWorkbook("# one\na: 1 # two\nb: 2 # three\n")) {
+      var e = assertThrows(ConversionLimitException.class, () -> YamlWorkbookReader.builder()
+          .conversionLimits(ConversionLimits.builder().maxComments(2).build())
+          .build()
+          .fromWorkbook(workbook));
+      assertEquals(ConversionLimit.COMMENTS, e.getLimit());
+    }
+  }
+
+  @Test
+  void testReaderCountsLeadingCommentsOnce() throws IOException {
+    try (Workbook workbook = YamlWorkbook.toWorkbook("# c\na: 1\n")) {
+      assertEquals(1, YamlWorkbookReader.builder()
+          .conversionLimits(ConversionLimits.builder().maxComments(1).build())
+          .build()
+          .fromWorkbook(workbook).size());
+      assertEquals("# c\na: '1'\n", YamlWorkbook.toYaml(workbook));
+    }
+  }
+
+  @Test
+  void testReaderMaxDocumentsFailsWhileScanning() throws IOException {
+    try (Workbook workbook = YamlWorkbook.toWorkbook("a: 1\n---\nb: 2\n---\nc: 3\n")) {
+      var e = assertThrows(ConversionLimitException.class, () -> YamlWorkbookReader.builder()
+          .conversionLimits(ConversionLimits.builder().maxDocuments(2).build())
+          .build()
+          .iterateDocuments(workbook));
+      assertEquals(ConversionLimit.DOCUMENTS, e.getLimit());
+      assertEquals(2, e.getDocumentIndex());
+    }
+  }
+
+  @Test
+  void testReaderTimeout() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    try (Workbook workbook = YamlWorkbook.toWorkbook(flatYaml)) {
+      var e = assertThrows(ConversionLimitException.class, () -> YamlWorkbookReader.builder()
+          .conversionLimits(ConversionLimits.builder().timeout(Duration.ZERO).build())
+          .build()
+          .fromWorkbook(workbook));
+      assertEquals(ConversionLimit.TIMEOUT, e.getLimit());
+      assertEquals(0, e.getThreshold());
+
+      assertEquals(1, YamlWorkbookReader.builder()
+          .conversionLimits(ConversionLimits.builder().timeout(Duration.ofMinutes(1)).build())
+          .build()
+          .fromWorkbook(workbook).size());
+    }
+  }
+
+  @Test
+  void testReaderCancellationToken() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    var token = new CancellationToken();
+    try (Workbook workbook = YamlWorkbook.toWorkbook(flatYaml)) {
+      var reader = YamlWorkbookReader.builder().cancellationToken(token).build();
+      assertEquals(1, reader.fromWorkbook(workbook).size());
+      token.cancel();
+      assertThrows(CancellationException.class, () -> reader.fromWorkbook(workbook));
+    }
+  }
+
+  @Test
+  void testLimitsAreUnlimitedByDefault() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    assertNull(ConversionLimits.NONE.getTimeout());
+    assertEquals(Long.MAX_VALUE, ConversionLimits.NONE.getMaxRows());
+    try (Workbook workbook = YamlWorkbook.toWorkbook(flatYaml)) {
+      assertEquals(8, ((Map<?, ?>) YamlWorkbook.toObjects(workbook).get(0)).size());
+    }
+  }
+
 }
@@ -1,18 +1,54 @@
 package com.github.wnameless.workbook.yamlworkbook;
 
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataValidation;
+import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
 
 class YamlWorkbookWriterTest {
 
@@ -381,6 +417,25 @@ class YamlWorkbookWriterTest {
     workbook.close();
   }
 
+  @Test
+  void testNodeToSheetMapperReceivesDocumentIndexes() throws IOException {
+    String yaml = loadYaml("yaml/multidoc.yaml");
+    List<Integer> indexes = new ArrayList<>();
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .nodeToSheetMapper((node, index) -> {
+          indexes.add(index);
+          return index;
+        })
+        .build()
+        .toWorkbook(new StringReader(yaml));
+
+    assertEquals(List.of(0, 1, 2), indexes);
+    assertEquals(3, workbook.getNumberOfSheets());
+    assertEquals("Document Three",
+        workbook.getSheetAt(2).getRow(1).getCell(1).getStringCellValue());
+    workbook.close();
+  }
+
   @Test
   void testValueStartingWithHashEscaping() throws IOException {
     // Test that values starting with # are escaped with backslash
@@ -1059,6 +1114,330 @@ class YamlWorkbookWriterTest {
     workbook2.close();
   }
 
+  // ==================== Object Input Tests ====================
+
+  @Test
+  void testObjectInputMatchesYamlInput() throws IOException {
+    Map<String, Object> address = new LinkedHashMap<>();
+    address.put("city", "New York");
+    address.put("zip", 10001);
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("name", "John Doe");
+    data.put("age", 30);
+    data.put("address", address);
+    data.put("hobbies", List.of("reading", "coding"));
+
+    String yaml = """
+        name: John Doe
+        age: 30
+        address:
+          city: New York
+          zip: 10001
+        hobbies:
+          - reading
+          - coding
+        """;
+
+    Workbook fromObject = YamlWorkbook.toWorkbook(data);
+    Workbook fromYaml = YamlWorkbook.toWorkbook(yaml);
+
+    Sheet objectSheet = fromObject.getSheetAt(0);
+    Sheet yamlSheet = fromYaml.getSheetAt(0);
+    assertEquals(yamlSheet.getLastRowNum(), objectSheet.getLastRowNum());
+    for (int i = 0; i <= yamlSheet.getLastRowNum(); i++) {
+      Row yamlRow = yamlSheet.getRow(i);
+      Row objectRow = objectSheet.getRow(i);
+      assertEquals(yamlRow.getLastCellNum(), objectRow.getLastCellNum(), "Row " + i);
+      for (int j = 0; j < yamlRow.getLastCellNum(); j++) {
+        String expected = yamlRow.getCell(j) == null ? null : yamlRow.getCell(j).getStringCellValue();
+        String actual =
+            objectRow.getCell(j) == null ? null : objectRow.getCell(j).getStringCellValue();
+        assertEquals(expected, actual, "Row " + i + " cell " + j);
+      }
+    }
+
+    writeExcelFile(fromObject, "object-input.xlsx");
+    fromObject.close();
+    fromYaml.close();
+  }
+
+  @Test
+  void testObjectInputMultipleDocuments() throws IOException {
+    Workbook workbook = YamlWorkbook.toWorkbook(Map.of("first", 1), List.of("a", "b"), "plain");
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals("---", sheet.getRow(0).getCell(0).getStringCellValue());
+    assertEquals("first", sheet.getRow(1).getCell(0).getStringCellValue());
+    assertEquals("1", sheet.getRow(1).getCell(1).getStringCellValue());
+    assertEquals("---", sheet.getRow(2).getCell(0).getStringCellValue());
+    assertEquals("-", sheet.getRow(3).getCell(0).getStringCellValue());
+    assertEquals("a", sheet.getRow(3).getCell(1).getStringCellValue());
+    assertEquals("-", sheet.getRow(4).getCell(0).getStringCellValue());
+    assertEquals("b", sheet.getRow(4).getCell(1).getStringCellValue());
+    assertEquals("---", sheet.getRow(5).getCell(0).getStringCellValue());
+    // A String object is a scalar document, not YAML text
+    assertEquals("plain", sheet.getRow(6).getCell(0).getStringCellValue());
+
+    workbook.close();
+  }
+
+  @Test
+  void testObjectInputJavaBean() throws IOException {
+    Server server = new Server();
+    server.setHost("localhost");
+    server.setPorts(List.of(8080, 8443));
+
+    Workbook workbook = YamlWorkbook.writerBuilder().build().toWorkbook(server);
+    Sheet sheet = workbook.getSheetAt(0);
+
+    // JavaBean properties are represented in alphabetical order
+    assertEquals("host", sheet.getRow(1).getCell(0).getStringCellValue());
+    assertEquals("localhost", sheet.getRow(1).getCell(1).getStringCellValue());
+    assertEquals("ports", sheet.getRow(2).getCell(0).getStringCellValue());
+    assertEquals("8080", sheet.getRow(3).getCell(2).getStringCellValue());
+    assertEquals("8443", sheet.getRow(4).getCell(2).getStringCellValue());
+
+    workbook.close();
+  }
+
+  @Test
+  void testObjectInputNullDocument() throws IOException {
+    Workbook workbook = YamlWorkbook.writerBuilder().build().toWorkbook((Object) null);
+
+    assertEquals(1, workbook.getNumberOfSheets());
+    assertEquals("---", workbook.getSheetAt(0).getRow(0).getCell(0).getStringCellValue());
+
+    workbook.close();
+  }
+
+  public static class Server {
+
+    private String host;
+    private List<Integer> ports;
+
+    public String getHost() {
+      return host;
+    }
+
+    public void setHost(String host) {
+      this.host = host;
+    }
+
+    public List<Integer> getPorts() {
+      return ports;
+    }
+
+    public void setPorts(List<Integer> ports) {
+      this.ports = ports;
+    }
+
+  }
+
+  // ==================== Conversion Listener Tests ====================
+
+  @Test
+  void testConversionStatsCountsRowsCommentsAndDocuments() {
+    String yaml = """
+        # header
+        name: John # person
+        tags:
+          - a
+          - b
+        ---
+        other: 1
+        """;
+    ConversionStatsRecorder recorder = new ConversionStatsRecorder();
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.DISPLAY_MODE)
+        .conversionListener(recorder)
+        .build();
+
+    Workbook workbook = writer.toWorkbook(new StringReader(yaml));
+    Sheet sheet = workbook.getSheetAt(0);
+    ConversionStats stats = recorder.getLastStats();
+
+    assertNotNull(stats);
+    assertEquals(2, stats.getDocuments());
+    assertEquals(sheet.getPhysicalNumberOfRows(), stats.getRows());
+    assertEquals(stats.getRows(),
+        stats.getDocumentRowCounts().stream().mapToInt(Integer::intValue).sum());
+    assertEquals(1, stats.getComments());
+    assertEquals(0, stats.getValidations());
+    assertEquals(0, stats.getHiddenSheets());
+    assertTrue(stats.getCells() >= stats.getRows());
+    assertTrue(stats.getPhaseNanos(ConversionPhase.PARSE) > 0);
+    assertTrue(stats.getPhaseNanos(ConversionPhase.TRAVERSAL) > 0);
+    assertTrue(stats.getPhaseNanos(ConversionPhase.COMMENTS) > 0);
+    assertEquals(0, stats.getPhaseNanos(ConversionPhase.VALIDATIONS));
+  }
+
+  @Test
+  void testConversionListenerReceivesEvents() {
+    List<Integer> documentRows = new ArrayList<>();
+    Map<ConversionPhase, Long> phases = new LinkedHashMap<>();
+    ConversionListener listener = new ConversionListener() {
+      @Override
+      public void documentConverted(int documentIndex, int rowCount, long cellCount) {
+        assertEquals(documentRows.size(), documentIndex);
+        documentRows.add(rowCount);
+      }
+
+      @Override
+      public void phaseCompleted(ConversionPhase phase, long nanos) {
+        phases.put(phase, nanos);
+      }
+    };
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().conversionListener(listener).build();
+
+    writer.toWorkbook(new StringReader("a: 1\n---\n- x\n- y\n- z\n"));
+
+    assertEquals(List.of(2, 4), documentRows);
+    assertTrue(phases.containsKey(ConversionPhase.PARSE));
+    assertTrue(phases.containsKey(ConversionPhase.TRAVERSAL));
+  }
+
+  @Test
+  void testWriteReportsBytesWritten() throws IOException {
+    ConversionStatsRecorder recorder = new ConversionStatsRecorder();
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().conversionListener(recorder).build();
+    Workbook workbook = writer.toWorkbook(new StringReader("key: value\n"));
+    ConversionStats conversion = recorder.getLastStats();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.write(workbook, out);
+
+    // Serialization is reported as a conversion of its own
+    ConversionStats stats = recorder.getLastStats();
+    assertEquals(out.size(), stats.getBytesWritten());
+    assertTrue(stats.getPhaseNanos(ConversionPhase.SERIALIZATION) > 0);
+    assertEquals(0, stats.getDocuments());
+    assertEquals(0, conversion.getBytesWritten());
+    assertEquals(1, conversion.getDocuments());
+  }
+
+  @Test
+  void testNoopListenerByDefault() throws IOException {
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().build();
+    Workbook workbook = writer.toWorkbook(new StringReader("key: value\n"));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.write(workbook, out);
+
+    assertTrue(out.size() > 0);
+    assertNull(new ConversionStatsRecorder().getLastStats());
+  }
+
+  // ==================== Table Layout Tests ====================
+
+  @Test
+  void testTableLayoutWritesHeaderAndOneRowPerItem() {
+    String yaml = """
+        servers:
+          - name: web
+            port: 80
+          - name: db
+            port: 5432
+        """;
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .sequenceLayoutStrategy(SequenceLayoutStrategy.AUTO)
+        .build()
+        .toWorkbook(new StringReader(yaml));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    // ---, servers, header, 2 items
+    assertEquals(4, sheet.getLastRowNum());
+    assertEquals("servers", sheet.getRow(1).getCell(0).getStringCellValue());
+    assertEquals("|", sheet.getRow(2).getCell(1).getStringCellValue());
+    assertEquals("name", sheet.getRow(2).getCell(2).getStringCellValue());
+    assertEquals("port", sheet.getRow(2).getCell(3).getStringCellValue());
+    assertEquals("-", sheet.getRow(3).getCell(1).getStringCellValue());
+    assertEquals("web", sheet.getRow(3).getCell(2).getStringCellValue());
+    assertEquals("80", sheet.getRow(3).getCell(3).getStringCellValue());
+    assertEquals("5432", sheet.getRow(4).getCell(3).getStringCellValue());
+  }
+
+  @Test
+  void testTableLayoutSelectedByPath() {
+    String yaml = """
+        a:
+          - k: 1
+        b:
+          - k: 2
+        """;
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .sequenceLayoutStrategy((path, node) -> "$.b".equals(path) ? SequenceLayout.TABLE
+            : SequenceLayout.ITEMS)
+        .build()
+        .toWorkbook(new StringReader(yaml));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals("-", sheet.getRow(2).getCell(1).getStringCellValue());
+    assertEquals("k", sheet.getRow(3).getCell(2).getStringCellValue());
+    assertEquals("b", sheet.getRow(4).getCell(0).getStringCellValue());
+    assertEquals("|", sheet.getRow(5).getCell(1).getStringCellValue());
+  }
+
+  @Test
+  void testTableLayoutFallsBackForHeterogeneousItems() {
+    String yaml = """
+        - name: web
+          port: 80
+        - name: db
+          host: local
+        """;
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .sequenceLayoutStrategy(SequenceLayoutStrategy.AUTO)
+        .build()
+        .toWorkbook(new StringReader(yaml));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals("-", sheet.getRow(1).getCell(0).getStringCellValue());
+    assertEquals(6, sheet.getLastRowNum());
+  }
+
+  // ==================== Compact Layout Tests ====================
+
+  @Test
+  void testCompactLayoutWritesScalarsOnOneRow() {
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .sequenceLayoutStrategy(SequenceLayoutStrategy.COMPACT)
+        .build()
+        .toWorkbook(new StringReader("tags: [a, b, c]\n"));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals(2, sheet.getLastRowNum());
+    Row row = sheet.getRow(2);
+    assertEquals("[]", row.getCell(1).getStringCellValue());
+    assertEquals("a", row.getCell(2).getStringCellValue());
+    assertEquals("c", row.getCell(4).getStringCellValue());
+  }
+
+  @Test
+  void testCompactLayoutWrapsRows() {
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .sequenceLayoutStrategy(SequenceLayoutStrategy.COMPACT)
+        .compactItemsPerRow(2)
+        .build()
+        .toWorkbook(new StringReader("- 1\n- 2\n- 3\n- 4\n- 5\n"));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals(3, sheet.getLastRowNum());
+    assertEquals("[]", sheet.getRow(3).getCell(0).getStringCellValue());
+    assertEquals("5", sheet.getRow(3).getCell(1).getStringCellValue());
+  }
+
+  @Test
+  void testCompactLayoutFallsBackForNestedItems() {
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .sequenceLayoutStrategy(SequenceLayoutStrategy.COMPACT)
+        .build()
+        .toWorkbook(new StringReader("- a\n- b: 1\n"));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals("-", sheet.getRow(1).getCell(0).getStringCellValue());
+    assertEquals("-", sheet.getRow(2).getCell(0).getStringCellValue());
+  }
+
   private String loadYaml(String resourcePath) throws IOException {
     try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
       if (is == null) {
@@ -1068,6 +1447,15 @@ class YamlWorkbookWriterTest {
     }
   }
 
+  private String loadJsonSchema(String resourcePath) throws IOException {
+    try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
+      if (is == null) {
+        throw new IOException("Resource not found: " + resourcePath);
+      }
+      return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
   private void writeExcelFile(Workbook workbook, String filename) throws IOException {
     if (WRITE_EXCEL_FILES) {
       Path filePath = OUTPUT_DIR.resolve(filename);
@@ -1077,4 +1465,925 @@ class YamlWorkbookWriterTest {
     }
   }
 
+  // ==================== Continuation Sheet Tests ====================
+
+  @Test
+  void testDocumentOverflowsIntoContinuationSheets() throws IOException {
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .maxRowsPerSheet(3)
+        .build()
+        .toWorkbook(new StringReader("a: 1\nb: 2\nc: 3\nd: 4\ne: 5\nf: 6\n"));
+
+    assertEquals(3, workbook.getNumberOfSheets());
+    assertEquals("Sheet1", workbook.getSheetName(0));
+    assertEquals("Sheet1 (2)", workbook.getSheetName(1));
+    assertEquals("Sheet1 (3)", workbook.getSheetName(2));
+    assertEquals("---", workbook.getSheetAt(0).getRow(0).getCell(0).getStringCellValue());
+    assertEquals("c", workbook.getSheetAt(1).getRow(0).getCell(0).getStringCellValue());
+    assertEquals("f", workbook.getSheetAt(2).getRow(0).getCell(0).getStringCellValue());
+    workbook.close();
+  }
+
+  @Test
+  void testContinuationSheetsFollowTheirSheet() throws IOException {
+    Workbook workbook = YamlWorkbookWriter.builder()
+        .maxRowsPerSheet(2)
+        .nodeToSheetMapper((node, index) -> index)
+        .build()
+        .toWorkbook(new StringReader("a: 1\nb: 2\n---\nc: 3\n"));
+
+    assertEquals(List.of("Sheet1", "Sheet1 (2)", "Sheet2"),
+        List.of(workbook.getSheetName(0), workbook.getSheetName(1), workbook.getSheetName(2)));
+    workbook.close();
+  }
+
+  @Test
+  void testMaxRowsPerSheetMustBePositive() {
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().maxRowsPerSheet(0).build();
+    assertThrows(IllegalArgumentException.class, () -> writer.toWorkbook(new StringReader("a")));
+  }
+
+  // ==================== Anchor and Alias Tests ====================
+
+  @Test
+  void testAnchorsAreWrittenOnceWithAliasCells() throws IOException {
+    String anchorYaml = loadYaml("yaml/anchors.yaml");
+    Workbook workbook = YamlWorkbookWriter.builder().preserveAnchors(true).build()
+        .toWorkbook(new StringReader(anchorYaml));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals(List.of("base", "&base"), cellTexts(sheet.getRow(1)));
+    assertEquals(List.of("", "host", "localhost"), cellTexts(sheet.getRow(2)));
+    assertEquals(List.of("", "<<", "*base"), cellTexts(sheet.getRow(5)));
+    assertEquals(List.of("copy", "*base"), cellTexts(sheet.getRow(7)));
+    assertEquals(List.of("tags", "&tags"), cellTexts(sheet.getRow(8)));
+    assertEquals(List.of("more", "*tags"), cellTexts(sheet.getRow(11)));
+    assertEquals(List.of("name", "&name shared"), cellTexts(sheet.getRow(12)));
+    assertEquals(List.of("again", "*name"), cellTexts(sheet.getRow(13)));
+    assertEquals(List.of("", "-", "*base"), cellTexts(sheet.getRow(15)));
+    assertEquals(List.of("", "-", "&item x"), cellTexts(sheet.getRow(16)));
+    assertEquals(List.of("", "-", "*item"), cellTexts(sheet.getRow(17)));
+    assertEquals(17, sheet.getLastRowNum());
+    workbook.close();
+  }
+
+  @Test
+  void testAliasesAreExpandedByDefault() throws IOException {
+    String anchorYaml = loadYaml("yaml/anchors.yaml");
+    Workbook workbook =
+        YamlWorkbookWriter.builder().build().toWorkbook(new StringReader(anchorYaml));
+    Sheet sheet = workbook.getSheetAt(0);
+
+    assertEquals(List.of("base"), cellTexts(sheet.getRow(1)));
+    assertEquals(List.of("copy"), cellTexts(sheet.getRow(9)));
+    assertEquals(List.of("", "host", "localhost"), cellTexts(sheet.getRow(10)));
+    workbook.close();
+  }
+
+  @Test
+  void testAliasBombStaysProportionalToSource() throws IOException {
+    StringBuilder yaml = new StringBuilder("a: &a [lol, lol, lol, lol, lol, lol, lol, lol, lol]\n");
+    for (char c = 'b'; c <= 'i'; c++) {
+      String alias = "*" + (char) (c - 1);
+      yaml.append(c).append(": &").append(c).append(" [")
+          .append(String.join(", ", Collections.nCopies(9, alias))).append("]\n");
+    }
+
+    // 72 aliases exceed the default budget of 50, like SnakeYAML's
+    assertThrows(YAMLException.class, () -> YamlWorkbookWriter.builder().preserveAnchors(true)
+        .build().toWorkbook(new StringReader(yaml.toString())));
+
+    var limits = ConversionLimits.builder().maxAliasesForCollections(100).build();
+    Workbook workbook = YamlWorkbookWriter.builder().preserveAnchors(true)
+        .conversionLimits(limits).build().toWorkbook(new StringReader(yaml.toString()));
+    assertEquals(90, workbook.getSheetAt(0).getLastRowNum());
+
+    var e = assertThrows(ConversionLimitException.class,
+        () -> YamlWorkbookReader.builder().preserveAnchors(true).build().fromWorkbook(workbook));
+    assertEquals(ConversionLimit.ALIASES, e.getLimit());
+    assertEquals(50, e.getThreshold());
+
+    List<Node> nodes = YamlWorkbookReader.builder().preserveAnchors(true)
+        .conversionLimits(limits).build().fromWorkbook(workbook);
+    SequenceNode i = (SequenceNode) ((MappingNode) nodes.get(0)).getValue().get(8).getValueNode();
+    assertSame(i.getValue().get(0), i.getValue().get(8));
+    workbook.close();
+  }
+
+  @Test
+  void testPathModeRejectsPreservedAnchors() throws IOException {
+    String anchorYaml = loadYaml("yaml/anchors.yaml");
+    var writer = YamlWorkbookWriter.builder()
+        .indentationMode(IndentationMode.PATH)
+        .preserveAnchors(true)
+        .build();
+    assertThrows(IllegalStateException.class,
+        () -> writer.toWorkbook(new StringReader(anchorYaml)));
+  }
+
+  private List<String> cellTexts(Row row) {
+    List<String> values = new ArrayList<>();
+    for (int c = 0; c < row.getLastCellNum(); c++) {
+      values.add(row.getCell(c) == null ? "" : row.getCell(c).getStringCellValue());
+    }
+    return values;
+  }
+
+  // ==================== Embedded Source Tests ====================
+
+  @Test
+  void testManifestIsEmbeddedOnlyWhenEnabled() throws IOException {
+    String sourceYaml = loadYaml("yaml/embedded-source.yaml");
+    Workbook plain = YamlWorkbookWriter.builder().build().toWorkbook(new StringReader(sourceYaml));
+    assertNull(SourceManifest.read(plain));
+    plain.close();
+
+    Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+
+        .toWorkbook(new StringReader(sourceYaml));
+    assertNotNull(SourceManifest.read(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testManifestSurvivesSaving() throws IOException {
+    String sourceYaml = loadYaml("yaml/embedded-source.yaml");
+    Workbook workbook = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader(sourceYaml));
+    var out = new ByteArrayOutputStream();
+    workbook.write(out);
+    workbook.close();
+
+    try (Workbook reopened = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+      YamlWorkbookReader reader = YamlWorkbookReader.builder().useEmbeddedSource(true).build();
+      MappingNode server = (MappingNode) reader.fromWorkbook(reopened).get(0);
+      assertEquals(Tag.INT, server.getValue().get(1).getValueNode().getTag());
+      assertEquals(loadAll(sourceYaml), reader.toObjects(reopened));
+    }
+  }
+
+  private List<Object> loadAll(String yaml) {
+    List<Object> documents = new ArrayList<>();
+    new Yaml().loadAll(yaml).forEach(documents::add);
+    return documents;
+  }
+
+  // ==================== Fingerprint Tests ====================
+
+  @Test
+  void testFingerprintsAreRecordedWithoutSource() throws IOException {
+    String fingerprintedYaml = loadYaml("yaml/fingerprinted.yaml");
+    Workbook workbook = YamlWorkbookWriter.builder().recordFingerprints(true).build()
+        .toWorkbook(new StringReader(fingerprintedYaml));
+    SourceManifest manifest = SourceManifest.read(workbook);
+    assertNotNull(manifest);
+
+    Sheet sheet = workbook.getSheetAt(0);
+    SourceManifest.Entry entry =
+        manifest.getUnchangedEntry(sheet.getRow(3), documentRows(sheet, 3));
+    assertNotNull(entry);
+    assertEquals(1, entry.documentIndex());
+    assertEquals(2, entry.rowCount());
+    assertNull(entry.yaml());
+    workbook.close();
+  }
+
+  private List<Row> documentRows(Sheet sheet, int frontmatterRowNum) {
+    List<Row> rows = new ArrayList<>();
+    for (int i = frontmatterRowNum + 1; i <= sheet.getLastRowNum(); i++) {
+      Row row = sheet.getRow(i);
+      if ("---".equals(row.getCell(0).getStringCellValue())) break;
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  // ==================== Update Row Diff Tests ====================
+
+  @Test
+  void testChangedValueKeepsFormattingOfOtherRows() throws IOException {
+    String updateYaml = loadYaml("yaml/update.yaml");
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().build();
+    Workbook workbook = writer.toWorkbook(new StringReader(updateYaml));
+    Sheet sheet = workbook.getSheetAt(0);
+    CellStyle bold = workbook.createCellStyle();
+    sheet.getRow(1).getCell(0).setCellStyle(bold);
+    sheet.getRow(8).getCell(0).setCellStyle(bold);
+
+    writer.updateWorkbook(workbook, new StringReader(updateYaml.replace("port: 80", "port: 443")));
+
+    assertEquals("443", sheet.getRow(4).getCell(2).getStringCellValue());
+    assertEquals(bold.getIndex(), sheet.getRow(1).getCell(0).getCellStyle().getIndex());
+    assertEquals(bold.getIndex(), sheet.getRow(8).getCell(0).getCellStyle().getIndex());
+    assertEquals(loadAll(updateYaml.replace("port: 80", "port: 443")),
+        YamlWorkbook.toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testInsertedRowsShiftTheSuffix() throws IOException {
+    String updateYaml = loadYaml("yaml/update.yaml");
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().build();
+    Workbook workbook = writer.toWorkbook(new StringReader(updateYaml));
+    Sheet sheet = workbook.getSheetAt(0);
+    CellStyle style = workbook.createCellStyle();
+    sheet.getRow(8).getCell(0).setCellStyle(style);
+
+    String updated = updateYaml.replace("  - b\n", "  - b\n  - c\n  - d\n");
+    writer.updateWorkbook(workbook, new StringReader(updated));
+
+    assertEquals("owner", sheet.getRow(10).getCell(0).getStringCellValue());
+    assertEquals(style.getIndex(), sheet.getRow(10).getCell(0).getCellStyle().getIndex());
+    assertEquals(loadAll(updated), YamlWorkbook.toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testRemovedRowsShiftTheSuffix() throws IOException {
+    String updateYaml = loadYaml("yaml/update.yaml");
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().build();
+    Workbook workbook = writer.toWorkbook(new StringReader(updateYaml));
+
+    String updated = updateYaml.replace("server:\n  host: localhost\n  port: 80\n", "");
+    writer.updateWorkbook(workbook, new StringReader(updated));
+
+    Sheet sheet = workbook.getSheetAt(0);
+    assertEquals(5, sheet.getLastRowNum());
+    assertEquals("owner", sheet.getRow(5).getCell(0).getStringCellValue());
+    assertEquals(loadAll(updated), YamlWorkbook.toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testDistantEditsKeepRowsBetweenThem() throws IOException {
+    String updateYaml = loadYaml("yaml/update.yaml");
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().build();
+    Workbook workbook = writer.toWorkbook(new StringReader(updateYaml));
+    Sheet sheet = workbook.getSheetAt(0);
+    CellStyle style = workbook.createCellStyle();
+    sheet.getRow(3).getCell(1).setCellStyle(style);
+    sheet.getRow(6).getCell(1).setCellStyle(style);
+
+    String updated = updateYaml.replace("name: app", "name: web")
+        .replace("owner: ops", "owner: dev").replace("server:\n", "server:\n  scheme: https\n");
+    writer.updateWorkbook(workbook, new StringReader(updated));
+
+    assertEquals("localhost", sheet.getRow(4).getCell(2).getStringCellValue());
+    assertEquals(style.getIndex(), sheet.getRow(4).getCell(1).getCellStyle().getIndex());
+    assertEquals("a", sheet.getRow(7).getCell(2).getStringCellValue());
+    assertEquals(style.getIndex(), sheet.getRow(7).getCell(1).getCellStyle().getIndex());
+    assertEquals(loadAll(updated), YamlWorkbook.toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testChangedDocumentsAreUpdatedSeparately() throws IOException {
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().build();
+    String yaml = "a: 1\n---\nb: 2\n---\nc: 3\n";
+    Workbook workbook = writer.toWorkbook(new StringReader(yaml));
+    Sheet sheet = workbook.getSheetAt(0);
+    CellStyle style = workbook.createCellStyle();
+    sheet.getRow(3).getCell(0).setCellStyle(style);
+
+    String updated = "a: 1\nx: 0\n---\nb: 2\n";
+    writer.updateWorkbook(workbook, new StringReader(updated));
+
+    assertEquals("b", sheet.getRow(4).getCell(0).getStringCellValue());
+    assertEquals(style.getIndex(), sheet.getRow(4).getCell(0).getCellStyle().getIndex());
+    assertEquals(loadAll(updated), YamlWorkbook.toObjects(workbook));
+    workbook.close();
+  }
+
+  // ==================== Update Sheet Tests ====================
+
+  @Test
+  void testUnneededGeneratedSheetsAreRemoved() throws IOException {
+    YamlWorkbookWriter writer =
+        YamlWorkbookWriter.builder().nodeToSheetMapper((node, index) -> index).build();
+    Workbook workbook = writer.toWorkbook(new StringReader("a: 1\n---\nb: 2\n"));
+    workbook.createSheet("Notes").createRow(0).createCell(0).setCellValue("keep me");
+    // Enum dropdown options of FORM_MODE live on hidden sheets named after their visible sheet
+    workbook.createSheet("Sheet2Hidden");
+
+    writer.updateWorkbook(workbook, new StringReader("a: 2\n"));
+
+    assertNull(workbook.getSheet("Sheet2"));
+    assertNull(workbook.getSheet("Sheet2Hidden"));
+    assertNotNull(workbook.getSheet("Notes"));
+    assertEquals(loadAll("a: 2\n"), YamlWorkbook.toObjects(workbook));
+
+    writer.updateWorkbook(workbook, new StringReader("a: 2\n---\nc: 3\n"));
+    assertEquals(1, workbook.getSheetIndex("Sheet2"));
+    assertEquals(loadAll("a: 2\n---\nc: 3\n"), YamlWorkbook.toObjects(workbook));
+    workbook.close();
+  }
+
+  @Test
+  void testEmbeddedSourceIsRefreshed() throws IOException {
+    String updateYaml = loadYaml("yaml/update.yaml");
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().embedSource(true).build();
+    Workbook workbook = writer.toWorkbook(new StringReader(updateYaml));
+
+    String updated = updateYaml.replace("port: 80", "port: 8080 # alt");
+    writer.updateWorkbook(workbook, new StringReader(updated));
+
+    List<Node> nodes =
+        YamlWorkbookReader.builder().useEmbeddedSource(true).build().fromWorkbook(workbook);
+    MappingNode server = (MappingNode) ((MappingNode) nodes.get(0)).getValue().get(1)
+        .getValueNode();
+    ScalarNode port = (ScalarNode) server.getValue().get(1).getValueNode();
+    assertEquals(Tag.INT, port.getTag());
+    assertEquals("8080", port.getValue());
+
+    YamlWorkbookWriter.builder().build().updateWorkbook(workbook, new StringReader(updated));
+    assertNull(SourceManifest.read(workbook));
+    workbook.close();
+  }
+
+  // ==================== Required Field Style Tests ====================
+
+  @Test
+  void testRequiredFieldsAreHighlighted() throws IOException {
+    String requiredSchema = loadJsonSchema("schema/required-fields.json");
+    try (Workbook workbook = styledFormWorkbook(requiredSchema, true)) {
+      Sheet sheet = workbook.getSheetAt(0);
+
+      assertTrue(isBold(workbook, sheet.getRow(1).getCell(0).getCellStyle()));
+      assertEquals(FillPatternType.SOLID_FOREGROUND,
+          sheet.getRow(1).getCell(1).getCellStyle().getFillPattern());
+      assertFalse(isBold(workbook, sheet.getRow(2).getCell(0).getCellStyle()));
+      assertEquals(FillPatternType.NO_FILL,
+          sheet.getRow(2).getCell(1).getCellStyle().getFillPattern());
+    }
+  }
+
+  @Test
+  void testNestedRequiredFieldsAreHighlighted() throws IOException {
+    String requiredSchema = loadJsonSchema("schema/required-fields.json");
+    try (Workbook workbook = styledFormWorkbook(requiredSchema, true)) {
+      Sheet sheet = workbook.getSheetAt(0);
+
+      assertEquals("street", sheet.getRow(4).getCell(1).getStringCellValue());
+      assertFalse(isBold(workbook, sheet.getRow(4).getCell(1).getCellStyle()));
+      assertEquals("city", sheet.getRow(5).getCell(1).getStringCellValue());
+      assertTrue(isBold(workbook, sheet.getRow(5).getCell(1).getCellStyle()));
+    }
+  }
+
+  @Test
+  void testStylesAreSharedAcrossCells() throws IOException {
+    var properties = new StringBuilder();
+    var required = new StringBuilder();
+    for (int i = 0; i < 500; i++) {
+      String separator = i == 0 ? "" : ",";
+      properties.append(separator).append("\"f").append(i).append("\":{\"type\":\"string\"}");
+      required.append(separator).append("\"f").append(i).append('"');
+    }
+    String schema = "{\"type\":\"object\",\"required\":[" + required + "],\"properties\":{"
+        + properties + "}}";
+
+    try (Workbook plain = styledFormWorkbook(schema, false);
+        Workbook highlighted = styledFormWorkbook(schema, true)) {
+      assertEquals(plain.getNumCellStyles() + 2, highlighted.getNumCellStyles());
+    }
+  }
+
+  @Test
+  void testHighlightedFormsReadBack() throws IOException {
+    String requiredSchema = loadJsonSchema("schema/required-fields.json");
+    try (Workbook workbook = styledFormWorkbook(requiredSchema, true)) {
+      workbook.getSheetAt(0).getRow(1).getCell(1).setCellValue("Alice");
+      Map<?, ?> form = (Map<?, ?>) YamlWorkbookReader.builder().outputMode(OutputMode.FORM_MODE)
+          .build().toObjects(workbook).get(0);
+      assertEquals("Alice", form.get("name"));
+    }
+  }
+
+  @Test
+  void testHighlightingIsDisabledByDefault() throws IOException {
+    String requiredSchema = loadJsonSchema("schema/required-fields.json");
+    try (Workbook workbook = styledFormWorkbook(requiredSchema, false)) {
+      assertFalse(isBold(workbook, workbook.getSheetAt(0).getRow(1).getCell(0).getCellStyle()));
+    }
+  }
+
+  // ==================== Comment Style Tests ====================
+
+  @Test
+  void testCommentCellsAreStyled() throws IOException {
+    String yaml = """
+        # Settings
+        name: app # inline
+        """;
+    try (Workbook workbook = YamlWorkbookWriter.builder().styleComments(true).build()
+        .toWorkbook(new StringReader(yaml))) {
+      Sheet sheet = workbook.getSheetAt(0);
+      CellStyle comment = sheet.getRow(1).getCell(0).getCellStyle();
+      assertTrue(workbook.getFontAt(comment.getFontIndex()).getItalic());
+      assertEquals(comment.getIndex(), sheet.getRow(2).getCell(2).getCellStyle().getIndex());
+      assertFalse(workbook.getFontAt(sheet.getRow(2).getCell(0).getCellStyle().getFontIndex())
+          .getItalic());
+
+      assertEquals(List.of(Map.of("name", "app")),
+          YamlWorkbookReader.builder().build().toObjects(workbook));
+    }
+  }
+
+  @Test
+  void testUpdatedCommentCellsAreStyled() throws IOException {
+    YamlWorkbookWriter writer = YamlWorkbookWriter.builder().styleComments(true).build();
+    try (Workbook workbook = writer.toWorkbook(new StringReader("a: 1\nb: 2\n"));
+        Workbook rendered = writer.toWorkbook(new StringReader("a: 1\n# note\nb: 2\n"))) {
+      int styles = workbook.getNumCellStyles();
+      Sheet sheet = workbook.getSheetAt(0);
+
+      writer.updateWorkbook(workbook, new StringReader("a: 1\n# note\nb: 2\n"));
+      CellStyle comment = sheet.getRow(2).getCell(0).getCellStyle();
+      assertTrue(workbook.getFontAt(comment.getFontIndex()).getItalic());
+      assertEquals(rendered.getSheetAt(0).getRow(2).getCell(0).getCellStyle().getIndex(),
+          comment.getIndex());
+
+      // A row turning from a comment into an entry drops the comment style
+      writer.updateWorkbook(workbook, new StringReader("a: 1\nc: 3\nb: 2\n"));
+      assertEquals("c", sheet.getRow(2).getCell(0).getStringCellValue());
+      assertFalse(workbook.getFontAt(sheet.getRow(2).getCell(0).getCellStyle().getFontIndex())
+          .getItalic());
+      assertEquals(styles + 1, workbook.getNumCellStyles());
+    }
+  }
+
+  private Workbook styledFormWorkbook(String schema, boolean highlightRequired) {
+    return YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .formModeConfig(FormModeConfig.builder().highlightRequired(highlightRequired).build())
+        .jsonSchema(schema)
+        .build()
+        .toWorkbook();
+  }
+
+  private boolean isBold(Workbook workbook, CellStyle style) {
+    return workbook.getFontAt(style.getFontIndex()).getBold();
+  }
+
+  // ==================== Form Array Item Tests ====================
+
+  @Test
+  void testBlankItemBlocksAreRendered() throws IOException {
+    try (Workbook workbook = arrayFormWorkbook(4)) {
+      Sheet sheet = workbook.getSheetAt(0);
+
+      // maxItems caps the three object blocks; the unbounded tags array gets four rows
+      for (int row : new int[] {3, 6, 9}) {
+        assertEquals("-", sheet.getRow(row).getCell(1).getStringCellValue());
+        assertEquals("SKU", sheet.getRow(row + 1).getCell(2).getStringCellValue());
+        assertEquals("sku", sheet.getRow(row + 1).getCell(2).getCellComment().getString()
+            .getString());
+        assertEquals("color", sheet.getRow(row + 2).getCell(2).getStringCellValue());
+      }
+      assertEquals("tags", sheet.getRow(12).getCell(0).getStringCellValue());
+      assertEquals(16, sheet.getLastRowNum());
+    }
+  }
+
+  @Test
+  void testCopiesShareOneValidationPerColumn() throws IOException {
+    try (Workbook workbook = arrayFormWorkbook(4)) {
+      List<? extends DataValidation> validations =
+          workbook.getSheetAt(0).getDataValidations();
+
+      assertEquals(2, validations.size());
+      assertEquals(List.of("D6", "D9", "D12"), regions(validations, "D"));
+      assertEquals(List.of("C14:C17"), regions(validations, "C"));
+    }
+  }
+
+  @Test
+  void testSingleItemByDefault() throws IOException {
+    try (Workbook workbook = arrayFormWorkbook(1)) {
+      Sheet sheet = workbook.getSheetAt(0);
+      assertEquals("tags", sheet.getRow(6).getCell(0).getStringCellValue());
+      assertEquals(7, sheet.getLastRowNum());
+    }
+  }
+
+  private Workbook arrayFormWorkbook(int arrayItemCount) throws IOException {
+    String arraySchema = loadJsonSchema("schema/array-items-form.json");
+    return YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .formModeConfig(FormModeConfig.builder().arrayItemCount(arrayItemCount).build())
+        .jsonSchema(arraySchema)
+        .build()
+        .toWorkbook();
+  }
+
+  private List<String> regions(List<? extends DataValidation> validations, String column) {
+    return validations.stream()
+        .flatMap(v -> Arrays.stream(v.getRegions().getCellRangeAddresses()))
+        .map(CellRangeAddress::formatAsString)
+        .filter(region -> region.startsWith(column))
+        .toList();
+  }
+
+  // ==================== Async Conversion Tests ====================
+
+  @Test
+  void testToWorkbookAsync() throws Exception {
+    try (Workbook workbook = YamlWorkbook.toWorkbookAsync("name: app\n", "port: 80\n")
+        .get(10, TimeUnit.SECONDS)) {
+      assertEquals(List.of(Map.of("name", "app"), Map.of("port", 80)),
+          YamlWorkbook.toObjects(workbook));
+    }
+  }
+
+  @Test
+  void testConfiguredExecutorIsUsed() throws Exception {
+    var executions = new AtomicInteger();
+    Executor executor = task -> {
+      executions.incrementAndGet();
+      task.run();
+    };
+
+    try (Workbook workbook = YamlWorkbookWriter.builder().executor(executor).build()
+        .toWorkbookAsync(new StringReader("a: 1\n")).get(10, TimeUnit.SECONDS)) {
+      assertEquals(1, executions.get());
+      assertEquals(List.of(Map.of("a", 1)), YamlWorkbook.toObjects(workbook));
+    }
+  }
+
+  @Test
+  void testFormWorkbookAsync() throws Exception {
+    try (Workbook workbook = YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema("{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}")
+        .build()
+        .toWorkbookAsync()
+        .get(10, TimeUnit.SECONDS)) {
+      assertEquals("name", workbook.getSheetAt(0).getRow(1).getCell(0).getStringCellValue());
+    }
+  }
+
+  @Test
+  void testFailuresCompleteExceptionally() {
+    CompletableFuture<Workbook> future = YamlWorkbookWriter.builder().build().toWorkbookAsync();
+    var e = assertThrows(Exception.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+  }
+
+  // ==================== Async Cancellation Tests ====================
+
+  @Test
+  void testCancellationStopsTraversal() throws Exception {
+    var started = new CountDownLatch(1);
+    var proceed = new AtomicBoolean();
+    var completed = new AtomicBoolean();
+    var worker = new AtomicReference<Thread>();
+    Executor executor = task -> {
+      var thread = new Thread(task);
+      worker.set(thread);
+      thread.start();
+    };
+    var yaml = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      yaml.append("key").append(i).append(": value\n");
+    }
+    // Blocks the conversion until the test has cancelled it, ignoring interrupts
+    Reader content = new StringReader(yaml.toString()) {
+      @Override
+      public int read(char[] buffer, int offset, int length) throws IOException {
+        started.countDown();
+        while (!proceed.get()) {
+          Thread.onSpinWait();
+        }
+        return super.read(buffer, offset, length);
+      }
+    };
+
+    CompletableFuture<Workbook> future = YamlWorkbookWriter.builder()
+        .executor(executor)
+        .conversionListener(new ConversionListener() {
+          @Override
+          public void conversionCompleted(ConversionStats stats) {
+            completed.set(true);
+          }
+        })
+        .build()
+        .toWorkbookAsync(content);
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    assertTrue(future.cancel(true));
+    proceed.set(true);
+
+    worker.get().join(10_000);
+    assertFalse(worker.get().isAlive());
+    assertFalse(completed.get());
+    assertThrows(CancellationException.class, future::join);
+  }
+
+  @Test
+  void testInterruptedThreadAbortsBlockingConversion() {
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(CancellationException.class,
+          () -> YamlWorkbook.toWorkbook("name: app\n"));
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  // ==================== Flow Subscriber Tests ====================
+
+  @Test
+  void testTextSubscriberWritesDocumentsAsTheyArrive() throws Exception {
+    WorkbookSubscriber<String> subscriber =
+        YamlWorkbookWriter.builder().subscriberBufferSize(2).build().toWorkbookTextSubscriber();
+    try (var publisher = new SubmissionPublisher<String>()) {
+      publisher.subscribe(subscriber);
+      for (int i = 0; i < 50; i++) {
+        publisher.submit("n: " + i + "\n");
+      }
+    }
+
+    try (Workbook workbook = subscriber.getWorkbook().get(10, TimeUnit.SECONDS)) {
+      List<Object> documents = YamlWorkbook.toObjects(workbook);
+      assertEquals(50, documents.size());
+      assertEquals(Map.of("n", 49), documents.get(49));
+    }
+  }
+
+  @Test
+  void testSubscriberRequestsAtMostItsBuffer() throws Exception {
+    var requested = new AtomicInteger();
+    var subscriber = YamlWorkbookWriter.builder().subscriberBufferSize(3).build()
+        .toWorkbookSubscriber();
+    List<Node> nodes = new ArrayList<>();
+    new Yaml().composeAll(new StringReader("a: 1\n---\nb: 2\n")).forEach(nodes::add);
+
+    subscriber.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(long n) {
+        requested.addAndGet((int) n);
+      }
+
+      @Override
+      public void cancel() {}
+    });
+    assertEquals(3, requested.get());
+    nodes.forEach(subscriber::onNext);
+    subscriber.onComplete();
+
+    try (Workbook workbook = subscriber.getWorkbook().get(10, TimeUnit.SECONDS)) {
+      assertEquals(List.of(Map.of("a", 1), Map.of("b", 2)), YamlWorkbook.toObjects(workbook));
+      assertEquals(5, requested.get());
+    }
+  }
+
+  @Test
+  void testPublisherErrorFailsWorkbook() throws Exception {
+    WorkbookSubscriber<String> subscriber =
+        YamlWorkbookWriter.builder().build().toWorkbookTextSubscriber();
+    try (var publisher = new SubmissionPublisher<String>()) {
+      publisher.subscribe(subscriber);
+      publisher.submit("a: 1\n");
+      publisher.closeExceptionally(new IllegalArgumentException("upstream"));
+    }
+
+    var e = assertThrows(Exception.class, () -> subscriber.getWorkbook().get(10, TimeUnit.SECONDS));
+    assertEquals("upstream", e.getCause().getMessage());
+  }
+
+  // ==================== Pipelined Output Tests ====================
+
+  @Test
+  void testPipelinedOutputMatchesSequential() throws IOException {
+    String pipelinedYaml = loadYaml("yaml/pipelined.yaml");
+    assertSameCells(pipelinedYaml, YamlWorkbookWriter.builder(), YamlWorkbookWriter.builder());
+  }
+
+  @Test
+  void testLargeSingleDocument() throws IOException {
+    var yaml = new StringBuilder("root:\n");
+    for (int i = 0; i < 5_000; i++) {
+      yaml.append("  key").append(i).append(":\n    value: ").append(i)
+          .append("\n    list: [a, b]\n");
+    }
+    assertSameCells(yaml.toString(), YamlWorkbookWriter.builder(), YamlWorkbookWriter.builder());
+  }
+
+  @Test
+  void testEmbeddedSourceAndAnchors() throws IOException {
+    String pipelinedYaml = loadYaml("yaml/pipelined.yaml");
+    assertSameCells(pipelinedYaml,
+        YamlWorkbookWriter.builder().embedSource(true).preserveAnchors(true),
+        YamlWorkbookWriter.builder().embedSource(true).preserveAnchors(true));
+
+    try (Workbook expected = YamlWorkbookWriter.builder().embedSource(true).build()
+        .toWorkbook(new StringReader(pipelinedYaml));
+        Workbook actual = YamlWorkbookWriter.builder().pipelined(true).embedSource(true).build()
+            .toWorkbook(new StringReader(pipelinedYaml))) {
+      assertEquals(YamlWorkbook.toYaml(expected), YamlWorkbook.toYaml(actual));
+    }
+  }
+
+  @Test
+  void testMultipleReaders() throws IOException {
+    try (Workbook workbook = YamlWorkbookWriter.builder().pipelined(true).build()
+        .toWorkbook(new StringReader("a: 1\n"), new StringReader("b: 2\n---\nc: 3\n"))) {
+      assertEquals(List.of(Map.of("a", 1), Map.of("b", 2), Map.of("c", 3)),
+          YamlWorkbook.toObjects(workbook));
+    }
+  }
+
+  @Test
+  void testSingleThreadExecutorDoesNotDeadlock() throws Exception {
+    String pipelinedYaml = loadYaml("yaml/pipelined.yaml");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      var future = YamlWorkbookWriter.builder().pipelined(true).executor(executor).build()
+          .toWorkbookAsync(new StringReader(pipelinedYaml));
+      try (Workbook workbook = future.get(10, TimeUnit.SECONDS)) {
+        assertEquals(2, YamlWorkbook.toObjects(workbook).size());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  // ==================== Pipelined Failure Tests ====================
+
+  @Test
+  void testSyntaxErrorsSurfaceOnTheWriterThread() {
+    var writer = YamlWorkbookWriter.builder().pipelined(true).build();
+    assertThrows(YAMLException.class,
+        () -> writer.toWorkbook(new StringReader("a: 1\nb: [unclosed\n")));
+  }
+
+  private void assertSameCells(String yaml, YamlWorkbookWriter.YamlWorkbookWriterBuilder sequential,
+      YamlWorkbookWriter.YamlWorkbookWriterBuilder pipelined) throws IOException {
+    try (Workbook expected = sequential.build().toWorkbook(new StringReader(yaml));
+        Workbook actual = pipelined.pipelined(true).build().toWorkbook(new StringReader(yaml))) {
+      assertEquals(expected.getNumberOfSheets(), actual.getNumberOfSheets());
+      for (int i = 0; i < expected.getNumberOfSheets(); i++) {
+        assertEquals(sheetCells(expected.getSheetAt(i)), sheetCells(actual.getSheetAt(i)));
+      }
+    }
+  }
+
+  private List<String> sheetCells(Sheet sheet) {
+    List<String> cells = new ArrayList<>();
+    for (Row row : sheet) {
+      for (Cell cell : row) {
+        cells.add(cell.getAddress() + "=" + cell);
+      }
+    }
+    return cells;
+  }
+
+  // ==================== Conversion Limit Tests ====================
+
+  @Test
+  void testWriterMaxRows() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    var e = assertThrows(ConversionLimitException.class,
+        () -> YamlWorkbookWriter.builder()
+            .conversionLimits(ConversionLimits.builder().maxRows(5).build())
+            .build()
+            .toWorkbook(new StringReader(flatYaml)));
+    assertEquals(ConversionLimit.ROWS, e.getLimit());
+    assertEquals(5, e.getThreshold());
+    assertEquals("Sheet1!A6", e.getLocation());
+    assertEquals(0, e.getDocumentIndex());
+    assertEquals("Conversion exceeded ROWS limit of 5 at Sheet1!A6 (document 0)", e.getMessage());
+  }
+
+  @Test
+  void testWriterMaxCellsReportsCompletedRow() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    // The frontmatter row holds 1 cell and each entry row 2 cells
+    var e = assertThrows(ConversionLimitException.class,
+        () -> YamlWorkbookWriter.builder()
+            .conversionLimits(ConversionLimits.builder().maxCells(6).build())
+            .build()
+            .toWorkbook(new StringReader(flatYaml)));
+    assertEquals(ConversionLimit.CELLS, e.getLimit());
+    assertEquals("Sheet1!A4", e.getLocation());
+  }
+
+  @Test
+  void testWriterMaxDepth() throws IOException {
+    String deepYaml = loadYaml("yaml/deep.yaml");
+    var e = assertThrows(ConversionLimitException.class,
+        () -> YamlWorkbookWriter.builder()
+            .conversionLimits(ConversionLimits.builder().maxDepth(1).build())
+            .build()
+            .toWorkbook(new StringReader(deepYaml)));
+    assertEquals(ConversionLimit.DEPTH, e.getLimit());
+
+    try (Workbook workbook = YamlWorkbookWriter.builder()
+        .conversionLimits(ConversionLimits.builder().maxDepth(2).build())
+        .build()
+        .toWorkbook(new StringReader(deepYaml))) {
+      assertEquals(List.of(Map.of("a", Map.of("b", Map.of("c", 1)))),
+          YamlWorkbook.toObjects(workbook));
+    }
+  }
+
+  @Test
+  void testWriterMaxDepthInPathMode() throws IOException {
+    String deepYaml = loadYaml("yaml/deep.yaml");
+    var e = assertThrows(ConversionLimitException.class,
+        () -> YamlWorkbookWriter.builder()
+            .indentationMode(IndentationMode.PATH)
+            .conversionLimits(ConversionLimits.builder().maxDepth(1).build())
+            .build()
+            .toWorkbook(new StringReader(deepYaml)));
+    assertEquals(ConversionLimit.DEPTH, e.getLimit());
+  }
+
+  @Test
+  void testWriterMaxScalarLength() {
+    String yaml = "a: " + "x".repeat(100) + "\n";
+    var e = assertThrows(ConversionLimitException.class,
+        () -> YamlWorkbookWriter.builder()
+            .conversionLimits(ConversionLimits.builder().maxScalarLength(50).build())
+            .build()
+            .toWorkbook(new StringReader(yaml)));
+    assertEquals(ConversionLimit.SCALAR_LENGTH, e.getLimit());
+    assertEquals(50, e.getThreshold());
+  }
+
+  @Test
+  void testWriterMaxComments() {
+    String yaml = """
+        # one
+        # two
+        a: 1 # three
+        """;
+    var e = assertThrows(ConversionLimitException.class,
+        () -> YamlWorkbookWriter.builder()
+            .conversionLimits(ConversionLimits.builder().maxComments(2).build())
+            .build()
+            .toWorkbook(new StringReader(yaml)));
+    assertEquals(ConversionLimit.COMMENTS, e.getLimit());
+  }
+
+  @Test
+  void testWriterMaxDocuments() {
+    String yaml = "a: 1\n---\nb: 2\n---\nc: 3\n";
+    var e = assertThrows(ConversionLimitException.class,
+        () -> YamlWorkbookWriter.builder()
+            .conversionLimits(ConversionLimits.builder().maxDocuments(2).build())
+            .build()
+            .toWorkbook(new StringReader(yaml)));
+    assertEquals(ConversionLimit.DOCUMENTS, e.getLimit());
+    assertEquals(2, e.getDocumentIndex());
+  }
+
+  @Test
+  void testWriterLimitsApplyPerConversion() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    var writer = YamlWorkbookWriter.builder()
+        .conversionLimits(ConversionLimits.builder().maxRows(9).build())
+        .build();
+    for (int i = 0; i < 2; i++) {
+      try (Workbook workbook = writer.toWorkbook(new StringReader(flatYaml))) {
+        assertEquals(9, workbook.getSheetAt(0).getPhysicalNumberOfRows());
+      }
+    }
+  }
+
+  @Test
+  void testWriterCancellationToken() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    var token = new CancellationToken();
+    var writer = YamlWorkbookWriter.builder().cancellationToken(token).build();
+    token.cancel();
+    assertTrue(token.isCancelled());
+    assertThrows(CancellationException.class,
+        () -> writer.toWorkbook(new StringReader(flatYaml)));
+  }
+
+  @Test
+  void testFormModeLimitIsNotWrapped() {
+    String schema = """
+        {"type": "object", "properties": {"name": {"type": "string"}, "age": {"type": "integer"}}}
+        """;
+    var e = assertThrows(ConversionLimitException.class, () -> YamlWorkbookWriter.builder()
+        .outputMode(OutputMode.FORM_MODE)
+        .jsonSchema(schema)
+        .conversionLimits(ConversionLimits.builder().maxRows(2).build())
+        .build()
+        .toWorkbook());
+    assertEquals(ConversionLimit.ROWS, e.getLimit());
+  }
+
+  @Test
+  void testAsyncConversionFailsWithLimit() throws IOException {
+    String flatYaml = loadYaml("yaml/flat.yaml");
+    var future = YamlWorkbookWriter.builder()
+        .conversionLimits(ConversionLimits.builder().maxRows(3).build())
+        .build()
+        .toWorkbookAsync(new StringReader(flatYaml));
+    var e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertInstanceOf(ConversionLimitException.class, e.getCause());
+  }
+
 }